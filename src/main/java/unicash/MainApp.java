@@ -2,10 +2,14 @@ package unicash;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.text.Font;
 import javafx.stage.Stage;
 import unicash.commons.core.Config;
@@ -13,17 +17,21 @@ import unicash.commons.core.LogsCenter;
 import unicash.commons.core.Version;
 import unicash.commons.exceptions.DataLoadingException;
 import unicash.commons.util.ConfigUtil;
+import unicash.commons.util.InterningPool;
 import unicash.commons.util.StringUtil;
 import unicash.logic.Logic;
 import unicash.logic.LogicManager;
+import unicash.logic.UniCashMessages;
 import unicash.model.Model;
 import unicash.model.ModelManager;
-import unicash.model.ReadOnlyUniCash;
 import unicash.model.ReadOnlyUserPrefs;
 import unicash.model.UniCash;
 import unicash.model.UserPrefs;
+import unicash.model.transaction.Transaction;
 import unicash.model.util.SampleDataUtil;
-import unicash.storage.JsonUniCashStorage;
+import unicash.storage.BinaryUniCashStorage;
+import unicash.storage.IncrementalUniCashLoad;
+import unicash.storage.JournaledUniCashStorage;
 import unicash.storage.JsonUserPrefsStorage;
 import unicash.storage.Storage;
 import unicash.storage.StorageManager;
@@ -39,6 +47,11 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 3, 0, true);
 
+    /** The number of newest transactions loaded before the main window is shown. */
+    public static final int INITIAL_LOAD_SIZE = 1000;
+
+    private static final String HISTORY_LOAD_FAILED_TITLE = "Older transactions could not be loaded";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -49,6 +62,10 @@ public class MainApp extends Application {
 
     private final Path customStoragePath;
 
+    private IncrementalUniCashLoad historyLoad;
+    private CompletableFuture<List<Transaction>> loadedHistory;
+    private long uniCashVersionBeforeHistory;
+
     public MainApp(Path customStoragePath) {
         this.customStoragePath = customStoragePath;
     }
@@ -71,8 +88,9 @@ public class MainApp extends Application {
         if (customStoragePath != null) {
             userPrefs.setUniCashFilePath(customStoragePath);
         }
-        UniCashStorage uniCashStorage = new JsonUniCashStorage(userPrefs.getUniCashFilePath());
-        storage = new StorageManager(uniCashStorage, userPrefsStorage);
+        Path uniCashFilePath = userPrefs.getUniCashFilePath();
+        storage = new StorageManager(createUniCashStorage(uniCashFilePath, userPrefs.getMaxTransactions()),
+                userPrefsStorage, true);
 
         model = initModelManager(storage, userPrefs);
 
@@ -81,30 +99,136 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code UniCashStorage} for the format given by the extension of {@code uniCashFilePath},
+     * which reads data of up to {@code maxTransactions} transactions.
+     */
+    private UniCashStorage createUniCashStorage(Path uniCashFilePath, int maxTransactions) {
+        logger.info("Maximum number of transactions will be set as: " + maxTransactions);
+        if (BinaryUniCashStorage.isBinaryFile(uniCashFilePath)) {
+            return new BinaryUniCashStorage(uniCashFilePath, maxTransactions);
+        }
+        return new JournaledUniCashStorage(uniCashFilePath,
+                JournaledUniCashStorage.DEFAULT_COMPACTION_THRESHOLD, maxTransactions);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s UniCash and {@code userPrefs}. <br>
      * The data from the sample UniCash will be used instead if {@code storage}'s UniCash is not found,
      * or an empty UniCash will be used instead if errors occur when reading {@code storage}'s UniCash.
+     * Only the newest {@value #INITIAL_LOAD_SIZE} transactions are in the model at first,
+     * the older history is loaded by {@link #loadHistoryInBackground()}.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getUniCashFilePath());
 
-        Optional<ReadOnlyUniCash> uniCashOptional;
-        ReadOnlyUniCash initialData;
+        Optional<IncrementalUniCashLoad> uniCashOptional;
+        IncrementalUniCashLoad initialData;
         try {
-            uniCashOptional = storage.readUniCash();
+            uniCashOptional = storage.readUniCashIncrementally(INITIAL_LOAD_SIZE);
             if (uniCashOptional.isEmpty()) {
                 logger.info("Creating a new data file " + storage.getUniCashFilePath()
                         + " populated with a sample UniCash.");
             }
-            initialData = uniCashOptional.orElseGet(SampleDataUtil::getSampleUniCash);
+            initialData = uniCashOptional.orElseGet(() ->
+                    IncrementalUniCashLoad.ofLoaded(SampleDataUtil.getSampleUniCash()));
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getUniCashFilePath() + " could not be loaded."
                     + " Will be starting with an empty UniCash.");
-            initialData = new UniCash();
+            initialData = IncrementalUniCashLoad.ofLoaded(new UniCash());
         }
 
-        return new ModelManager(initialData, userPrefs);
+        logger.info(InterningPool.getStatistics());
+        Model initialModel = new ModelManager(initialData.getNewestUniCash(), userPrefs);
+        initialModel.startHistoryLoad(initialData.getHistorySize());
+        historyLoad = initialData;
+        uniCashVersionBeforeHistory = initialModel.getUniCashVersion();
+        return initialModel;
+    }
+
+    /**
+     * Loads the transactions older than the ones initially in the model on a background thread,
+     * and adds them to the model on the JavaFX application thread once they are all loaded.
+     * If the history cannot be loaded, the newest transactions are kept and the user is warned that
+     * changes will not be saved, so that the data file keeps the older transactions.
+     */
+    private void loadHistoryInBackground() {
+        int historySize = historyLoad.getHistorySize();
+        if (historySize == 0) {
+            return;
+        }
+
+        logger.info("Loading " + historySize + " older transactions in the background");
+        loadedHistory = new CompletableFuture<>();
+        Thread loader = new Thread(() -> {
+            try {
+                loadedHistory.complete(historyLoad.loadHistory(loadedCount ->
+                        Platform.runLater(() -> model.setHistoryLoadProgress(loadedCount))));
+            } catch (DataLoadingException | RuntimeException e) {
+                loadedHistory.completeExceptionally(e);
+            }
+        }, "UniCash-history-loader");
+        loader.setDaemon(true);
+        loader.start();
+
+        loadedHistory.whenComplete((history, failure) -> Platform.runLater(() -> {
+            addHistory(history, failure);
+            if (failure != null && model.hasHistoryLoadFailed()) {
+                ui.showWarning(HISTORY_LOAD_FAILED_TITLE, UniCashMessages.MESSAGE_HISTORY_LOAD_FAILED);
+            }
+        }));
+    }
+
+    private void addHistory(List<Transaction> history, Throwable failure) {
+        if (!model.isHistoryLoading()) {
+            // Already added while stopping, or discarded as the UniCash data was replaced
+            return;
+        }
+        if (failure != null) {
+            logger.warning("Older transactions in " + storage.getUniCashFilePath() + " could not be loaded: "
+                    + failure.getMessage() + ". Keeping the newest transactions, without saving any changes.");
+            model.failHistoryLoad();
+            return;
+        }
+
+        model.addHistory(history);
+        logger.info("Loaded " + history.size() + " older transactions");
+        logger.info(InterningPool.getStatistics());
+    }
+
+    /**
+     * Waits for the older transactions still being loaded, and saves UniCash if it was modified
+     * during the load, as saves are deferred until the load is complete.
+     */
+    private void completeHistoryLoad() throws IOException {
+        if (!model.isHistoryLoading()) {
+            return;
+        }
+
+        boolean isModified = model.getUniCashVersion() != uniCashVersionBeforeHistory;
+        try {
+            addHistory(loadedHistory.join(), null);
+        } catch (CompletionException e) {
+            addHistory(null, e.getCause());
+            return;
+        }
+        if (isModified) {
+            storage.saveUniCash(model.getUniCash());
+        }
+    }
+
+    /**
+     * Waits for the UniCash data to be written, and saves it once more if an earlier background save failed,
+     * as the saves after a failed one may not cover all the changes before it.
+     */
+    private void flushUniCash() throws IOException {
+        try {
+            storage.flushUniCash();
+        } catch (IOException e) {
+            logger.warning("An earlier save failed, saving again: " + e.getMessage());
+            storage.saveUniCash(model.getUniCash());
+            storage.flushUniCash();
+        }
     }
 
     private void initLogging(Config config) {
@@ -190,11 +314,18 @@ public class MainApp extends Application {
         Font.loadFont(getClass().getResourceAsStream("/fonts/Inter-Bold.ttf"), 12);
         Font.loadFont(getClass().getResourceAsStream("/fonts/Inter-SemiBold.ttf"), 12);
         ui.start(primaryStage);
+        loadHistoryInBackground();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping UniCa$h ] =============================");
+        try {
+            completeHistoryLoad();
+            flushUniCash();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -3,6 +3,7 @@ package unicash.commons.enums;
 import static unicash.logic.parser.CliSyntax.PREFIX_AMOUNT;
 import static unicash.logic.parser.CliSyntax.PREFIX_CATEGORY;
 import static unicash.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static unicash.logic.parser.CliSyntax.PREFIX_EXPLAIN;
 import static unicash.logic.parser.CliSyntax.PREFIX_INTERVAL;
 import static unicash.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static unicash.logic.parser.CliSyntax.PREFIX_MONTH;
@@ -216,10 +217,17 @@ public enum CommandType {
                                     + "(case-insensitive) and displays them as a list with index numbers. "
                                     + "\n\nOnly one keyword can be specified for each property and at least "
                                     + "one keyword must be provided in total. "
+                                    + "Amounts and date times can also be given as a range START..END, "
+                                    + "where either the START or the END can be left out. "
+                                    + "Add explain/ to also show the order in which the keywords are checked. "
                     )
                     .addParameter(PREFIX_NAME, "Name", true, false)
                     .addParameter(PREFIX_LOCATION, "Location", true, false)
                     .addParameter(PREFIX_CATEGORY, "Category", true, false)
+                    .addParameter(PREFIX_AMOUNT, "Amount", true, false)
+                    .addParameter(PREFIX_DATETIME, "DateTime", true, false)
+                    .addParameter(PREFIX_TYPE, "Type", true, false)
+                    .addParameter(PREFIX_EXPLAIN, "", true, false)
                     .setExample(
                             ExampleGenerator.generate(
                                     getMainCommandWord(),
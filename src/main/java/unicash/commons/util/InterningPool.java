@@ -0,0 +1,110 @@
+package unicash.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static unicash.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Shares one instance among all equal immutable values created from the same string, so that values repeated
+ * across many records are only created, validated and stored once.
+ *
+ * <p>Only values created from valid strings may be added to a pool, so a value is validated once, when it is
+ * created, and not again when it is shared. A pool stops taking new values once it holds {@code maxSize} of
+ * them, after which values that are not in it yet are created as usual but not shared. Pools may be used from
+ * several threads at once.</p>
+ *
+ * @param <T> the type of the values in the pool.
+ */
+public class InterningPool<T> {
+
+    /** The number of values a pool holds unless created with another size. */
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private static final List<InterningPool<?>> pools = new CopyOnWriteArrayList<>();
+
+    private final String name;
+    private final int maxSize;
+    private final ConcurrentHashMap<String, T> values = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a pool called {@code name} that holds at most {@value #DEFAULT_MAX_SIZE} values.
+     */
+    public InterningPool(String name) {
+        this(name, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a pool called {@code name} that holds at most {@code maxSize} values.
+     */
+    public InterningPool(String name, int maxSize) {
+        requireNonNull(name);
+        checkArgument(maxSize >= 0, "The size of a pool cannot be negative");
+        this.name = name;
+        this.maxSize = maxSize;
+        pools.add(this);
+    }
+
+    /**
+     * Returns the value in the pool for {@code key}, creating it with {@code factory} and adding it to the pool
+     * if there is none yet. {@code factory} must only return for valid keys, and throw for invalid ones.
+     */
+    public T intern(String key, Function<String, T> factory) {
+        requireNonNull(key);
+        T value = values.get(key);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+
+        misses.increment();
+        value = factory.apply(key);
+        if (values.size() >= maxSize) {
+            return value;
+        }
+        T sharedValue = values.putIfAbsent(key, value);
+        return sharedValue == null ? value : sharedValue;
+    }
+
+    /**
+     * Returns true if the pool holds a value for {@code key}.
+     */
+    public boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    /**
+     * Returns the number of values in the pool.
+     */
+    public int getSize() {
+        return values.size();
+    }
+
+    /**
+     * Returns the fraction of calls to {@link #intern(String, Function)} that found their value in the pool.
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long lookupCount = hitCount + misses.sum();
+        return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+    }
+
+    /**
+     * Returns the sizes and hit rates of all pools, for logging.
+     */
+    public static String getStatistics() {
+        return pools.stream().map(InterningPool::toString).collect(Collectors.joining(", ", "Interning pools: ", ""));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %d values, %.1f%% hits", name, getSize(), getHitRate() * 100);
+    }
+}
@@ -0,0 +1,94 @@
+package unicash.logic;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import unicash.commons.core.LogsCenter;
+import unicash.logic.commands.CacheableCommand;
+import unicash.logic.commands.Command;
+import unicash.logic.commands.CommandResult;
+import unicash.logic.commands.exceptions.CommandException;
+import unicash.model.Model;
+
+/**
+ * Keeps the results of the most recently executed {@code CacheableCommand}s, so that executing an equal
+ * command again on unchanged UniCash data reuses its result instead of computing it again.
+ *
+ * <p>Results are only kept for the current version of the UniCash data, and are all discarded once it
+ * changes. At most {@value #MAX_RESULTS} results are kept, and the least recently used result is evicted
+ * to make room for a new one.</p>
+ */
+class CommandResultCache {
+
+    static final int MAX_RESULTS = 32;
+
+    private final Logger logger = LogsCenter.getLogger(CommandResultCache.class);
+
+    private final Map<Object, CommandResult> results = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, CommandResult> eldest) {
+            if (size() <= MAX_RESULTS) {
+                return false;
+            }
+            evictions++;
+            logger.fine("Evicted cached result of " + eldest.getKey());
+            return true;
+        }
+    };
+
+    /** The version of the UniCash data the results were computed on. */
+    private long resultsVersion = -1;
+
+    private int hits;
+    private int misses;
+    private int evictions;
+
+    /**
+     * Executes {@code command} on {@code model}, or reuses the result of an equal command executed on the same
+     * version of the UniCash data. Results are not reused while the history is being loaded.
+     */
+    CommandResult execute(Command command, Model model) throws CommandException {
+        if (!(command instanceof CacheableCommand) || model.isHistoryLoading()) {
+            return command.execute(model);
+        }
+
+        long version = model.getUniCashVersion();
+        if (version != resultsVersion) {
+            results.clear();
+            resultsVersion = version;
+        }
+
+        CacheableCommand cacheableCommand = (CacheableCommand) command;
+        Object key = cacheableCommand.getCacheKey();
+        CommandResult result = results.get(key);
+        if (result != null) {
+            cacheableCommand.applyCachedEffects(model);
+            hits++;
+            logger.info("Cached result reused" + getStatistics());
+            return result;
+        }
+
+        result = command.execute(model);
+        misses++;
+        results.put(key, result);
+        logger.info("Result not cached, command executed" + getStatistics());
+        return result;
+    }
+
+    private String getStatistics() {
+        return " (hits: " + hits + ", misses: " + misses + ", evictions: " + evictions + ")";
+    }
+
+    int getHits() {
+        return hits;
+    }
+
+    int getMisses() {
+        return misses;
+    }
+
+    int getEvictions() {
+        return evictions;
+    }
+}
@@ -4,6 +4,7 @@ import java.nio.file.Path;
 import java.time.YearMonth;
 import java.util.HashMap;
 
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.collections.ObservableList;
 import unicash.commons.core.GuiSettings;
 import unicash.logic.commands.CommandResult;
@@ -54,4 +55,9 @@ public interface Logic {
      * Returns the total expense per year-month
      */
     HashMap<YearMonth, Double> getExpenseSummaryPerYearMonth();
+
+    /**
+     * Returns the fraction of older transactions loaded so far, which is 1 when no load is in progress.
+     */
+    ReadOnlyDoubleProperty getHistoryLoadProgress();
 }
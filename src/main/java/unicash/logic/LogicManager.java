@@ -7,6 +7,7 @@ import java.time.YearMonth;
 import java.util.HashMap;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.collections.ObservableList;
 import unicash.commons.core.GuiSettings;
 import unicash.commons.core.LogsCenter;
@@ -33,6 +34,11 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final UniCashParser uniCashParser;
+    private final CommandResultCache commandResultCache = new CommandResultCache();
+
+    private long lastSavedVersion = -1;
+    private int savesPerformed;
+    private int savesSkipped;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -49,7 +55,39 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = uniCashParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        commandResult = commandResultCache.execute(command, model);
+        if (!commandResult.getDiagnostics().isEmpty()) {
+            logger.fine(commandResult.getDiagnostics());
+        }
+
+        saveUniCashIfModified();
+
+        return commandResult;
+    }
+
+    /**
+     * Saves the UniCash data if it was modified since it was last saved, or if an earlier save failed.
+     * Commands that did not change any data do not cause a write to storage.
+     */
+    private void saveUniCashIfModified() throws CommandException {
+        if (model.isHistoryLoading()) {
+            // Saving now would overwrite the data file with only the transactions loaded so far
+            logger.info("UniCash history still loading, save deferred");
+            return;
+        }
+        if (model.hasHistoryLoadFailed()) {
+            // Saving would overwrite the data file without the older transactions that could not be loaded
+            logger.warning("UniCash history could not be loaded, save skipped");
+            return;
+        }
+
+        long version = model.getUniCashVersion();
+        if (version == lastSavedVersion && !storage.hasUniCashSaveFailed()) {
+            savesSkipped++;
+            logger.info("UniCash unchanged, save skipped (saves performed: " + savesPerformed
+                    + ", skipped: " + savesSkipped + ")");
+            return;
+        }
 
         try {
             storage.saveUniCash(model.getUniCash());
@@ -59,7 +97,30 @@ public class LogicManager implements Logic {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
 
-        return commandResult;
+        lastSavedVersion = version;
+        savesPerformed++;
+        logger.info("UniCash saved (saves performed: " + savesPerformed + ", skipped: " + savesSkipped + ")");
+    }
+
+    /**
+     * Returns the cache of the results of the commands executed.
+     */
+    CommandResultCache getCommandResultCache() {
+        return commandResultCache;
+    }
+
+    /**
+     * Returns the number of commands after which the UniCash data was saved.
+     */
+    int getSavesPerformed() {
+        return savesPerformed;
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped as the UniCash data was unchanged.
+     */
+    int getSavesSkipped() {
+        return savesSkipped;
     }
 
     @Override
@@ -91,4 +152,9 @@ public class LogicManager implements Logic {
     public HashMap<YearMonth, Double> getExpenseSummaryPerYearMonth() {
         return model.getExpenseSummaryPerYearMonth();
     }
+
+    @Override
+    public ReadOnlyDoubleProperty getHistoryLoadProgress() {
+        return model.getHistoryLoadProgress();
+    }
 }
@@ -24,6 +24,12 @@ public class UniCashMessages {
             "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_INVALID_MONTH = "Month must be between 1 and 12 (inclusive).";
     public static final String MESSAGE_INVALID_YEAR = "Year must be after 1920.";
+    public static final String MESSAGE_HISTORY_LOADING =
+            "Older transactions are still being loaded. Please try again once loading is complete.";
+    public static final String MESSAGE_HISTORY_LOAD_FAILED =
+            "Older transactions could not be loaded from the data file, so only the newest transactions "
+                    + "are shown. Changes will not be saved, so that the data file keeps the older transactions. "
+                    + "Use clear_transactions to start over with no transactions.";
 
     public static final String MESSAGE_UNICASH_WELCOME = "Welcome to UniCa$h!"
             + "\n\n"
@@ -35,7 +35,8 @@ public class AddTransactionCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         if (model.isFull()) {
-            throw new CommandException(TransactionList.MESSAGE_SIZE_CONSTRAINTS);
+            throw new CommandException(
+                    TransactionList.getSizeConstraintsMessage(model.getUserPrefs().getMaxTransactions()));
         }
         model.addTransaction(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, UniCashMessages.formatTransaction(toAdd)));
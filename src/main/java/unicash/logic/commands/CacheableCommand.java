@@ -0,0 +1,25 @@
+package unicash.logic.commands;
+
+import unicash.model.Model;
+
+/**
+ * A {@code Command} that does not change the UniCash data, so that its result can be reused for as long
+ * as the data is unchanged instead of being computed again.
+ */
+public interface CacheableCommand {
+
+    /**
+     * Returns the key the result of this command is kept under. Commands with equal keys must have the same
+     * result on the same data. By default, the key is the command itself, so equal commands share results.
+     */
+    default Object getCacheKey() {
+        return this;
+    }
+
+    /**
+     * Applies the effects of this command on {@code model} other than its result, such as filtering the
+     * transaction list, when its result is reused instead of executing it. By default, there are none.
+     */
+    default void applyCachedEffects(Model model) {
+    }
+}
@@ -1,5 +1,6 @@
 package unicash.logic.commands;
 
+import unicash.logic.UniCashMessages;
 import unicash.logic.commands.exceptions.CommandException;
 import unicash.model.Model;
 
@@ -17,4 +18,17 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Throws a {@code CommandException} if {@code model} does not hold all the transactions of UniCash,
+     * as older transactions are still being loaded or could not be loaded.
+     */
+    protected static void requireCompleteHistory(Model model) throws CommandException {
+        if (model.isHistoryLoading()) {
+            throw new CommandException(UniCashMessages.MESSAGE_HISTORY_LOADING);
+        }
+        if (model.hasHistoryLoadFailed()) {
+            throw new CommandException(UniCashMessages.MESSAGE_HISTORY_LOAD_FAILED);
+        }
+    }
+
 }
@@ -22,6 +22,12 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /**
+     * Details of how the command was executed, for diagnosing it in the logs rather than showing to the user.
+     * Not part of the equality of results, as it can differ between executions with the same outcome.
+     */
+    private final String diagnostics;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -30,6 +36,7 @@ public class CommandResult {
         this.showHelp = showHelp;
         this.showSummary = false;
         this.exit = exit;
+        this.diagnostics = "";
     }
 
     /**
@@ -40,6 +47,18 @@ public class CommandResult {
         this(feedbackToUser, false, false);
     }
 
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} and {@code diagnostics},
+     * and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, String diagnostics) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.showSummary = false;
+        this.diagnostics = requireNonNull(diagnostics);
+    }
+
     /**
      * Constructs a {@code CommandResult} with all available fields, including showSummary.
      */
@@ -48,6 +67,7 @@ public class CommandResult {
         this.showHelp = showHelp;
         this.exit = exit;
         this.showSummary = showSummary;
+        this.diagnostics = "";
     }
 
     public String getFeedbackToUser() {
@@ -66,6 +86,10 @@ public class CommandResult {
         return showSummary;
     }
 
+    public String getDiagnostics() {
+        return diagnostics;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
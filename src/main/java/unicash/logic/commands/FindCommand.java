@@ -2,6 +2,7 @@ package unicash.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -16,7 +17,7 @@ import unicash.model.transaction.predicates.TransactionContainsAllKeywordsPredic
  * Finds and lists all transactions in UniCa$h whose name contains any of the argument keywords.
  * Keyword matching is case-insensitive.
  */
-public class FindCommand extends Command {
+public class FindCommand extends Command implements CacheableCommand {
 
     public static final String COMMAND_WORD = CommandType.FIND.getCommandWords();
     public static final String MESSAGE_USAGE = CommandType.FIND.getMessageUsage();
@@ -26,6 +27,9 @@ public class FindCommand extends Command {
 
     private final TransactionContainsAllKeywordsPredicate predicate;
 
+    /** The plan of the search should be shown to the user. */
+    private final boolean isExplained;
+
 
     /**
      * Creates a {@code FindCommand} object with a non-null
@@ -34,8 +38,21 @@ public class FindCommand extends Command {
      * @param predicate the {@code TransactionContainsAllKeywordsPredicate} to be used
      */
     public FindCommand(TransactionContainsAllKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a {@code FindCommand} object with a non-null
+     * {@code TransactionContainsAllKeywordsPredicate} object, which also shows the plan
+     * of the search to the user if {@code isExplained} is true.
+     *
+     * @param predicate the {@code TransactionContainsAllKeywordsPredicate} to be used
+     * @param isExplained whether the plan of the search is shown to the user
+     */
+    public FindCommand(TransactionContainsAllKeywordsPredicate predicate, boolean isExplained) {
         requireNonNull(predicate);
         this.predicate = predicate;
+        this.isExplained = isExplained;
     }
 
     @Override
@@ -43,6 +60,7 @@ public class FindCommand extends Command {
         requireNonNull(model);
         assert predicate != null : "predicate cannot be null";
 
+        predicate.useIndexesOf(model);
         model.updateFilteredTransactionList(predicate);
 
         logger.log(Level.INFO, String.format(
@@ -50,8 +68,23 @@ public class FindCommand extends Command {
 
         logger.log(Level.INFO, "Find command executed successfully");
 
-        return new CommandResult(
-                String.format(MESSAGE_SUCCESS, model.getFilteredTransactionList().size()));
+        String feedback = String.format(MESSAGE_SUCCESS, model.getFilteredTransactionList().size());
+        String explanation = predicate.explain();
+        if (isExplained) {
+            feedback = feedback + "\n\n" + explanation;
+        }
+        return new CommandResult(feedback, explanation);
+    }
+
+    /**
+     * Filters the transaction list of {@code model} again, which leaves it as it is if this search was the last
+     * filter applied.
+     */
+    @Override
+    public void applyCachedEffects(Model model) {
+        requireNonNull(model);
+        predicate.useIndexesOf(model);
+        model.updateFilteredTransactionList(predicate);
     }
 
     @Override
@@ -66,13 +99,20 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && isExplained == otherFindCommand.isExplained;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(predicate, isExplained);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isExplained", isExplained)
                 .toString();
     }
 }
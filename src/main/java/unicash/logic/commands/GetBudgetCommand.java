@@ -2,15 +2,19 @@ package unicash.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalUnit;
 import java.time.temporal.WeekFields;
-import java.util.function.Function;
+import java.util.List;
 
 import unicash.commons.enums.BudgetInterval;
 import unicash.commons.enums.CommandType;
 import unicash.commons.enums.TransactionType;
 import unicash.logic.commands.exceptions.CommandException;
 import unicash.model.Model;
+import unicash.model.commons.Amount;
 
 /**
  * Calculates the total expenditure used relative to the assigned budget for a given interval.
@@ -19,9 +23,9 @@ import unicash.model.Model;
  * are accumulated over the given interval.</p>
  *
  * <p>If the interval is a day, the calculation only contains transactions within the same day,
- * the same for both week and month.</p>
+ * the same for both week and month. Weeks start on Monday.</p>
  */
-public class GetBudgetCommand extends Command {
+public class GetBudgetCommand extends Command implements CacheableCommand {
     public static final String COMMAND_WORD = CommandType.GET_BUDGET.getCommandWords();
 
     public static final String MESSAGE_USAGE = CommandType.GET_BUDGET.getMessageUsage();
@@ -61,26 +65,32 @@ public class GetBudgetCommand extends Command {
             return new CommandResult(MESSAGE_NO_BUDGET);
         }
 
+        // The newest transactions are the last ones in the data file, so those in the interval may be older ones
+        requireCompleteHistory(model);
+
         var interval = budget.getInterval().interval;
-        Function<LocalDateTime, Integer> filter = getIntervalFilter(interval);
+        LocalDateTime intervalStart = getIntervalStart(interval);
+        TemporalUnit intervalUnit = getIntervalUnit(interval);
         String intervalString = getIntervalString(interval);
-        assert filter != null;
+        assert intervalStart != null;
+        assert intervalUnit != null;
         assert intervalString != null;
 
-        double calculatedRemainder = model
-                .getFilteredTransactionList()
+        long expenseCents = model
+                .getTransactionsBetween(intervalStart, intervalStart.plus(1, intervalUnit))
                 .stream()
                 .filter(t -> t.getType().type.equals(TransactionType.EXPENSE))
-                .filter(t -> filter.apply(t.getDateTime().getDateTime()).equals(filter.apply(from)))
-                .map(t -> -1 * t.getAmount().amount)
-                .reduce(budget.getAmount().amount, Double::sum, Double::sum);
+                .mapToLong(t -> t.getAmount().getCents())
+                .sum();
+        long remainderCents = budget.getAmount().getCents() - expenseCents;
+        double calculatedRemainder = Amount.centsToDouble(Math.abs(remainderCents));
 
-        if (calculatedRemainder < 0) {
+        if (remainderCents < 0) {
             return new CommandResult(String.format(
                     MESSAGE_SUCCESS_NEGATIVE_BUDGET,
                     intervalString,
                     budget.getAmount().toString(),
-                    Math.abs(calculatedRemainder)
+                    calculatedRemainder
             ));
         }
 
@@ -102,18 +112,49 @@ public class GetBudgetCommand extends Command {
         return other instanceof GetBudgetCommand;
     }
 
+    @Override
+    public int hashCode() {
+        return GetBudgetCommand.class.hashCode();
+    }
+
+    /**
+     * Returns the command with the day of {@code from}, as the intervals of budgets are whole days, so
+     * commands from the same day have the same result.
+     */
+    @Override
+    public Object getCacheKey() {
+        return List.of(this, from.toLocalDate());
+    }
+
+    /**
+     * Returns the start of the given {@code BudgetInterval} that {@code from} is in.
+     * Weeks start on Monday.
+     */
+    private LocalDateTime getIntervalStart(BudgetInterval interval) {
+        LocalDate fromDate = from.toLocalDate();
+        switch (interval) {
+        case DAY:
+            return fromDate.atStartOfDay();
+        case WEEK:
+            return fromDate.with(WeekFields.ISO.dayOfWeek(), 1).atStartOfDay();
+        case MONTH:
+            return fromDate.withDayOfMonth(1).atStartOfDay();
+        default:
+            return null;
+        }
+    }
+
     /**
-     * Maps a filter function to a given {@code BudgetInterval}. The filter function is used to compare
-     * 2 {@code LocalDateTime} to determine if they are within the same interval.
+     * Maps the length of a given {@code BudgetInterval} to a {@code TemporalUnit}.
      */
-    private Function<LocalDateTime, Integer> getIntervalFilter(BudgetInterval interval) {
+    private TemporalUnit getIntervalUnit(BudgetInterval interval) {
         switch (interval) {
         case DAY:
-            return LocalDateTime::getDayOfYear;
+            return ChronoUnit.DAYS;
         case WEEK:
-            return d -> d.get(WeekFields.ISO.weekOfYear());
+            return ChronoUnit.WEEKS;
         case MONTH:
-            return LocalDateTime::getMonthValue;
+            return ChronoUnit.MONTHS;
         default:
             return null;
         }
@@ -2,7 +2,12 @@ package unicash.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.time.Month;
+import java.time.Year;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
 
 import unicash.commons.enums.CommandType;
 import unicash.commons.enums.TransactionType;
@@ -12,12 +17,13 @@ import unicash.logic.UniCashMessages;
 import unicash.logic.commands.exceptions.CommandException;
 import unicash.model.Model;
 import unicash.model.category.Category;
+import unicash.model.commons.Amount;
 import unicash.model.transaction.Transaction;
 
 /**
  * Calculates and returns the total expenditure of a user in a given month and (optionally) category and year.
  */
-public class GetTotalExpenditureCommand extends Command {
+public class GetTotalExpenditureCommand extends Command implements CacheableCommand {
     public static final String COMMAND_WORD = CommandType.GET_TOTAL_EXPENDITURE.getCommandWords();
 
     public static final String MESSAGE_USAGE = CommandType.GET_TOTAL_EXPENDITURE.getMessageUsage();
@@ -51,12 +57,16 @@ public class GetTotalExpenditureCommand extends Command {
             throw new CommandException(UniCashMessages.MESSAGE_INVALID_YEAR);
         }
 
-        model.updateFilteredTransactionList(this::isMatchingTransaction);
-        var filteredList = model.getFilteredTransactionList();
+        requireCompleteHistory(model);
 
-        double totalExpenditure = filteredList
+        model.updateFilteredTransactionList(new MatchingTransactionPredicate(this));
+
+        long totalExpenditureCents = getTransactionsInMonth(model)
                 .stream()
-                .reduce(0.0, (acc, cur) -> acc + cur.getAmount().amount, Double::sum);
+                .filter(this::isMatchingTransaction)
+                .mapToLong(t -> t.getAmount().getCents())
+                .sum();
+        double totalExpenditure = Amount.centsToDouble(totalExpenditureCents);
 
         String monthString = StringUtil.capitalizeString(Month.of(month).name());
 
@@ -75,6 +85,28 @@ public class GetTotalExpenditureCommand extends Command {
         );
     }
 
+    /**
+     * Filters the transaction list of {@code model} to the transactions counted in the total expenditure.
+     */
+    @Override
+    public void applyCachedEffects(Model model) {
+        requireNonNull(model);
+        model.updateFilteredTransactionList(new MatchingTransactionPredicate(this));
+    }
+
+    /**
+     * Returns the transactions dated within the month, as only they can match.
+     */
+    private List<Transaction> getTransactionsInMonth(Model model) {
+        if (year >= Year.MAX_VALUE) {
+            // No transaction can be dated this late
+            return List.of();
+        }
+
+        LocalDateTime monthStart = LocalDateTime.of(year, month, 1, 0, 0);
+        return model.getTransactionsBetween(monthStart, monthStart.plusMonths(1));
+    }
+
     private boolean isMatchingTransaction(Transaction transaction) {
         boolean isExpense = transaction.getType().type.equals(TransactionType.EXPENSE);
 
@@ -89,13 +121,8 @@ public class GetTotalExpenditureCommand extends Command {
         }
 
         // If category filter exists and expense contains no category, it will not have the category
-        // Note: If the stream is empty then false is returned and the predicate is not evaluated.
         // Case insensitivity is handled by the creation of Category objects
-        boolean hasCategory = transaction
-                .getCategories()
-                .asUnmodifiableObservableList()
-                .stream()
-                .anyMatch(cat -> cat.equals(categoryFilter));
+        boolean hasCategory = transaction.getCategories().contains(categoryFilter);
 
         return isExpense && isSameDateFields && hasCategory;
     }
@@ -122,6 +149,11 @@ public class GetTotalExpenditureCommand extends Command {
                 && year == otherCommand.year;
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(month, year, categoryFilter);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -130,4 +162,41 @@ public class GetTotalExpenditureCommand extends Command {
                 .add("categoryFilter", categoryFilter)
                 .toString();
     }
+
+    /**
+     * Tests that a transaction is counted in the total expenditure of a command. Equal for equal commands,
+     * so that running the same command again leaves the filtered list as it is.
+     */
+    private static class MatchingTransactionPredicate implements Predicate<Transaction> {
+        private final GetTotalExpenditureCommand command;
+
+        private MatchingTransactionPredicate(GetTotalExpenditureCommand command) {
+            this.command = command;
+        }
+
+        @Override
+        public boolean test(Transaction transaction) {
+            return command.isMatchingTransaction(transaction);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof MatchingTransactionPredicate)) {
+                return false;
+            }
+
+            MatchingTransactionPredicate otherPredicate = (MatchingTransactionPredicate) other;
+            return command.equals(otherPredicate.command);
+        }
+
+        @Override
+        public int hashCode() {
+            return command.hashCode();
+        }
+    }
 }
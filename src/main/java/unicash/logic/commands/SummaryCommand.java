@@ -1,6 +1,7 @@
 package unicash.logic.commands;
 
 import unicash.commons.enums.CommandType;
+import unicash.logic.commands.exceptions.CommandException;
 import unicash.model.Model;
 
 /**
@@ -17,7 +18,8 @@ public class SummaryCommand extends Command {
     public static final String MESSAGE_NOT_SHOWING_SUMMARY = "You have no expenses to summarize.";
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
+        requireCompleteHistory(model);
         if (model.hasExpenses()) {
             return new CommandResult(MESSAGE_SHOWING_SUMMARY_SUCCESS, false, false, true);
         }
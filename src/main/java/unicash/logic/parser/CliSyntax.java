@@ -15,4 +15,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_MONTH = new Prefix("month/");
     public static final Prefix PREFIX_YEAR = new Prefix("year/");
     public static final Prefix PREFIX_INTERVAL = new Prefix("interval/");
+    public static final Prefix PREFIX_EXPLAIN = new Prefix("explain/");
 }
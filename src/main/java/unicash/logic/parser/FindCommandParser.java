@@ -5,6 +5,7 @@ import static unicash.logic.UniCashMessages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static unicash.logic.parser.CliSyntax.PREFIX_AMOUNT;
 import static unicash.logic.parser.CliSyntax.PREFIX_CATEGORY;
 import static unicash.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static unicash.logic.parser.CliSyntax.PREFIX_EXPLAIN;
 import static unicash.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static unicash.logic.parser.CliSyntax.PREFIX_NAME;
 import static unicash.logic.parser.CliSyntax.PREFIX_TYPE;
@@ -15,8 +16,11 @@ import unicash.commons.util.ToStringBuilder;
 import unicash.logic.commands.FindCommand;
 import unicash.logic.parser.exceptions.ParseException;
 import unicash.model.category.Category;
+import unicash.model.commons.Amount;
+import unicash.model.transaction.DateTime;
 import unicash.model.transaction.Location;
 import unicash.model.transaction.Name;
+import unicash.model.transaction.Type;
 import unicash.model.transaction.predicates.TransactionContainsAllKeywordsPredicate;
 
 
@@ -25,6 +29,14 @@ import unicash.model.transaction.predicates.TransactionContainsAllKeywordsPredic
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    /** Separates the start and end of a range of amounts or date times, such as {@code 20..50}. */
+    public static final String RANGE_SEPARATOR = "..";
+
+    public static final String MESSAGE_INVALID_RANGE_FORMAT =
+            "Ranges must be given as VALUE, START" + RANGE_SEPARATOR + "END, START" + RANGE_SEPARATOR
+                    + " or " + RANGE_SEPARATOR + "END";
+    public static final String MESSAGE_INVALID_RANGE_ORDER = "The start of a range cannot be after its end";
+
     private TransactionContainsAllKeywordsPredicate findPredicate =
             new TransactionContainsAllKeywordsPredicate();
 
@@ -39,26 +51,20 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         /* All prefixes are parsed first */
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME,
-                PREFIX_DATETIME, PREFIX_AMOUNT, PREFIX_TYPE, PREFIX_CATEGORY, PREFIX_LOCATION);
-
-        /* If any of the invalid prefixes are present, an invalid command format message
-         * is displayed to the user, as opposed to the invalid prefixes themselves being
-         * parsed together with the valid prefixes as a standard field input. */
-        if (areAnyPrefixesPresent(
-                argMultimap, PREFIX_DATETIME, PREFIX_AMOUNT, PREFIX_TYPE)) {
-
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
-        }
+                PREFIX_DATETIME, PREFIX_AMOUNT, PREFIX_TYPE, PREFIX_CATEGORY, PREFIX_LOCATION, PREFIX_EXPLAIN);
 
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+        boolean isExplained = argMultimap.getValue(PREFIX_EXPLAIN).isPresent();
+        if (!argMultimap.getPreamble().isEmpty()
+                || !areAnyPrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_DATETIME, PREFIX_AMOUNT,
+                        PREFIX_TYPE, PREFIX_CATEGORY, PREFIX_LOCATION)
+                || (isExplained && !argMultimap.getValue(PREFIX_EXPLAIN).get().isEmpty())) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
         /* Enforces singular prefix input by the user */
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_CATEGORY, PREFIX_LOCATION);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_CATEGORY, PREFIX_LOCATION,
+                PREFIX_AMOUNT, PREFIX_DATETIME, PREFIX_TYPE, PREFIX_EXPLAIN);
 
 
         /* If present, add the argument following the Name prefix as a name predicate keyword */
@@ -82,8 +88,68 @@ public class FindCommandParser implements Parser<FindCommand> {
             findPredicate.addLocationKeyword(transactionLocation.toString());
         }
 
-        return new FindCommand(findPredicate);
+        /* If present, add the argument following the Amount prefix as an amount range predicate */
+        if (argMultimap.getValue(PREFIX_AMOUNT).isPresent()) {
+            addAmountRange(argMultimap.getValue(PREFIX_AMOUNT).get());
+        }
+
+        /* If present, add the argument following the DateTime prefix as a date time range predicate */
+        if (argMultimap.getValue(PREFIX_DATETIME).isPresent()) {
+            addDateTimeRange(argMultimap.getValue(PREFIX_DATETIME).get());
+        }
 
+        /* If present, add the argument following the Type prefix as a type predicate */
+        if (argMultimap.getValue(PREFIX_TYPE).isPresent()) {
+            Type transactionType = ParserUtil.parseType(
+                    argMultimap.getValue(PREFIX_TYPE).get());
+            findPredicate.addType(transactionType);
+        }
+
+        return new FindCommand(findPredicate, isExplained);
+
+    }
+
+    private void addAmountRange(String range) throws ParseException {
+        String[] bounds = splitRange(range);
+        Amount minimum = bounds[0].isEmpty() ? null : ParserUtil.parseAmount(bounds[0]);
+        Amount maximum = bounds[1].isEmpty() ? null : ParserUtil.parseAmount(bounds[1]);
+        if (minimum != null && maximum != null && minimum.getCents() > maximum.getCents()) {
+            throw new ParseException(MESSAGE_INVALID_RANGE_ORDER);
+        }
+        findPredicate.addAmountRange(minimum, maximum);
+    }
+
+    private void addDateTimeRange(String range) throws ParseException {
+        String[] bounds = splitRange(range);
+        // Bounds are never blank here, so they are never taken as the current date time
+        DateTime start = bounds[0].isEmpty() ? null : ParserUtil.parseDateTime(bounds[0]);
+        DateTime end = bounds[1].isEmpty() ? null : ParserUtil.parseDateTime(bounds[1]);
+        if (start != null && end != null && start.getDateTime().isAfter(end.getDateTime())) {
+            throw new ParseException(MESSAGE_INVALID_RANGE_ORDER);
+        }
+        findPredicate.addDateTimeRange(start, end);
+    }
+
+    /**
+     * Splits {@code range} into its start and end, either of which is empty if it is left out.
+     * A range without the {@code RANGE_SEPARATOR} is a single value, which is both its start and end.
+     *
+     * @throws ParseException if both the start and the end are left out
+     */
+    private static String[] splitRange(String range) throws ParseException {
+        String trimmedRange = range.trim();
+        int separatorIndex = trimmedRange.indexOf(RANGE_SEPARATOR);
+        String start = trimmedRange;
+        String end = trimmedRange;
+        if (separatorIndex != -1) {
+            start = trimmedRange.substring(0, separatorIndex).trim();
+            end = trimmedRange.substring(separatorIndex + RANGE_SEPARATOR.length()).trim();
+        }
+
+        if (start.isEmpty() && end.isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_RANGE_FORMAT);
+        }
+        return new String[] {start, end};
     }
 
     @Override
@@ -0,0 +1,198 @@
+package unicash.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A read-only view of the elements of an {@code ObservableList} that match a predicate, like a
+ * {@code FilteredList}, that can also be filtered from candidate positions looked up in an index.
+ *
+ * <p>The view keeps the positions of its elements in the source list, in ascending order. Setting a predicate
+ * tests every element of the source list, but setting it with the positions of the only elements that can
+ * match it, such as ones looked up in an index, tests only those elements. Each change to the source list
+ * only tests the elements it adds, whichever way the predicate was set.</p>
+ *
+ * @param <E> the type of the elements in the list.
+ */
+class IndexedFilteredList<E> extends TransformationList<E, E> {
+
+    private Predicate<? super E> predicate;
+
+    /** The positions in the source list of the elements in the view, in ascending order. */
+    private int[] filtered = new int[0];
+    private int size;
+
+    /**
+     * Creates a view of the elements of {@code source} that match {@code predicate}.
+     */
+    IndexedFilteredList(ObservableList<E> source, Predicate<? super E> predicate) {
+        super(source);
+        setPredicate(predicate);
+    }
+
+    /**
+     * Returns the predicate the elements in the view match.
+     */
+    Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Filters the view by {@code predicate}, testing every element of the source list.
+     */
+    void setPredicate(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        int[] positions = new int[getSource().size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        refilter(predicate, positions);
+    }
+
+    /**
+     * Filters the view by {@code predicate}, testing only the elements at {@code candidatePositions} of the
+     * source list, which must be in ascending order without repeats and include the position of every element
+     * that matches {@code predicate}.
+     */
+    void setPredicate(Predicate<? super E> predicate, int[] candidatePositions) {
+        requireNonNull(predicate);
+        requireNonNull(candidatePositions);
+        refilter(predicate, candidatePositions);
+    }
+
+    private void refilter(Predicate<? super E> predicate, int[] candidatePositions) {
+        // Like a FilteredList, the view is only copied if a listener is told what was removed
+        List<E> removed = hasListeners() ? new ArrayList<>(this) : List.of();
+        this.predicate = predicate;
+        int[] matches = new int[candidatePositions.length];
+        int matchCount = 0;
+        for (int position : candidatePositions) {
+            assert matchCount == 0 || position > matches[matchCount - 1] : "Positions must be ascending";
+            if (predicate.test(getSource().get(position))) {
+                matches[matchCount++] = position;
+            }
+        }
+        filtered = matches;
+        size = matchCount;
+
+        if (!removed.isEmpty() || size > 0) {
+            beginChange();
+            nextReplace(0, size, removed);
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int viewIndex = Arrays.binarySearch(filtered, 0, size, index);
+        return viewIndex < 0 ? -1 : viewIndex;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                addPermutation(change);
+            } else if (change.wasUpdated()) {
+                // The updated elements are still the same objects, but may now match differently
+                int updatedSize = change.getTo() - from;
+                addReplacement(from, updatedSize, updatedSize, getSource()::get);
+            } else {
+                List<? extends E> removed = change.getRemoved();
+                addReplacement(from, change.getRemovedSize(), change.getAddedSize(),
+                        position -> removed.get(position - from));
+            }
+        }
+        endChange();
+    }
+
+    private void addPermutation(Change<? extends E> change) {
+        List<E> removed = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int position = filtered[i];
+            boolean isMoved = position >= change.getFrom() && position < change.getTo();
+            int newPosition = isMoved ? change.getPermutation(position) : position;
+            removed.add(getSource().get(newPosition));
+            filtered[i] = newPosition;
+        }
+        Arrays.sort(filtered, 0, size);
+        nextReplace(0, size, removed);
+    }
+
+    /**
+     * Removes the elements of the view among the {@code removedSize} elements that were removed from
+     * {@code from} of the source list, shifts the positions after them, and adds the elements among the
+     * {@code addedSize} elements added at {@code from} that match the predicate.
+     * The removed element that was at each position is given by {@code removedElementAt}.
+     */
+    private void addReplacement(int from, int removedSize, int addedSize, IntFunction<? extends E> removedElementAt) {
+        int viewFrom = lowerBound(from);
+        int viewTo = lowerBound(from + removedSize);
+        List<E> removed = new ArrayList<>(viewTo - viewFrom);
+        for (int i = viewFrom; i < viewTo; i++) {
+            removed.add(removedElementAt.apply(filtered[i]));
+        }
+
+        int[] added = new int[addedSize];
+        int addedCount = 0;
+        for (int position = from; position < from + addedSize; position++) {
+            if (predicate.test(getSource().get(position))) {
+                added[addedCount++] = position;
+            }
+        }
+
+        int newSize = size - removed.size() + addedCount;
+        int[] positions = newSize > filtered.length
+                ? Arrays.copyOf(filtered, Math.max(newSize, filtered.length * 3 / 2))
+                : filtered;
+        int shift = addedSize - removedSize;
+        System.arraycopy(filtered, viewTo, positions, viewFrom + addedCount, size - viewTo);
+        for (int i = viewFrom + addedCount; i < newSize; i++) {
+            positions[i] += shift;
+        }
+        System.arraycopy(added, 0, positions, viewFrom, addedCount);
+        filtered = positions;
+        size = newSize;
+
+        if (!removed.isEmpty() || addedCount > 0) {
+            nextReplace(viewFrom, viewFrom + addedCount, removed);
+        }
+    }
+
+    /**
+     * Returns the index in the view of the first element at or after {@code position} of the source list.
+     */
+    private int lowerBound(int position) {
+        int viewIndex = Arrays.binarySearch(filtered, 0, size, position);
+        return viewIndex < 0 ? -viewIndex - 1 : viewIndex;
+    }
+}
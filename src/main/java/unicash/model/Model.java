@@ -1,13 +1,21 @@
 package unicash.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.collections.ObservableList;
 import unicash.commons.core.GuiSettings;
 import unicash.model.budget.Budget;
+import unicash.model.category.Category;
+import unicash.model.transaction.TextMatcher;
 import unicash.model.transaction.Transaction;
 
 /**
@@ -71,6 +79,12 @@ public interface Model {
      */
     ReadOnlyUniCash getUniCash();
 
+    /**
+     * Returns the mutation version of the UniCash data.
+     * The version changes whenever the transactions or the budget are modified.
+     */
+    long getUniCashVersion();
+
     /**
      * Deletes the given transaction.
      * The transaction must exist in UniCash.
@@ -99,6 +113,10 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered UniCash to filter by the given {@code predicate}.
+     * The filter is kept as transactions are edited and deleted, until it is updated again
+     * or a transaction is added, which shows all transactions. If {@code predicate} is an
+     * {@code IndexLookupPredicate} that finds few enough candidates in the indexes of this model,
+     * only the candidates are tested instead of every transaction.
      *
      * @throws NullPointerException if {@code predicate} is null.
      */
@@ -133,4 +151,87 @@ public interface Model {
      * Returns true if there are transactions of type "expense", and false otherwise
      */
     boolean hasExpenses();
+
+    /**
+     * Returns all the transactions dated from {@code start} (inclusive) to {@code end} (exclusive),
+     * in chronological order, regardless of the filter applied to the filtered transaction list.
+     */
+    List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the transactions dated from minute {@code firstMinute} to minute {@code lastMinute}, both inclusive
+     * and counted from the epoch, looked up in an index, or an empty {@code Optional} if there are more than
+     * {@code limit} of them. The filter applied to the filtered transaction list is disregarded.
+     */
+    Optional<List<Transaction>> findTransactionsDatedBetween(long firstMinute, long lastMinute, int limit);
+
+    /**
+     * Returns the transactions with an amount from {@code minimumCents} to {@code maximumCents} cents, both
+     * inclusive, looked up in an index, or an empty {@code Optional} if there are more than {@code limit} of them.
+     * The filter applied to the filtered transaction list is disregarded.
+     */
+    Optional<List<Transaction>> findTransactionsWithAmountBetween(long minimumCents, long maximumCents, int limit);
+
+    /**
+     * Returns the distinct transactions with any of {@code categories}, looked up in an index, or an empty
+     * {@code Optional} if there are more than {@code limit} of them.
+     * The filter applied to the filtered transaction list is disregarded.
+     */
+    Optional<List<Transaction>> findTransactionsWithAnyCategory(Collection<Category> categories, int limit);
+
+    /**
+     * Returns a test of whether a name contains {@code keyword}, ignoring case, which looks up the names of
+     * the transactions in UniCash in an index instead of searching each of them.
+     */
+    TextMatcher getNameMatcher(String keyword);
+
+    /**
+     * Returns a test of whether a location contains {@code keyword}, ignoring case, which looks up the
+     * locations of the transactions in UniCash in an index instead of searching each of them.
+     */
+    TextMatcher getLocationMatcher(String keyword);
+
+    /**
+     * Returns the number of transactions in UniCash with each category, regardless of the filter applied
+     * to the filtered transaction list.
+     */
+    Map<Category, Integer> getTransactionCountPerCategory();
+
+    /**
+     * Marks UniCash as still loading {@code historySize} transactions older than the ones it holds.
+     */
+    void startHistoryLoad(int historySize);
+
+    /**
+     * Records that {@code loadedCount} of the older transactions being loaded have been loaded so far.
+     */
+    void setHistoryLoadProgress(int loadedCount);
+
+    /**
+     * Adds {@code history} before all transactions in UniCash and marks the load as complete.
+     * Does nothing if the load was cancelled by replacing the UniCash data in the meantime.
+     */
+    void addHistory(List<Transaction> history);
+
+    /**
+     * Marks the older transactions being loaded as lost, as they could not be loaded.
+     * The transactions in UniCash are kept, but UniCash remains without its older transactions
+     * until its data is replaced.
+     */
+    void failHistoryLoad();
+
+    /**
+     * Returns true while older transactions are still being loaded into UniCash.
+     */
+    boolean isHistoryLoading();
+
+    /**
+     * Returns true if older transactions could not be loaded and UniCash data has not been replaced since.
+     */
+    boolean hasHistoryLoadFailed();
+
+    /**
+     * Returns the fraction of older transactions loaded so far, which is 1 when no load is in progress.
+     */
+    ReadOnlyDoubleProperty getHistoryLoadProgress();
 }
@@ -4,17 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static unicash.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import unicash.commons.core.GuiSettings;
 import unicash.commons.core.LogsCenter;
 import unicash.model.budget.Budget;
+import unicash.model.category.Category;
+import unicash.model.transaction.TextMatcher;
 import unicash.model.transaction.Transaction;
+import unicash.model.transaction.predicates.IndexLookupPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -24,7 +33,10 @@ public class ModelManager implements Model {
 
     private final UniCash uniCash;
     private final UserPrefs userPrefs;
-    private final FilteredList<Transaction> filteredTransactions;
+    private final IndexedFilteredList<Transaction> filteredTransactions;
+    private final ReadOnlyDoubleWrapper historyLoadProgress = new ReadOnlyDoubleWrapper(1);
+    private int historySize;
+    private boolean isHistoryLoadFailed;
 
     /**
      * Initializes a ModelManager with the given userPrefs and UniCash.
@@ -35,8 +47,9 @@ public class ModelManager implements Model {
         logger.fine("Initializing with UniCash: " + uniCash + " and user prefs " + userPrefs);
 
         this.userPrefs = new UserPrefs(userPrefs);
-        this.uniCash = new UniCash(uniCash);
-        filteredTransactions = new FilteredList<>(this.uniCash.getTransactionList());
+        this.uniCash = new UniCash(uniCash, userPrefs.getMaxTransactions());
+        filteredTransactions = new IndexedFilteredList<>(this.uniCash.getTransactionList(),
+                PREDICATE_SHOW_ALL_TRANSACTIONS);
     }
 
     public ModelManager() {
@@ -49,6 +62,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        uniCash.setMaxTransactions(userPrefs.getMaxTransactions());
     }
 
     @Override
@@ -82,6 +96,11 @@ public class ModelManager implements Model {
     @Override
     public void setUniCash(ReadOnlyUniCash uniCash) {
         this.uniCash.resetData(uniCash);
+        if (isHistoryLoading()) {
+            logger.info("UniCash data replaced, discarding the history being loaded");
+            completeHistoryLoad();
+        }
+        isHistoryLoadFailed = false;
     }
 
     @Override
@@ -95,6 +114,11 @@ public class ModelManager implements Model {
         return uniCash;
     }
 
+    @Override
+    public long getUniCashVersion() {
+        return uniCash.getVersion();
+    }
+
     @Override
     public boolean hasTransaction(Transaction transaction) {
         requireNonNull(transaction);
@@ -109,12 +133,15 @@ public class ModelManager implements Model {
     @Override
     public void addTransaction(Transaction transaction) {
         uniCash.addTransaction(transaction);
+        // Without a filter, this only tests the new transaction rather than refiltering every transaction
         updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS);
     }
 
     @Override
     public boolean isFull() {
-        return uniCash.isFull();
+        // Room must be left for the history that is still being loaded
+        return uniCash.isFull()
+                || uniCash.getTransactionList().size() + historySize >= uniCash.getMaxTransactions();
     }
 
     @Override
@@ -146,6 +173,23 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredTransactionList(Predicate<Transaction> predicate) {
         requireNonNull(predicate);
+        // The filtered list already tests each transaction that changes, so applying an equal filter
+        // again would only test every transaction and redraw the whole list for the same result
+        if (predicate.equals(filteredTransactions.getPredicate())) {
+            return;
+        }
+
+        if (predicate instanceof IndexLookupPredicate) {
+            IndexLookupPredicate lookupPredicate = (IndexLookupPredicate) predicate;
+            int transactionCount = uniCash.getTransactionList().size();
+            Optional<int[]> candidatePositions = lookupPredicate
+                    .findCandidates(IndexLookupPredicate.getCandidateLimit(transactionCount))
+                    .flatMap(uniCash::findPositionsOf);
+            if (candidatePositions.isPresent()) {
+                filteredTransactions.setPredicate(predicate, candidatePositions.get());
+                return;
+            }
+        }
         filteredTransactions.setPredicate(predicate);
     }
 
@@ -164,6 +208,103 @@ public class ModelManager implements Model {
         return uniCash.hasExpenses();
     }
 
+    @Override
+    public List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return uniCash.getTransactionsBetween(start, end);
+    }
+
+    @Override
+    public Optional<List<Transaction>> findTransactionsDatedBetween(long firstMinute, long lastMinute, int limit) {
+        return uniCash.findTransactionsDatedBetween(firstMinute, lastMinute, limit);
+    }
+
+    @Override
+    public Optional<List<Transaction>> findTransactionsWithAmountBetween(long minimumCents, long maximumCents,
+            int limit) {
+        return uniCash.findTransactionsWithAmountBetween(minimumCents, maximumCents, limit);
+    }
+
+    @Override
+    public Optional<List<Transaction>> findTransactionsWithAnyCategory(Collection<Category> categories, int limit) {
+        requireNonNull(categories);
+        return uniCash.findTransactionsWithAnyCategory(categories, limit);
+    }
+
+    @Override
+    public TextMatcher getNameMatcher(String keyword) {
+        requireNonNull(keyword);
+        return uniCash.getNameMatcher(keyword);
+    }
+
+    @Override
+    public TextMatcher getLocationMatcher(String keyword) {
+        requireNonNull(keyword);
+        return uniCash.getLocationMatcher(keyword);
+    }
+
+    @Override
+    public Map<Category, Integer> getTransactionCountPerCategory() {
+        return uniCash.getTransactionCountPerCategory();
+    }
+
+    //=========== History Loading ================================================================================
+
+    @Override
+    public void startHistoryLoad(int historySize) {
+        assert historySize >= 0 : "History size cannot be negative";
+        this.historySize = historySize;
+        historyLoadProgress.set(historySize == 0 ? 1 : 0);
+    }
+
+    @Override
+    public void setHistoryLoadProgress(int loadedCount) {
+        if (isHistoryLoading()) {
+            historyLoadProgress.set((double) loadedCount / historySize);
+        }
+    }
+
+    @Override
+    public void addHistory(List<Transaction> history) {
+        requireNonNull(history);
+        if (!isHistoryLoading()) {
+            return;
+        }
+
+        completeHistoryLoad();
+        uniCash.prependTransactions(history);
+    }
+
+    private void completeHistoryLoad() {
+        historySize = 0;
+        historyLoadProgress.set(1);
+    }
+
+    @Override
+    public void failHistoryLoad() {
+        if (!isHistoryLoading()) {
+            return;
+        }
+
+        completeHistoryLoad();
+        isHistoryLoadFailed = true;
+    }
+
+    @Override
+    public boolean isHistoryLoading() {
+        return historySize > 0;
+    }
+
+    @Override
+    public boolean hasHistoryLoadFailed() {
+        return isHistoryLoadFailed;
+    }
+
+    @Override
+    public ReadOnlyDoubleProperty getHistoryLoadProgress() {
+        return historyLoadProgress.getReadOnlyProperty();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
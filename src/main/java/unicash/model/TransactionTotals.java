@@ -0,0 +1,138 @@
+package unicash.model;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import unicash.commons.enums.TransactionType;
+import unicash.model.category.Category;
+import unicash.model.commons.Amount;
+import unicash.model.transaction.Transaction;
+
+/**
+ * Keeps the expense totals per category and per year month, and the balance, of a collection of
+ * Transactions, so that they can be read without summing every Transaction again.
+ *
+ * <p>The totals must be told of every Transaction added to or removed from the collection.
+ * Amounts are kept in whole cents so that adding and removing them leaves no rounding error behind.
+ * A total is dropped once the last expense counted towards it is removed.</p>
+ */
+class TransactionTotals {
+
+    private final Map<String, Total> expensesPerCategory = new HashMap<>();
+    private final Map<YearMonth, Total> expensesPerYearMonth = new HashMap<>();
+    private int expenseCount;
+    private long balanceInCents;
+
+    /**
+     * Counts {@code transaction} towards the totals.
+     */
+    void add(Transaction transaction) {
+        update(transaction, 1);
+    }
+
+    /**
+     * Counts all of {@code transactions} towards the totals.
+     */
+    void addAll(Collection<Transaction> transactions) {
+        transactions.forEach(this::add);
+    }
+
+    /**
+     * Stops counting {@code transaction} towards the totals.
+     * {@code transaction} must have been added before.
+     */
+    void remove(Transaction transaction) {
+        update(transaction, -1);
+    }
+
+    /**
+     * Resets all totals to zero.
+     */
+    void clear() {
+        expensesPerCategory.clear();
+        expensesPerYearMonth.clear();
+        expenseCount = 0;
+        balanceInCents = 0;
+    }
+
+    private void update(Transaction transaction, int sign) {
+        long cents = sign * toCents(transaction);
+        if (!isExpense(transaction)) {
+            balanceInCents += cents;
+            return;
+        }
+
+        balanceInCents -= cents;
+        expenseCount += sign;
+        if (transaction.getCategories().isEmpty()) {
+            update(expensesPerCategory, UniCash.UNCATEGORIZED_CATEGORY_NAME, sign, cents);
+        }
+        for (Category category : transaction.getCategories()) {
+            update(expensesPerCategory, category.category, sign, cents);
+        }
+        update(expensesPerYearMonth, transaction.getDateTime().getYearMonth(), sign, cents);
+    }
+
+    private static <K> void update(Map<K, Total> totals, K key, int sign, long cents) {
+        Total total = totals.computeIfAbsent(key, k -> new Total());
+        total.count += sign;
+        total.cents += cents;
+        if (total.count == 0) {
+            totals.remove(key);
+        }
+    }
+
+    private static boolean isExpense(Transaction transaction) {
+        return transaction.getType().toString().equals(TransactionType.EXPENSE.getOriginalString());
+    }
+
+    private static long toCents(Transaction transaction) {
+        return transaction.getAmount().getCents();
+    }
+
+    /**
+     * Returns true if any expense is counted towards the totals.
+     */
+    boolean hasExpenses() {
+        return expenseCount > 0;
+    }
+
+    /**
+     * Returns the total of the incomes less the total of the expenses.
+     */
+    double getBalance() {
+        return Amount.centsToDouble(balanceInCents);
+    }
+
+    /**
+     * Returns the total expense of each category, with expenses without any category under
+     * {@link UniCash#UNCATEGORIZED_CATEGORY_NAME}.
+     */
+    HashMap<String, Double> getExpensesPerCategory() {
+        return toDollarTotals(expensesPerCategory);
+    }
+
+    /**
+     * Returns the total expense of each year month.
+     */
+    HashMap<YearMonth, Double> getExpensesPerYearMonth() {
+        return toDollarTotals(expensesPerYearMonth);
+    }
+
+    private static <K> HashMap<K, Double> toDollarTotals(Map<K, Total> totals) {
+        HashMap<K, Double> dollars = new HashMap<>();
+        totals.forEach((key, total) -> dollars.put(key, Amount.centsToDouble(total.cents)));
+        return dollars;
+    }
+
+    /**
+     * The number of expenses counted towards a total, and their sum in cents.
+     */
+    private static class Total {
+        private int count;
+        private long cents;
+    }
+
+}
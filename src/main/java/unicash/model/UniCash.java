@@ -2,17 +2,20 @@ package unicash.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
-import unicash.commons.enums.TransactionType;
 import unicash.commons.util.ToStringBuilder;
 import unicash.model.budget.Budget;
 import unicash.model.category.Category;
+import unicash.model.transaction.TextMatcher;
 import unicash.model.transaction.Transaction;
 import unicash.model.transaction.TransactionList;
 
@@ -21,14 +24,27 @@ import unicash.model.transaction.TransactionList;
  */
 public class UniCash implements ReadOnlyUniCash {
 
+    /** The name under which expenses without any category are summed. */
+    public static final String UNCATEGORIZED_CATEGORY_NAME = "Uncategorized";
+
     private final TransactionList transactions;
+    private final TransactionTotals totals;
     private Budget budget;
+    private long budgetVersion;
 
     /**
      * Creates UniCash instance with starting values of {@code TransactionList} and {@code Budget}.
      */
     public UniCash() {
-        transactions = new TransactionList();
+        this(TransactionList.MAX_TRANSACTIONS);
+    }
+
+    /**
+     * Creates an empty UniCash that holds up to {@code maxTransactions} transactions.
+     */
+    public UniCash(int maxTransactions) {
+        transactions = new TransactionList(maxTransactions);
+        totals = new TransactionTotals();
         // Null budget is equivalent to having no budget
         budget = null;
     }
@@ -43,6 +59,15 @@ public class UniCash implements ReadOnlyUniCash {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates an UniCash that holds up to {@code maxTransactions} transactions, using the Transactions
+     * in the {@code toBeCopied}.
+     */
+    public UniCash(ReadOnlyUniCash toBeCopied, int maxTransactions) {
+        this(maxTransactions);
+        resetData(toBeCopied);
+    }
+
     //// list overwrite operations
 
     /**
@@ -51,6 +76,8 @@ public class UniCash implements ReadOnlyUniCash {
      */
     public void setTransactions(List<Transaction> transactions) {
         this.transactions.setTransactions(transactions);
+        totals.clear();
+        totals.addAll(transactions);
     }
 
     /**
@@ -80,6 +107,15 @@ public class UniCash implements ReadOnlyUniCash {
      */
     public void addTransaction(Transaction p) {
         transactions.add(p);
+        totals.add(p);
+    }
+
+    /**
+     * Adds {@code history} to UniCash, in order, before all of its transactions.
+     */
+    public void prependTransactions(List<Transaction> history) {
+        transactions.addAll(0, history);
+        totals.addAll(history);
     }
 
     /**
@@ -89,12 +125,29 @@ public class UniCash implements ReadOnlyUniCash {
         return transactions.isFull();
     }
 
+    /**
+     * Returns the limit on the number of transactions in UniCash.
+     */
+    public int getMaxTransactions() {
+        return transactions.getMaxTransactions();
+    }
+
+    /**
+     * Sets the limit on the number of transactions in UniCash to {@code maxTransactions}.
+     * Transactions beyond the limit are kept, but no more can be added.
+     */
+    public void setMaxTransactions(int maxTransactions) {
+        transactions.setMaxTransactions(maxTransactions);
+    }
+
     /**
      * Replaces the given Transaction {@code target} in the list with {@code editedTransaction}.
      */
     public void setTransaction(Transaction target, Transaction editedTransaction) {
         requireNonNull(editedTransaction);
         transactions.setTransaction(target, editedTransaction);
+        totals.remove(target);
+        totals.add(editedTransaction);
     }
 
     /**
@@ -103,20 +156,85 @@ public class UniCash implements ReadOnlyUniCash {
      */
     public void removeTransaction(Transaction key) {
         transactions.remove(key);
+        totals.remove(key);
     }
 
-    private List<Transaction> getAllExpenses() {
-        return getTransactionList()
-                .stream()
-                .filter(t -> t.getType().toString().equals(TransactionType.EXPENSE.getOriginalString()))
-                .collect(Collectors.toUnmodifiableList());
+    /**
+     * Returns the transactions dated from {@code start} (inclusive) to {@code end} (exclusive),
+     * in chronological order.
+     */
+    public List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end) {
+        return transactions.getTransactionsBetween(start, end);
+    }
+
+    /**
+     * Returns the transactions dated from minute {@code firstMinute} to minute {@code lastMinute}, both inclusive
+     * and counted from the epoch, or an empty {@code Optional} if there are more than {@code limit} of them.
+     */
+    public Optional<List<Transaction>> findTransactionsDatedBetween(long firstMinute, long lastMinute, int limit) {
+        return transactions.findTransactionsDatedBetween(firstMinute, lastMinute, limit);
+    }
+
+    /**
+     * Returns the transactions with an amount from {@code minimumCents} to {@code maximumCents} cents,
+     * both inclusive, or an empty {@code Optional} if there are more than {@code limit} of them.
+     */
+    public Optional<List<Transaction>> findTransactionsWithAmountBetween(long minimumCents, long maximumCents,
+            int limit) {
+        return transactions.findTransactionsWithAmountBetween(minimumCents, maximumCents, limit);
+    }
+
+    /**
+     * Returns the distinct transactions with any of {@code categories},
+     * or an empty {@code Optional} if there are more than {@code limit} of them.
+     */
+    public Optional<List<Transaction>> findTransactionsWithAnyCategory(Collection<Category> categories, int limit) {
+        return transactions.findTransactionsWithAnyCategory(categories, limit);
+    }
+
+    /**
+     * Returns the positions of {@code transactions} in the transaction list, in ascending order and without
+     * repeats, or an empty {@code Optional} if any of them occurs in the list more than once.
+     */
+    public Optional<int[]> findPositionsOf(List<Transaction> transactions) {
+        return this.transactions.findPositionsOf(transactions);
+    }
+
+    /**
+     * Returns a test of whether a name contains {@code keyword}, ignoring case,
+     * that finds the matching names of the transactions through an index.
+     */
+    public TextMatcher getNameMatcher(String keyword) {
+        return transactions.getNameMatcher(keyword);
+    }
+
+    /**
+     * Returns a test of whether a location contains {@code keyword}, ignoring case,
+     * that finds the matching locations of the transactions through an index.
+     */
+    public TextMatcher getLocationMatcher(String keyword) {
+        return transactions.getLocationMatcher(keyword);
+    }
+
+    /**
+     * Returns the number of transactions with each category of the transactions.
+     */
+    public Map<Category, Integer> getTransactionCountPerCategory() {
+        return transactions.getTransactionCountPerCategory();
     }
 
     /**
      * Returns true if there are transactions of type "expense", and false otherwise
      */
     public boolean hasExpenses() {
-        return !getAllExpenses().isEmpty();
+        return totals.hasExpenses();
+    }
+
+    /**
+     * Returns the total amount of all incomes less the total amount of all expenses.
+     */
+    public double getBalance() {
+        return totals.getBalance();
     }
 
     /**
@@ -124,19 +242,7 @@ public class UniCash implements ReadOnlyUniCash {
      * Note: This function ignores all 'income' transactions
      */
     public HashMap<YearMonth, Double> getSumOfExpensePerYearMonth() {
-        HashMap<YearMonth, Double> sumPerMonth = new HashMap<>();
-        List<Transaction> allExpenses = getAllExpenses();
-
-        for (Transaction t : allExpenses) {
-            Double transactionAmount = t.getAmountAsDouble();
-            YearMonth yearMonth = t.getDateTime().getYearMonth();
-            if (!sumPerMonth.containsKey(yearMonth)) {
-                sumPerMonth.put(yearMonth, 0.0);
-            }
-            Double currAmount = sumPerMonth.get(yearMonth);
-            sumPerMonth.put(yearMonth, currAmount + transactionAmount);
-        }
-        return sumPerMonth;
+        return totals.getExpensesPerYearMonth();
     }
 
     /**
@@ -147,6 +253,7 @@ public class UniCash implements ReadOnlyUniCash {
     public void setBudget(Budget budget) {
         requireNonNull(budget);
         this.budget = budget;
+        budgetVersion++;
     }
 
     /**
@@ -157,6 +264,15 @@ public class UniCash implements ReadOnlyUniCash {
      */
     public void clearBudget() {
         budget = null;
+        budgetVersion++;
+    }
+
+    /**
+     * Returns the number of modifications made to the transactions and budget of this UniCash so far.
+     * The version only ever increases, so an unchanged version means unchanged data.
+     */
+    public long getVersion() {
+        return transactions.getVersion() + budgetVersion;
     }
 
     /**
@@ -164,54 +280,7 @@ public class UniCash implements ReadOnlyUniCash {
      * Note: This function ignores all 'income' transactions
      */
     public HashMap<String, Double> getSumOfExpensePerCategory() {
-        HashMap<String, Double> sumPerCategory = new HashMap<>();
-        List<Transaction> allExpenses = getAllExpenses();
-        String uncategorizedCategoryName = "Uncategorized";
-
-        for (Transaction t : allExpenses) {
-            Double transactionAmount = t.getAmountAsDouble();
-            boolean hasNoCategory = t.getCategories().asUnmodifiableObservableList().isEmpty();
-
-            if (hasNoCategory) {
-                handleNoCategoryTransaction(
-                        sumPerCategory,
-                        uncategorizedCategoryName,
-                        transactionAmount
-                );
-            } else {
-                handleCategoryTransaction(
-                        t.getCategories().asUnmodifiableObservableList(),
-                        sumPerCategory,
-                        transactionAmount
-                );
-            }
-        }
-
-        return sumPerCategory;
-    }
-
-    private void handleNoCategoryTransaction(
-            HashMap<String, Double> sumPerCategory,
-            String uncategorizedCategoryName,
-            Double transactionAmount) {
-        if (!sumPerCategory.containsKey(uncategorizedCategoryName)) {
-            sumPerCategory.put(uncategorizedCategoryName, (double) 0);
-        }
-        Double currAmount = sumPerCategory.get(uncategorizedCategoryName);
-        sumPerCategory.put(uncategorizedCategoryName, currAmount + transactionAmount);
-    }
-
-    private void handleCategoryTransaction(
-            ObservableList<Category> categories,
-            HashMap<String, Double> sumPerCategory,
-            Double transactionAmount) {
-        for (Category transactionCategory : categories) {
-            if (!sumPerCategory.containsKey(transactionCategory.category)) {
-                sumPerCategory.put(transactionCategory.category, (double) 0);
-            }
-            Double currAmount = sumPerCategory.get(transactionCategory.category);
-            sumPerCategory.put(transactionCategory.category, currAmount + transactionAmount);
-        }
+        return totals.getExpensesPerCategory();
     }
 
     //// util methods
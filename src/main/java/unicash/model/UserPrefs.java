@@ -1,12 +1,14 @@
 package unicash.model;
 
 import static java.util.Objects.requireNonNull;
+import static unicash.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import unicash.commons.core.GuiSettings;
+import unicash.model.transaction.TransactionList;
 
 /**
  * Represents User's preferences.
@@ -15,6 +17,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path uniCashFilePath = Paths.get("data", "unicash.json");
+    private int maxTransactions = TransactionList.MAX_TRANSACTIONS;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +40,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setUniCashFilePath(newUserPrefs.getUniCashFilePath());
+        setMaxTransactions(newUserPrefs.getMaxTransactions());
     }
 
     public GuiSettings getGuiSettings() {
@@ -57,6 +61,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.uniCashFilePath = uniCashFilePath;
     }
 
+    public int getMaxTransactions() {
+        return maxTransactions;
+    }
+
+    /**
+     * Sets the limit on the number of transactions, which is applied when UniCash starts.
+     */
+    public void setMaxTransactions(int maxTransactions) {
+        checkArgument(TransactionList.isValidMaxTransactions(maxTransactions),
+                TransactionList.MESSAGE_LIMIT_CONSTRAINTS);
+        this.maxTransactions = maxTransactions;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -70,12 +87,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && uniCashFilePath.equals(otherUserPrefs.uniCashFilePath);
+                && uniCashFilePath.equals(otherUserPrefs.uniCashFilePath)
+                && maxTransactions == otherUserPrefs.maxTransactions;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, uniCashFilePath);
+        return Objects.hash(guiSettings, uniCashFilePath, maxTransactions);
     }
 
     @Override
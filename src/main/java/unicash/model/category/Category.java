@@ -3,6 +3,8 @@ package unicash.model.category;
 import static java.util.Objects.requireNonNull;
 import static unicash.commons.util.AppUtil.checkArgument;
 
+import unicash.commons.util.InterningPool;
+
 /**
  * Represents a Category in UniCash.
  * Guarantees: immutable; categoryName is case-insensitive; categoryName is valid
@@ -23,6 +25,8 @@ public class Category {
 
     public static final String CATEGORY_PREFIX_SYMBOL = "#";
 
+    private static final InterningPool<Category> pool = new InterningPool<>("categories");
+
     public final String category;
 
     /**
@@ -38,6 +42,17 @@ public class Category {
         this.category = category.toLowerCase();
     }
 
+    /**
+     * Returns a {@code Category}, shared with every other {@code Category} returned for the same name
+     * in any case. The name is only validated the first time it is seen.
+     *
+     * @param category A valid category name.
+     */
+    public static Category of(String category) {
+        requireNonNull(category);
+        return pool.intern(category.toLowerCase(), Category::new);
+    }
+
     /**
      * Returns true if a given string is a valid category.
      */
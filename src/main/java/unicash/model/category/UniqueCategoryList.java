@@ -3,6 +3,7 @@ package unicash.model.category;
 import static java.util.Objects.requireNonNull;
 import static unicash.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -21,6 +22,9 @@ import unicash.model.category.exceptions.MaxCategoryException;
  * unique in terms of identity in the UniqueCategoryList.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * The categories are kept in a small array that is replaced, never modified, on every change, so copies of a list
+ * share the array of the original. The {@code ObservableList} view is only created once it is asked for.
  */
 public class UniqueCategoryList implements Iterable<Category> {
 
@@ -30,9 +34,11 @@ public class UniqueCategoryList implements Iterable<Category> {
             "All categories must be case-insensitively unique, duplicate categories are not allowed.";
     public static final int MAX_CATEGORIES = 5;
 
-    private final ObservableList<Category> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Category> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private static final Category[] NO_CATEGORIES = new Category[0];
+
+    private Category[] categories = NO_CATEGORIES;
+    private ObservableList<Category> internalList;
+    private ObservableList<Category> internalUnmodifiableList;
 
     /**
      * Default constructor to create an empty category list.
@@ -53,7 +59,7 @@ public class UniqueCategoryList implements Iterable<Category> {
         if (isMoreThanMax(categoryList)) {
             throw new MaxCategoryException();
         }
-        internalList.setAll(categoryList);
+        setCategoryArray(toArray(categoryList));
     }
 
     /**
@@ -61,21 +67,30 @@ public class UniqueCategoryList implements Iterable<Category> {
      */
     public boolean contains(Category toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return indexOf(toCheck) != -1;
+    }
+
+    private int indexOf(Category toFind) {
+        for (int i = 0; i < categories.length; i++) {
+            if (categories[i].equals(toFind)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
      * Returns true if the storage is full, false otherwise.
      */
     public boolean isMax() {
-        return internalList.size() == MAX_CATEGORIES;
+        return categories.length == MAX_CATEGORIES;
     }
 
     /**
-     * Returns true if internalList is empty, false otherwise.
+     * Returns true if the list is empty, false otherwise.
      */
     public boolean isEmpty() {
-        return internalList.size() == 0;
+        return categories.length == 0;
     }
 
     /**
@@ -90,7 +105,9 @@ public class UniqueCategoryList implements Iterable<Category> {
         if (isMax()) {
             throw new MaxCategoryException();
         }
-        internalList.add(toAdd);
+        Category[] added = Arrays.copyOf(categories, categories.length + 1);
+        added[categories.length] = toAdd;
+        setCategoryArray(added);
     }
 
     /**
@@ -101,7 +118,7 @@ public class UniqueCategoryList implements Iterable<Category> {
     public void setCategory(Category target, Category editedCategory) {
         requireAllNonNull(target, editedCategory);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new CategoryNotFoundException();
         }
@@ -110,7 +127,9 @@ public class UniqueCategoryList implements Iterable<Category> {
             throw new DuplicateCategoryException();
         }
 
-        internalList.set(index, editedCategory);
+        Category[] edited = categories.clone();
+        edited[index] = editedCategory;
+        setCategoryArray(edited);
     }
 
     /**
@@ -119,9 +138,15 @@ public class UniqueCategoryList implements Iterable<Category> {
      */
     public void remove(Category toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new CategoryNotFoundException();
         }
+
+        Category[] remaining = new Category[categories.length - 1];
+        System.arraycopy(categories, 0, remaining, 0, index);
+        System.arraycopy(categories, index + 1, remaining, index, remaining.length - index);
+        setCategoryArray(remaining);
     }
 
     /**
@@ -129,7 +154,7 @@ public class UniqueCategoryList implements Iterable<Category> {
      */
     public void setCategories(UniqueCategoryList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setCategoryArray(replacement.categories);
     }
 
     /**
@@ -146,19 +171,37 @@ public class UniqueCategoryList implements Iterable<Category> {
             throw new MaxCategoryException();
         }
 
-        internalList.setAll(categories);
+        setCategoryArray(toArray(categories));
+    }
+
+    private static Category[] toArray(List<Category> categories) {
+        return categories.isEmpty() ? NO_CATEGORIES : categories.toArray(NO_CATEGORIES);
+    }
+
+    private void setCategoryArray(Category[] newCategories) {
+        categories = newCategories;
+        if (internalList != null) {
+            internalList.setAll(newCategories);
+        }
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Category> asUnmodifiableObservableList() {
+        if (internalUnmodifiableList == null) {
+            internalList = FXCollections.observableArrayList(categories);
+            internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        }
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an iterator over the categories at the time it was created, which does not support removal.
+     */
     @Override
     public Iterator<Category> iterator() {
-        return internalList.iterator();
+        return Arrays.asList(categories).iterator();
     }
 
     @Override
@@ -171,27 +214,43 @@ public class UniqueCategoryList implements Iterable<Category> {
             return false;
         }
 
+        // Both lists are free of duplicates, so lists of the same size are equal if one contains the other
         UniqueCategoryList otherList = (UniqueCategoryList) other;
-        return new HashSet<>(internalList).equals(new HashSet<>(otherList.internalList));
+        if (categories.length != otherList.categories.length) {
+            return false;
+        }
+        for (Category category : categories) {
+            if (otherList.indexOf(category) == -1) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    /**
+     * Returns a hash code that does not depend on the order of the categories, as {@link #equals(Object)} does not.
+     */
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        int hashCode = 0;
+        for (Category category : categories) {
+            hashCode += category.hashCode();
+        }
+        return hashCode;
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return Arrays.toString(categories);
     }
 
     /**
-     * Returns the size of the encapsulated ObservableList
+     * Returns the number of categories in the list
      *
      * @return int size of the list
      */
     public int getSize() {
-        return internalList.size();
+        return categories.length;
     }
 
     /**
@@ -221,8 +280,7 @@ public class UniqueCategoryList implements Iterable<Category> {
      * @return all categories as a string
      */
     public String joinCategoriesAsString() {
-        String categoriesString = internalList
-                .stream()
+        String categoriesString = Arrays.stream(categories)
                 .map(category -> category.toString())
                 .collect(Collectors.joining(","));
 
@@ -235,8 +293,7 @@ public class UniqueCategoryList implements Iterable<Category> {
      * @return all categories as a List of categories
      */
     public List<Category> joinCategoriesAsList() {
-        List<Category> categoryList = internalList
-                .stream()
+        List<Category> categoryList = Arrays.stream(categories)
                 .collect(Collectors.toList());
 
         return categoryList;
@@ -5,7 +5,8 @@ import static unicash.commons.util.AppUtil.checkArgument;
 /**
  * Represents a transaction or budget's amount.
  *
- * <p>Amounts are stored as a double and are rounded to the nearest 2 decimal places.</p>
+ * <p>Amounts are rounded to the nearest 2 decimal places and stored as a whole number of cents,
+ * so that sums of amounts are exact.</p>
  *
  * <p>Amounts must be positive and cannot exceed the value of {@code Integer.MAX_VALUE}.</p>
  */
@@ -17,7 +18,9 @@ public class Amount {
     // Indicates the currency currently being used, set to dollar by default.
     public static final String CURRENCY_INDICATOR = "$";
 
-    public final double amount;
+    private static final long CENTS_PER_UNIT = 100;
+
+    private final long cents;
 
     /**
      * Constructs an {@code Amount}.
@@ -28,7 +31,7 @@ public class Amount {
         checkArgument(isValidAmount(amount), MESSAGE_CONSTRAINTS);
 
         /* A strict rounding of input amounts is enforced to avoid calculation discrepancies */
-        this.amount = round(amount);
+        this.cents = toCents(amount);
     }
 
     /**
@@ -45,7 +48,43 @@ public class Amount {
         double parsedAmount = Double.parseDouble(trimmedAmount.substring(starting));
 
         /* A strict rounding of input amounts is enforced to avoid calculation discrepancies */
-        this.amount = round(parsedAmount);
+        this.cents = toCents(parsedAmount);
+    }
+
+    private Amount(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Returns an {@code Amount} of {@code cents} cents.
+     *
+     * @param cents A valid number of cents.
+     */
+    public static Amount ofCents(long cents) {
+        checkArgument(isValidAmount(centsToDouble(cents)), MESSAGE_CONSTRAINTS);
+        return new Amount(cents);
+    }
+
+    /**
+     * Returns the amount as a whole number of cents.
+     */
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * Returns the amount as a double, for displaying it or storing it as a decimal number.
+     * Sums of amounts should be taken over {@link #getCents()} instead.
+     */
+    public double getValue() {
+        return centsToDouble(cents);
+    }
+
+    /**
+     * Returns a number of {@code cents}, which may be negative, as a double of the same amount.
+     */
+    public static double centsToDouble(long cents) {
+        return cents / (double) CENTS_PER_UNIT;
     }
 
     /**
@@ -79,7 +118,16 @@ public class Amount {
      * Returns a rounded two-decimal precision String version of an {@code Amount}.
      */
     public static String amountToDecimalString(Amount amt) {
-        return String.format("%.2f", amt.amount);
+        return centsToDecimalString(amt.cents);
+    }
+
+    /**
+     * Returns a two-decimal precision String version of a number of {@code cents}, which may be negative.
+     */
+    public static String centsToDecimalString(long cents) {
+        String sign = cents < 0 ? "-" : "";
+        long absoluteCents = Math.abs(cents);
+        return String.format("%s%d.%02d", sign, absoluteCents / CENTS_PER_UNIT, absoluteCents % CENTS_PER_UNIT);
     }
 
 
@@ -90,16 +138,16 @@ public class Amount {
      * @return the amount as a String
      */
     public String amountString() {
-        return Double.toString(amount);
+        return Double.toString(getValue());
     }
 
-    private static double round(double amount) {
-        return Math.round(amount * 100.0) / 100.0;
+    private static long toCents(double amount) {
+        return Math.round(amount * CENTS_PER_UNIT);
     }
 
     @Override
     public int hashCode() {
-        return Double.hashCode(amount);
+        return Long.hashCode(cents);
     }
 
     @Override
@@ -112,12 +160,12 @@ public class Amount {
             return false;
         }
 
-        return amount == ((Amount) other).amount;
+        return cents == ((Amount) other).cents;
     }
 
     @Override
     public String toString() {
-        return String.format("%s%.2f", CURRENCY_INDICATOR, amount);
+        return CURRENCY_INDICATOR + centsToDecimalString(cents);
     }
 }
 
@@ -6,6 +6,7 @@ import static unicash.commons.util.CollectionUtil.requireAllNonNull;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
@@ -33,6 +34,8 @@ public class DateTime {
                     .appendOptional(DateTimeFormatter.ofPattern(DATETIME_STORAGE_PATTERN));
 
     private static final DateTimeFormatter DATETIME_FORMATTER = DATETIME_FORMATTER_BUILDER.toFormatter();
+    private static final DateTimeFormatter DATETIME_STORAGE_FORMATTER =
+            DateTimeFormatter.ofPattern(DATETIME_STORAGE_PATTERN);
 
     private String originalDateTime;
     private LocalDateTime dateTime;
@@ -61,6 +64,21 @@ public class DateTime {
         init(dateTime, clock);
     }
 
+    private DateTime(LocalDateTime dateTime) {
+        this.dateTime = dateTime.truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    /**
+     * Returns a {@code DateTime} at the given {@code dateTime}, truncated to the minute.
+     * Skips parsing entirely, for date times that are already known, such as those read back from storage.
+     *
+     * @param dateTime A local date time.
+     */
+    public static DateTime of(LocalDateTime dateTime) {
+        requireAllNonNull(dateTime);
+        return new DateTime(dateTime);
+    }
+
     /**
      * Initialises the DateTime object when called by constructors.
      * Sets the dateTime based on given {@code dateTime} and {@code clock}.
@@ -90,9 +108,26 @@ public class DateTime {
      * @return text string of the LocalDateTime object
      */
     public String inputString() {
+        if (originalDateTime == null) {
+            originalDateTime = dateTime.format(DATETIME_STORAGE_FORMATTER);
+        }
         return originalDateTime;
     }
 
+    /**
+     * Returns the number of minutes from the epoch to this date time, taken as a UTC date time.
+     */
+    public long getEpochMinute() {
+        return toEpochMinute(dateTime);
+    }
+
+    /**
+     * Returns the number of whole minutes from the epoch to {@code dateTime}, taken as a UTC date time.
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
     /**
      * Returns the YearMonth corresponding to dateTime.
      */
@@ -3,6 +3,8 @@ package unicash.model.transaction;
 import static java.util.Objects.requireNonNull;
 import static unicash.commons.util.AppUtil.checkArgument;
 
+import unicash.commons.util.InterningPool;
+
 /**
  * Represents a Transaction's location.
  */
@@ -17,6 +19,10 @@ public class Location {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}_&#.,()@-][\\p{Alnum} _&#.,()@-]{0,499}";
 
+    private static final String BLANK_LOCATION = "-";
+
+    private static final InterningPool<Location> pool = new InterningPool<>("locations");
+
     public final String location;
 
     /**
@@ -27,13 +33,24 @@ public class Location {
     public Location(String location) {
         requireNonNull(location);
         if (location.isBlank()) {
-            this.location = "-";
+            this.location = BLANK_LOCATION;
         } else {
             checkArgument(isValidLocation(location), MESSAGE_CONSTRAINTS);
             this.location = location;
         }
     }
 
+    /**
+     * Returns a {@code Location}, shared with every other {@code Location} returned for the same location.
+     * A blank location is the same as {@code "-"}. The location is only validated the first time it is seen.
+     *
+     * @param location A valid or blank location.
+     */
+    public static Location of(String location) {
+        requireNonNull(location);
+        return pool.intern(location.isBlank() ? BLANK_LOCATION : location, Location::new);
+    }
+
     /**
      * Returns true if a given string is a valid location.
      */
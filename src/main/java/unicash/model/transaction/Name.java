@@ -3,6 +3,8 @@ package unicash.model.transaction;
 import static java.util.Objects.requireNonNull;
 import static unicash.commons.util.AppUtil.checkArgument;
 
+import unicash.commons.util.InterningPool;
+
 /**
  * Represents a Transaction's name.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +21,8 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "^[\\p{Alnum}_&#.,()@-][\\p{Alnum} _&#.,()@-]{0,499}$";
 
+    private static final InterningPool<Name> pool = new InterningPool<>("names");
+
     public final String fullName;
 
     /**
@@ -32,6 +36,16 @@ public class Name {
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name}, shared with every other {@code Name} returned for the same name.
+     * The name is only validated the first time it is seen.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        return pool.intern(name, Name::new);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
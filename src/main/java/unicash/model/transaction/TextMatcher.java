@@ -0,0 +1,15 @@
+package unicash.model.transaction;
+
+import java.util.function.Predicate;
+
+/**
+ * Tests whether a text, such as the name of a Transaction, contains a keyword, using an index of the texts
+ * of the Transactions in a {@code TransactionList}.
+ */
+public interface TextMatcher extends Predicate<String> {
+
+    /**
+     * Returns the number of Transactions in the list whose text contains the keyword.
+     */
+    int countMatches();
+}
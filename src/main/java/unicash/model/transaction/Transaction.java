@@ -20,6 +20,8 @@ public class Transaction {
     private final Type type;
     private final UniqueCategoryList categories = new UniqueCategoryList();
 
+    /** Cached hash code, computed on first use. Zero if not computed yet. */
+    private int hash;
 
     /**
      * Constructs a Transaction with all fields populated.
@@ -51,7 +53,7 @@ public class Transaction {
     }
 
     public Double getAmountAsDouble() {
-        return amount.amount;
+        return amount.getValue();
     }
 
     public DateTime getDateTime() {
@@ -75,13 +77,21 @@ public class Transaction {
         return type.type.getOriginalString();
     }
 
+    /**
+     * Returns the categories of this Transaction, which must not be modified.
+     */
     public UniqueCategoryList getCategories() {
         return categories;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, amount, dateTime, location, type, categories);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(name, amount, dateTime, location, type, categories);
+            hash = h;
+        }
+        return h;
     }
 
     /**
@@ -108,6 +118,9 @@ public class Transaction {
         }
 
         Transaction otherTransaction = (Transaction) other;
+        if (hash != 0 && otherTransaction.hash != 0 && hash != otherTransaction.hash) {
+            return false;
+        }
         return name.equals(otherTransaction.name)
                 && type.equals(otherTransaction.type)
                 && amount.equals(otherTransaction.amount)
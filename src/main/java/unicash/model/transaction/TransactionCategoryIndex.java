@@ -0,0 +1,141 @@
+package unicash.model.transaction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import unicash.model.category.Category;
+
+/**
+ * Groups Transactions by category, so that the Transactions of a category can be found
+ * without checking the categories of every Transaction.
+ *
+ * <p>Each category is mapped to the Transaction objects that have it, with the number of times each object
+ * was added, as the same object can be added more than once. Transactions without any category are
+ * kept in a group of their own.</p>
+ */
+class TransactionCategoryIndex {
+
+    private final Map<Category, Map<Transaction, Integer>> transactionsByCategory = new HashMap<>();
+    private final Map<Transaction, Integer> uncategorizedTransactions = new IdentityHashMap<>();
+
+    /**
+     * Adds {@code transaction} to the index.
+     */
+    void add(Transaction transaction) {
+        if (transaction.getCategories().isEmpty()) {
+            uncategorizedTransactions.merge(transaction, 1, Integer::sum);
+            return;
+        }
+
+        for (Category category : transaction.getCategories()) {
+            transactionsByCategory.computeIfAbsent(category, key -> new IdentityHashMap<>())
+                    .merge(transaction, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Adds all of {@code transactions} to the index.
+     */
+    void addAll(Collection<Transaction> transactions) {
+        transactions.forEach(this::add);
+    }
+
+    /**
+     * Removes the object {@code transaction} from the index once.
+     * The object must have been added to the index.
+     */
+    void remove(Transaction transaction) {
+        if (transaction.getCategories().isEmpty()) {
+            uncount(uncategorizedTransactions, transaction);
+            return;
+        }
+
+        for (Category category : transaction.getCategories()) {
+            Map<Transaction, Integer> transactionsWithCategory = transactionsByCategory.get(category);
+            uncount(transactionsWithCategory, transaction);
+            if (transactionsWithCategory.isEmpty()) {
+                transactionsByCategory.remove(category);
+            }
+        }
+    }
+
+    private static void uncount(Map<Transaction, Integer> transactions, Transaction transaction) {
+        transactions.computeIfPresent(transaction, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Removes all Transactions from the index.
+     */
+    void clear() {
+        transactionsByCategory.clear();
+        uncategorizedTransactions.clear();
+    }
+
+    /**
+     * Returns the categories of the Transactions in the index.
+     */
+    Set<Category> getCategories() {
+        return Collections.unmodifiableSet(transactionsByCategory.keySet());
+    }
+
+    /**
+     * Returns the Transactions with {@code category}, each as many times as it was added, in no particular order.
+     */
+    List<Transaction> getTransactionsWithCategory(Category category) {
+        return toList(transactionsByCategory.getOrDefault(category, Collections.emptyMap()));
+    }
+
+    /**
+     * Returns the distinct Transaction objects with any of {@code categories}, in no particular order,
+     * or an empty {@code Optional} if there are more than {@code limit} of them.
+     * The lookup stops as soon as more than {@code limit} of them are found.
+     */
+    Optional<List<Transaction>> getTransactionsWithAnyOf(Collection<Category> categories, int limit) {
+        Set<Transaction> transactions = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Category category : categories) {
+            for (Transaction transaction : transactionsByCategory.getOrDefault(category, Collections.emptyMap())
+                    .keySet()) {
+                transactions.add(transaction);
+                if (transactions.size() > limit) {
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.of(new ArrayList<>(transactions));
+    }
+
+    /**
+     * Returns the number of distinct Transaction objects with each category in the index.
+     */
+    Map<Category, Integer> getTransactionCountPerCategory() {
+        Map<Category, Integer> transactionCounts = new HashMap<>();
+        transactionsByCategory.forEach((category, transactions) ->
+                transactionCounts.put(category, transactions.size()));
+        return transactionCounts;
+    }
+
+    /**
+     * Returns the Transactions without any category, each as many times as it was added, in no particular order.
+     */
+    List<Transaction> getUncategorizedTransactions() {
+        return toList(uncategorizedTransactions);
+    }
+
+    private static List<Transaction> toList(Map<Transaction, Integer> transactionCounts) {
+        List<Transaction> transactions = new ArrayList<>(transactionCounts.size());
+        transactionCounts.forEach((transaction, count) -> {
+            for (int i = 0; i < count; i++) {
+                transactions.add(transaction);
+            }
+        });
+        return transactions;
+    }
+
+}
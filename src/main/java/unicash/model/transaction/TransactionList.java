@@ -1,26 +1,53 @@
 package unicash.model.transaction;
 
 import static java.util.Objects.requireNonNull;
+import static unicash.commons.util.AppUtil.checkArgument;
 import static unicash.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import unicash.model.category.Category;
 import unicash.model.transaction.exceptions.MaxTransactionException;
 import unicash.model.transaction.exceptions.TransactionNotFoundException;
 
 /**
  * A list of Transactions that does not allow nulls.
  * Supports a minimal set of list operations.
+ *
+ * <p>The list keeps an index of the positions of its Transaction objects, so that a Transaction can be
+ * edited or removed without scanning the list, and counts its equal Transactions, so that checking
+ * whether it contains a Transaction takes constant time. Its Transactions are also ordered by date time
+ * and by amount, and grouped by category, so that the ones within a period, within a range of amounts or
+ * of a category can be found without scanning the list. Their names and locations are indexed for substring
+ * searches once the list is first searched by them.</p>
+ *
+ * <p>Each list has its own limit on its number of Transactions, which is {@value #MAX_TRANSACTIONS} unless
+ * given otherwise when the list is created.</p>
  */
 public class TransactionList implements Iterable<Transaction> {
+    /** The default limit on the number of transactions. */
     public static final int MAX_TRANSACTIONS = 100000;
+    /** The largest limit on the number of transactions that can be configured. */
+    public static final int MAX_CONFIGURABLE_TRANSACTIONS = 10_000_000;
     public static final String MESSAGE_SIZE_CONSTRAINTS =
-            "UniCa$h supports up to a maximum of 100,000 transactions.";
+            "UniCa$h supports up to a maximum of %,d transactions.";
+    public static final String MESSAGE_LIMIT_CONSTRAINTS =
+            "The limit on the number of transactions must be from 1 to " + MAX_CONFIGURABLE_TRANSACTIONS;
 
     private static final Logger logger = Logger.getLogger("TransactionListLogger");
     private static final String TRANSACTION_NOT_FOUND_LOG = "Transaction not found in TransactionList!";
@@ -28,13 +55,42 @@ public class TransactionList implements Iterable<Transaction> {
     private final ObservableList<Transaction> internalList = FXCollections.observableArrayList();
     private final ObservableList<Transaction> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final TransactionPositionIndex positionIndex = new TransactionPositionIndex(internalList);
+    private final Map<Transaction, Integer> equalTransactionCounts = new HashMap<>();
+    private final TransactionRangeIndex dateIndex =
+            new TransactionRangeIndex(transaction -> transaction.getDateTime().getEpochMinute());
+    private final TransactionRangeIndex amountIndex =
+            new TransactionRangeIndex(transaction -> transaction.getAmount().getCents());
+    private final TransactionCategoryIndex categoryIndex = new TransactionCategoryIndex();
+
+    /** Built when first searched, so that lists which are never searched, such as copies, do not build them. */
+    private TransactionTextIndex nameIndex;
+    private TransactionTextIndex locationIndex;
+
+    private int maxTransactions;
+    private long version;
+
+    /**
+     * Creates an empty list that holds up to {@value #MAX_TRANSACTIONS} Transactions.
+     */
+    public TransactionList() {
+        this(MAX_TRANSACTIONS);
+    }
+
+    /**
+     * Creates an empty list that holds up to {@code maxTransactions} Transactions.
+     */
+    public TransactionList(int maxTransactions) {
+        checkArgument(isValidMaxTransactions(maxTransactions), MESSAGE_LIMIT_CONSTRAINTS);
+        this.maxTransactions = maxTransactions;
+    }
 
     /**
      * Returns true if the list contains an equivalent Transaction as the given argument.
      */
     public boolean contains(Transaction toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return equalTransactionCounts.containsKey(toCheck);
     }
 
     /**
@@ -46,9 +102,15 @@ public class TransactionList implements Iterable<Transaction> {
             throw new MaxTransactionException();
         }
         internalList.add(toAdd);
+        positionIndex.inserted(internalList.size() - 1, internalList.size());
+        countEqualTransaction(toAdd);
+        dateIndex.add(toAdd);
+        amountIndex.add(toAdd);
+        categoryIndex.add(toAdd);
+        updateTextIndexes(index -> index.add(toAdd));
+        version++;
     }
 
-
     /**
      * Replaces the Transaction {@code target} in the list with {@code editedTransaction}.
      * {@code target} must exist in the list.
@@ -56,24 +118,27 @@ public class TransactionList implements Iterable<Transaction> {
     public void setTransaction(Transaction target, Transaction editedTransaction) {
         requireAllNonNull(target, editedTransaction);
 
-        int targetHashCode = target.originalHashCode();
-        int targetIndex = -1;
-
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).originalHashCode() == targetHashCode) {
-                targetIndex = i;
-                break;
-            }
-        }
-
-
+        int targetIndex = positionIndex.indexOf(target);
         if (targetIndex == -1) {
             logger.log(Level.INFO, TRANSACTION_NOT_FOUND_LOG);
             throw new TransactionNotFoundException();
         }
 
         internalList.set(targetIndex, editedTransaction);
-
+        positionIndex.replaced(targetIndex, target);
+        uncountEqualTransaction(target);
+        countEqualTransaction(editedTransaction);
+        dateIndex.remove(target);
+        dateIndex.add(editedTransaction);
+        amountIndex.remove(target);
+        amountIndex.add(editedTransaction);
+        categoryIndex.remove(target);
+        categoryIndex.add(editedTransaction);
+        updateTextIndexes(index -> {
+            index.remove(target);
+            index.add(editedTransaction);
+        });
+        version++;
     }
 
     /**
@@ -83,29 +148,47 @@ public class TransactionList implements Iterable<Transaction> {
     public void remove(Transaction toRemove) {
         requireNonNull(toRemove);
 
-        int targetHashCode = toRemove.originalHashCode();
-        int targetIndex = -1;
-
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).originalHashCode() == targetHashCode) {
-                targetIndex = i;
-                break;
-            }
-        }
-
+        int targetIndex = positionIndex.indexOf(toRemove);
         if (targetIndex == -1) {
             logger.log(Level.INFO, TRANSACTION_NOT_FOUND_LOG);
             throw new TransactionNotFoundException();
         }
 
-        internalList.remove(targetIndex);
+        Transaction removed = internalList.remove(targetIndex);
+        positionIndex.removed(targetIndex, removed);
+        uncountEqualTransaction(removed);
+        dateIndex.remove(removed);
+        amountIndex.remove(removed);
+        categoryIndex.remove(removed);
+        updateTextIndexes(index -> index.remove(removed));
+        version++;
+    }
+
+    /**
+     * Inserts all of {@code toAdd} at {@code index} of the list, in order.
+     * {@code toAdd} must not contain null.
+     */
+    public void addAll(int index, List<Transaction> toAdd) {
+        requireAllNonNull(toAdd);
+        if (internalList.size() + toAdd.size() > maxTransactions) {
+            throw new MaxTransactionException();
+        }
+
+        internalList.addAll(index, toAdd);
+        positionIndex.inserted(index, index + toAdd.size());
+        toAdd.forEach(this::countEqualTransaction);
+        dateIndex.addAll(toAdd);
+        amountIndex.addAll(toAdd);
+        categoryIndex.addAll(toAdd);
+        updateTextIndexes(textIndex -> textIndex.addAll(toAdd));
+        version++;
     }
 
     /**
      * Returns true if the storage is full, false otherwise.
      */
     public boolean isFull() {
-        return internalList.size() == MAX_TRANSACTIONS;
+        return internalList.size() >= maxTransactions;
     }
 
     /**
@@ -114,7 +197,13 @@ public class TransactionList implements Iterable<Transaction> {
      */
     public void setTransactions(TransactionList replacement) {
         requireNonNull(replacement);
+        if (isMoreThanMax(replacement.internalList)) {
+            throw new MaxTransactionException();
+        }
+
         internalList.setAll(replacement.internalList);
+        reindex();
+        version++;
     }
 
     /**
@@ -128,6 +217,177 @@ public class TransactionList implements Iterable<Transaction> {
         }
 
         internalList.setAll(transactions);
+        reindex();
+        version++;
+    }
+
+    private void reindex() {
+        positionIndex.reset();
+        equalTransactionCounts.clear();
+        internalList.forEach(this::countEqualTransaction);
+        dateIndex.clear();
+        dateIndex.addAll(internalList);
+        amountIndex.clear();
+        amountIndex.addAll(internalList);
+        categoryIndex.clear();
+        categoryIndex.addAll(internalList);
+        updateTextIndexes(index -> {
+            index.clear();
+            index.addAll(internalList);
+        });
+    }
+
+    /**
+     * Applies {@code update} to each text index that has been built.
+     */
+    private void updateTextIndexes(Consumer<TransactionTextIndex> update) {
+        if (nameIndex != null) {
+            update.accept(nameIndex);
+        }
+        if (locationIndex != null) {
+            update.accept(locationIndex);
+        }
+    }
+
+    /**
+     * Returns a text index of the transactions in this list, of the texts given by {@code textOfTransaction}.
+     */
+    private TransactionTextIndex buildTextIndex(Function<Transaction, String> textOfTransaction) {
+        TransactionTextIndex textIndex = new TransactionTextIndex(textOfTransaction);
+        textIndex.addAll(internalList);
+        return textIndex;
+    }
+
+    private void countEqualTransaction(Transaction transaction) {
+        equalTransactionCounts.merge(transaction, 1, Integer::sum);
+    }
+
+    private void uncountEqualTransaction(Transaction transaction) {
+        equalTransactionCounts.computeIfPresent(transaction, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Returns the Transactions dated from {@code start} (inclusive) to {@code end} (exclusive),
+     * in chronological order.
+     */
+    public List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return dateIndex.getTransactionsBetween(DateTime.toEpochMinute(start), DateTime.toEpochMinute(end));
+    }
+
+    /**
+     * Returns the Transactions dated from minute {@code firstMinute} to minute {@code lastMinute}, both inclusive
+     * and counted from the epoch, in chronological order, or an empty {@code Optional} if there are more than
+     * {@code limit} of them.
+     */
+    public Optional<List<Transaction>> findTransactionsDatedBetween(long firstMinute, long lastMinute, int limit) {
+        return dateIndex.getTransactionsWithin(firstMinute, lastMinute, limit);
+    }
+
+    /**
+     * Returns the Transactions with an amount from {@code minimumCents} to {@code maximumCents} cents,
+     * both inclusive, in order of their amounts, or an empty {@code Optional} if there are more than
+     * {@code limit} of them.
+     */
+    public Optional<List<Transaction>> findTransactionsWithAmountBetween(long minimumCents, long maximumCents,
+            int limit) {
+        return amountIndex.getTransactionsWithin(minimumCents, maximumCents, limit);
+    }
+
+    /**
+     * Returns the distinct Transactions with any of {@code categories}, in no particular order,
+     * or an empty {@code Optional} if there are more than {@code limit} of them.
+     */
+    public Optional<List<Transaction>> findTransactionsWithAnyCategory(Collection<Category> categories, int limit) {
+        requireAllNonNull(categories);
+        return categoryIndex.getTransactionsWithAnyOf(categories, limit);
+    }
+
+    /**
+     * Returns the positions in this list of {@code transactions}, which must be in this list, in ascending order
+     * and without repeats. Returns an empty {@code Optional} if any of the Transaction objects occurs in this
+     * list more than once, as only the position of its first occurrence is indexed.
+     */
+    public Optional<int[]> findPositionsOf(List<Transaction> transactions) {
+        requireAllNonNull(transactions);
+        int[] positions = new int[transactions.size()];
+        for (int i = 0; i < positions.length; i++) {
+            Transaction transaction = transactions.get(i);
+            if (positionIndex.countOf(transaction) != 1) {
+                return Optional.empty();
+            }
+            positions[i] = positionIndex.indexOf(transaction);
+        }
+
+        Arrays.sort(positions);
+        int distinctCount = 0;
+        for (int i = 0; i < positions.length; i++) {
+            if (i == 0 || positions[i] != positions[i - 1]) {
+                positions[distinctCount++] = positions[i];
+            }
+        }
+        return Optional.of(Arrays.copyOf(positions, distinctCount));
+    }
+
+    /**
+     * Returns the categories of the Transactions in this list.
+     */
+    public Set<Category> getCategories() {
+        return categoryIndex.getCategories();
+    }
+
+    /**
+     * Returns the Transactions with {@code category}, in no particular order.
+     */
+    public List<Transaction> getTransactionsWithCategory(Category category) {
+        requireNonNull(category);
+        return categoryIndex.getTransactionsWithCategory(category);
+    }
+
+    /**
+     * Returns the number of distinct Transaction objects with each category of the Transactions in this list.
+     */
+    public Map<Category, Integer> getTransactionCountPerCategory() {
+        return categoryIndex.getTransactionCountPerCategory();
+    }
+
+    /**
+     * Returns the Transactions without any category, in no particular order.
+     */
+    public List<Transaction> getUncategorizedTransactions() {
+        return categoryIndex.getUncategorizedTransactions();
+    }
+
+    /**
+     * Returns a test of whether a name contains {@code keyword}, ignoring case. The names in this list
+     * are searched for the keyword through an index, so testing the name of a Transaction in this list
+     * is a lookup. The index is built on the first call. The test stays correct as the list changes.
+     */
+    public TextMatcher getNameMatcher(String keyword) {
+        if (nameIndex == null) {
+            nameIndex = buildTextIndex(transaction -> transaction.getName().fullName);
+        }
+        return nameIndex.getMatcher(keyword);
+    }
+
+    /**
+     * Returns a test of whether a location contains {@code keyword}, ignoring case. The locations in this
+     * list are searched for the keyword through an index, so testing the location of a Transaction in this
+     * list is a lookup. The index is built on the first call. The test stays correct as the list changes.
+     */
+    public TextMatcher getLocationMatcher(String keyword) {
+        if (locationIndex == null) {
+            locationIndex = buildTextIndex(transaction -> transaction.getLocation().location);
+        }
+        return locationIndex.getMatcher(keyword);
+    }
+
+    /**
+     * Returns the number of modifications made to this list so far.
+     * The version only ever increases, so an unchanged version means unchanged contents.
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -139,7 +399,7 @@ public class TransactionList implements Iterable<Transaction> {
 
     @Override
     public Iterator<Transaction> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -158,10 +418,40 @@ public class TransactionList implements Iterable<Transaction> {
     }
 
     /**
-     * Returns true if a given list of transactions is less than the maximum allowed transactions.
+     * Returns true if a given list of transactions is more than this list's limit on its number of transactions.
+     */
+    public boolean isMoreThanMax(List<Transaction> transactions) {
+        return transactions.size() > maxTransactions;
+    }
+
+    /**
+     * Sets the limit on the number of transactions of this list to {@code limit}.
+     * If the list already holds more transactions, it keeps them, but cannot take any more.
+     */
+    public void setMaxTransactions(int limit) {
+        checkArgument(isValidMaxTransactions(limit), MESSAGE_LIMIT_CONSTRAINTS);
+        maxTransactions = limit;
+    }
+
+    /**
+     * Returns the limit on the number of transactions of this list.
+     */
+    public int getMaxTransactions() {
+        return maxTransactions;
+    }
+
+    /**
+     * Returns true if {@code limit} can be set as the limit on the number of transactions.
+     */
+    public static boolean isValidMaxTransactions(int limit) {
+        return limit > 0 && limit <= MAX_CONFIGURABLE_TRANSACTIONS;
+    }
+
+    /**
+     * Returns the message explaining the limit of {@code maxTransactions} on the number of transactions.
      */
-    public static boolean isMoreThanMax(List<Transaction> transactions) {
-        return transactions.size() > MAX_TRANSACTIONS;
+    public static String getSizeConstraintsMessage(int maxTransactions) {
+        return String.format(Locale.ROOT, MESSAGE_SIZE_CONSTRAINTS, maxTransactions);
     }
 
     @Override
@@ -0,0 +1,190 @@
+package unicash.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the position of a {@code Transaction} object in a list by identity, without scanning the list.
+ *
+ * <p>Each object in the list is mapped to the number of times it occurs and the position of its first
+ * occurrence. The index must be told of every change made to the list. Replacing an element keeps the index
+ * up to date, but inserting or removing elements shifts the ones after them, so positions from the first
+ * shifted one onwards are only hints. An object is looked up near its hint, within the distance it can have
+ * shifted by, and the list is only indexed again once that distance grows too large.</p>
+ */
+class TransactionPositionIndex {
+
+    /** The largest number of positions searched around a hint before indexing the list again instead. */
+    static final int MAX_SEARCH_DISTANCE = 1024;
+
+    private final List<Transaction> list;
+    private final Map<Transaction, Occurrences> occurrences = new IdentityHashMap<>();
+
+    /** Every object at a position before this one is mapped to its first occurrence. */
+    private int firstUnindexedPosition;
+
+    /** The number of elements inserted and removed since the whole list was last indexed. */
+    private int insertedSinceIndexed;
+    private int removedSinceIndexed;
+
+    /**
+     * Creates an index of the objects in {@code list}.
+     */
+    TransactionPositionIndex(List<Transaction> list) {
+        requireNonNull(list);
+        this.list = list;
+        reset();
+    }
+
+    /**
+     * Returns the position of the first occurrence of the object {@code transaction} in the list,
+     * or -1 if the list does not contain it.
+     */
+    int indexOf(Transaction transaction) {
+        Occurrences transactionOccurrences = occurrences.get(transaction);
+        if (transactionOccurrences == null) {
+            return -1;
+        }
+
+        int position = transactionOccurrences.firstPosition;
+        if (position >= 0 && position < firstUnindexedPosition && list.get(position) == transaction) {
+            return position;
+        }
+        if (transactionOccurrences.count == 1 && position >= 0) {
+            int shiftedPosition = searchNear(transaction, position);
+            if (shiftedPosition != -1) {
+                transactionOccurrences.firstPosition = shiftedPosition;
+                return shiftedPosition;
+            }
+        }
+        indexFrom(firstUnindexedPosition);
+        return transactionOccurrences.firstPosition;
+    }
+
+    /**
+     * Returns the number of times the object {@code transaction} occurs in the list.
+     */
+    int countOf(Transaction transaction) {
+        Occurrences transactionOccurrences = occurrences.get(transaction);
+        return transactionOccurrences == null ? 0 : transactionOccurrences.count;
+    }
+
+    /**
+     * Returns the position of {@code transaction} among the positions it can have shifted to from
+     * {@code hint}, or -1 if there are too many of them to search.
+     */
+    private int searchNear(Transaction transaction, int hint) {
+        int from = Math.max(firstUnindexedPosition, hint - removedSinceIndexed);
+        int to = Math.min(list.size() - 1, hint + insertedSinceIndexed);
+        if (to - from > MAX_SEARCH_DISTANCE) {
+            return -1;
+        }
+
+        for (int i = from; i <= to; i++) {
+            if (list.get(i) == transaction) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Indexes the whole list again, after its contents were replaced.
+     */
+    void reset() {
+        occurrences.clear();
+        for (int i = 0; i < list.size(); i++) {
+            remember(list.get(i), i);
+        }
+        firstUnindexedPosition = list.size();
+        insertedSinceIndexed = 0;
+        removedSinceIndexed = 0;
+    }
+
+    /**
+     * Updates the index after the elements from {@code fromPosition} (inclusive)
+     * to {@code toPosition} (exclusive) were inserted into the list.
+     */
+    void inserted(int fromPosition, int toPosition) {
+        firstUnindexedPosition = Math.min(firstUnindexedPosition, fromPosition);
+        insertedSinceIndexed += toPosition - fromPosition;
+        for (int i = fromPosition; i < toPosition; i++) {
+            remember(list.get(i), i);
+        }
+        if (firstUnindexedPosition == fromPosition && toPosition == list.size()) {
+            // Appended to the indexed part of the list, so nothing has shifted
+            indexFrom(fromPosition);
+        }
+    }
+
+    /**
+     * Updates the index after the element at {@code position} was replaced, where {@code replaced} used to be.
+     */
+    void replaced(int position, Transaction replaced) {
+        forget(replaced, position);
+        remember(list.get(position), position);
+    }
+
+    /**
+     * Updates the index after {@code removed} was removed from {@code position} in the list.
+     */
+    void removed(int position, Transaction removed) {
+        forget(removed, position);
+        firstUnindexedPosition = Math.min(firstUnindexedPosition, position);
+        removedSinceIndexed++;
+    }
+
+    private void remember(Transaction transaction, int position) {
+        Occurrences transactionOccurrences = occurrences.computeIfAbsent(transaction, key -> new Occurrences());
+        transactionOccurrences.count++;
+        if (transactionOccurrences.count == 1) {
+            transactionOccurrences.firstPosition = position;
+        } else if (position < firstUnindexedPosition && !isEarlierOccurrence(transaction, position)) {
+            transactionOccurrences.firstPosition = position;
+        }
+    }
+
+    private void forget(Transaction transaction, int position) {
+        Occurrences transactionOccurrences = occurrences.get(transaction);
+        transactionOccurrences.count--;
+        if (transactionOccurrences.count == 0) {
+            occurrences.remove(transaction);
+        } else if (transactionOccurrences.firstPosition == position) {
+            // The next occurrence is somewhere after this position
+            transactionOccurrences.firstPosition = -1;
+            firstUnindexedPosition = Math.min(firstUnindexedPosition, position);
+        }
+    }
+
+    /**
+     * Returns true if the position mapped to {@code transaction} is an occurrence of it before {@code position}.
+     */
+    private boolean isEarlierOccurrence(Transaction transaction, int position) {
+        int firstPosition = occurrences.get(transaction).firstPosition;
+        return firstPosition >= 0 && firstPosition < position && list.get(firstPosition) == transaction;
+    }
+
+    private void indexFrom(int fromPosition) {
+        for (int i = fromPosition; i < list.size(); i++) {
+            Transaction transaction = list.get(i);
+            if (!isEarlierOccurrence(transaction, i)) {
+                occurrences.get(transaction).firstPosition = i;
+            }
+        }
+        firstUnindexedPosition = list.size();
+        insertedSinceIndexed = 0;
+        removedSinceIndexed = 0;
+    }
+
+    /**
+     * The number of occurrences of an object in the list, and the position of the first one.
+     */
+    private static class Occurrences {
+        private int count;
+        private int firstPosition = -1;
+    }
+
+}
@@ -0,0 +1,103 @@
+package unicash.model.transaction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Orders Transactions by a key, such as the minute of their date time, so that the ones with keys
+ * within a range can be found without checking every Transaction.
+ *
+ * <p>Transactions with the same key are kept in the order they were added.</p>
+ */
+class TransactionRangeIndex {
+
+    private final ToLongFunction<Transaction> keyOfTransaction;
+    private final NavigableMap<Long, List<Transaction>> transactionsByKey = new TreeMap<>();
+
+    /**
+     * Creates an empty index of Transactions by the keys given by {@code keyOfTransaction}.
+     */
+    TransactionRangeIndex(ToLongFunction<Transaction> keyOfTransaction) {
+        this.keyOfTransaction = keyOfTransaction;
+    }
+
+    /**
+     * Adds {@code transaction} to the index.
+     */
+    void add(Transaction transaction) {
+        transactionsByKey.computeIfAbsent(keyOfTransaction.applyAsLong(transaction), key -> new ArrayList<>(1))
+                .add(transaction);
+    }
+
+    /**
+     * Adds all of {@code transactions} to the index.
+     */
+    void addAll(Collection<Transaction> transactions) {
+        transactions.forEach(this::add);
+    }
+
+    /**
+     * Removes the object {@code transaction} from the index.
+     * The object must have been added to the index.
+     */
+    void remove(Transaction transaction) {
+        long key = keyOfTransaction.applyAsLong(transaction);
+        List<Transaction> transactionsWithKey = transactionsByKey.get(key);
+        for (int i = 0; i < transactionsWithKey.size(); i++) {
+            if (transactionsWithKey.get(i) == transaction) {
+                transactionsWithKey.remove(i);
+                break;
+            }
+        }
+        if (transactionsWithKey.isEmpty()) {
+            transactionsByKey.remove(key);
+        }
+    }
+
+    /**
+     * Removes all Transactions from the index.
+     */
+    void clear() {
+        transactionsByKey.clear();
+    }
+
+    /**
+     * Returns the Transactions with keys from {@code startKey} (inclusive) to {@code endKey} (exclusive),
+     * in the order of their keys.
+     */
+    List<Transaction> getTransactionsBetween(long startKey, long endKey) {
+        List<Transaction> transactions = new ArrayList<>();
+        if (startKey >= endKey) {
+            return transactions;
+        }
+
+        transactionsByKey.subMap(startKey, endKey).values().forEach(transactions::addAll);
+        return transactions;
+    }
+
+    /**
+     * Returns the Transactions with keys from {@code firstKey} to {@code lastKey}, both inclusive, in the order
+     * of their keys, or an empty {@code Optional} if there are more than {@code limit} of them.
+     * The lookup stops as soon as the limit is passed, so it never visits more than {@code limit} Transactions.
+     */
+    Optional<List<Transaction>> getTransactionsWithin(long firstKey, long lastKey, int limit) {
+        List<Transaction> transactions = new ArrayList<>();
+        if (firstKey > lastKey) {
+            return Optional.of(transactions);
+        }
+
+        for (List<Transaction> transactionsWithKey : transactionsByKey.subMap(firstKey, true, lastKey, true).values()) {
+            if (transactions.size() + transactionsWithKey.size() > limit) {
+                return Optional.empty();
+            }
+            transactions.addAll(transactionsWithKey);
+        }
+        return Optional.of(transactions);
+    }
+
+}
@@ -0,0 +1,271 @@
+package unicash.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+import static unicash.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import unicash.commons.util.StringUtil;
+
+/**
+ * Indexes one text field of Transactions, such as their names, by the trigrams (three character
+ * substrings) of the text in lower case, so that the texts containing a keyword can be found without
+ * lower casing and searching every text.
+ *
+ * <p>The index holds each distinct text once, with the number of Transactions having it, as many
+ * Transactions share the same name or location. Each distinct text is numbered, and each trigram is
+ * mapped to the numbers of the texts having it. A keyword of at least three characters can only be
+ * contained in the texts that have all of its trigrams, so only the texts with its rarest trigram are
+ * searched for it. Shorter keywords are searched for in every distinct text.</p>
+ *
+ * <p>The numbers of removed texts are left in the trigram mappings and skipped, until there are more of them
+ * than texts in the index, when the index is rebuilt. This keeps removing a text from spending time on
+ * trigrams shared by many other texts.</p>
+ */
+class TransactionTextIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int MIN_REMOVED_TEXTS_TO_REBUILD = 1024;
+
+    private final Function<Transaction, String> textOfTransaction;
+    private final Map<String, IndexedText> indexedTexts = new HashMap<>();
+    private final List<IndexedText> textsByNumber = new ArrayList<>();
+    private final Map<Long, TextNumbers> textNumbersByGram = new HashMap<>();
+    private int removedTextCount;
+
+    /** Changed whenever a text is numbered, which means earlier searches may be missing it. */
+    private long version;
+
+    /**
+     * Creates an index of the texts given by {@code textOfTransaction}.
+     */
+    TransactionTextIndex(Function<Transaction, String> textOfTransaction) {
+        this.textOfTransaction = textOfTransaction;
+    }
+
+    /**
+     * Adds the text of {@code transaction} to the index.
+     */
+    void add(Transaction transaction) {
+        String text = textOfTransaction.apply(transaction);
+        IndexedText indexedText = indexedTexts.get(text);
+        if (indexedText != null) {
+            indexedText.count++;
+            return;
+        }
+
+        indexedText = new IndexedText(text.toLowerCase());
+        indexedTexts.put(text, indexedText);
+        number(indexedText);
+    }
+
+    private void number(IndexedText indexedText) {
+        indexedText.number = textsByNumber.size();
+        textsByNumber.add(indexedText);
+
+        String foldedText = indexedText.foldedText;
+        for (int i = 0; i + GRAM_LENGTH <= foldedText.length(); i++) {
+            textNumbersByGram.computeIfAbsent(toGram(foldedText, i), key -> new TextNumbers())
+                    .add(indexedText.number);
+        }
+        version++;
+    }
+
+    /**
+     * Adds the texts of all of {@code transactions} to the index.
+     */
+    void addAll(Collection<Transaction> transactions) {
+        transactions.forEach(this::add);
+    }
+
+    /**
+     * Removes the text of {@code transaction} from the index once.
+     * The text must have been added to the index.
+     */
+    void remove(Transaction transaction) {
+        String text = textOfTransaction.apply(transaction);
+        IndexedText indexedText = indexedTexts.get(text);
+        if (--indexedText.count > 0) {
+            return;
+        }
+
+        indexedTexts.remove(text);
+        textsByNumber.set(indexedText.number, null);
+        removedTextCount++;
+        if (removedTextCount >= MIN_REMOVED_TEXTS_TO_REBUILD && removedTextCount > indexedTexts.size()) {
+            renumber();
+        }
+    }
+
+    /**
+     * Numbers the texts in the index again, leaving out the removed texts.
+     */
+    private void renumber() {
+        textsByNumber.clear();
+        textNumbersByGram.clear();
+        removedTextCount = 0;
+        indexedTexts.values().forEach(this::number);
+    }
+
+    /**
+     * Removes all texts from the index.
+     */
+    void clear() {
+        indexedTexts.clear();
+        textsByNumber.clear();
+        textNumbersByGram.clear();
+        removedTextCount = 0;
+        version++;
+    }
+
+    /**
+     * Returns a test of whether a text contains {@code keyword}, ignoring case and the whitespace around
+     * {@code keyword}, as {@link StringUtil#containsSubstringIgnoreCase} does.
+     *
+     * <p>The texts in the index that contain the keyword are searched for through the index when the test
+     * is first used, and again whenever texts have been added to the index since. Testing a text in the index
+     * then only looks it up among them. Texts that are not in the index are searched directly. Like
+     * {@link StringUtil#containsSubstringIgnoreCase}, testing a text for a blank keyword fails.</p>
+     */
+    TextMatcher getMatcher(String keyword) {
+        requireNonNull(keyword);
+        return new KeywordMatcher(keyword.trim().toLowerCase());
+    }
+
+    /**
+     * Returns the numbers of the texts in the index that contain {@code foldedKeyword},
+     * which must be in lower case.
+     */
+    private BitSet findTextsContaining(String foldedKeyword) {
+        BitSet matchingTexts = new BitSet(textsByNumber.size());
+        if (foldedKeyword.length() < GRAM_LENGTH) {
+            for (int number = 0; number < textsByNumber.size(); number++) {
+                addIfContaining(matchingTexts, number, foldedKeyword);
+            }
+            return matchingTexts;
+        }
+
+        TextNumbers candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= foldedKeyword.length(); i++) {
+            TextNumbers textsWithGram = textNumbersByGram.get(toGram(foldedKeyword, i));
+            if (textsWithGram == null) {
+                return matchingTexts;
+            }
+            if (candidates == null || textsWithGram.size < candidates.size) {
+                candidates = textsWithGram;
+            }
+        }
+        for (int i = 0; i < candidates.size; i++) {
+            addIfContaining(matchingTexts, candidates.numbers[i], foldedKeyword);
+        }
+        return matchingTexts;
+    }
+
+    private void addIfContaining(BitSet matchingTexts, int number, String foldedKeyword) {
+        IndexedText indexedText = textsByNumber.get(number);
+        if (indexedText != null && indexedText.foldedText.contains(foldedKeyword)) {
+            matchingTexts.set(number);
+        }
+    }
+
+    /**
+     * Returns the trigram of {@code foldedText} starting at {@code index}, packed into a {@code long}.
+     */
+    private static long toGram(String foldedText, int index) {
+        return ((long) foldedText.charAt(index) << (2 * Character.SIZE))
+                | ((long) foldedText.charAt(index + 1) << Character.SIZE)
+                | foldedText.charAt(index + 2);
+    }
+
+    /**
+     * A text in the index, in lower case, with its number and the number of Transactions having it.
+     */
+    private static class IndexedText {
+        private final String foldedText;
+        private int number;
+        private int count = 1;
+
+        private IndexedText(String foldedText) {
+            this.foldedText = foldedText;
+        }
+    }
+
+    /**
+     * The numbers of the texts having a trigram, in increasing order.
+     */
+    private static class TextNumbers {
+        private int[] numbers = new int[1];
+        private int size;
+
+        private void add(int number) {
+            // A text with a trigram more than once is numbered right after its first occurrence
+            if (size > 0 && numbers[size - 1] == number) {
+                return;
+            }
+            if (size == numbers.length) {
+                numbers = Arrays.copyOf(numbers, size * 2);
+            }
+            numbers[size++] = number;
+        }
+    }
+
+    /**
+     * Tests whether texts contain a keyword, using the numbers of the texts in the index found to contain it.
+     */
+    private class KeywordMatcher implements TextMatcher {
+        private final String foldedKeyword;
+        private BitSet matchingTexts;
+        private long matchingTextsVersion;
+
+        private KeywordMatcher(String foldedKeyword) {
+            this.foldedKeyword = foldedKeyword;
+        }
+
+        private void findMatchingTextsIfOutdated() {
+            if (matchingTexts == null || matchingTextsVersion != version) {
+                checkArgument(!foldedKeyword.isEmpty(), "Substring parameter cannot be empty");
+                matchingTexts = findTextsContaining(foldedKeyword);
+                matchingTextsVersion = version;
+            }
+        }
+
+        @Override
+        public boolean test(String text) {
+            findMatchingTextsIfOutdated();
+
+            IndexedText indexedText = indexedTexts.get(text);
+            if (indexedText != null) {
+                return matchingTexts.get(indexedText.number);
+            }
+            return text.toLowerCase().contains(foldedKeyword);
+        }
+
+        /**
+         * Returns the number of Transactions whose text contains the keyword, which is none for a blank keyword.
+         */
+        @Override
+        public int countMatches() {
+            if (foldedKeyword.isEmpty()) {
+                return 0;
+            }
+
+            findMatchingTextsIfOutdated();
+            int count = 0;
+            for (int number = matchingTexts.nextSetBit(0); number >= 0; number = matchingTexts.nextSetBit(number + 1)) {
+                // Texts removed since the search are left out
+                IndexedText indexedText = textsByNumber.get(number);
+                if (indexedText != null) {
+                    count += indexedText.count;
+                }
+            }
+            return count;
+        }
+    }
+}
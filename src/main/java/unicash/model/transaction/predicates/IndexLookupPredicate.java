@@ -0,0 +1,28 @@
+package unicash.model.transaction.predicates;
+
+import java.util.List;
+import java.util.Optional;
+
+import unicash.model.transaction.Transaction;
+
+/**
+ * An {@code IndexablePredicate} that can look up, in the indexes of the {@code Model} it uses, the Transactions
+ * it may accept, so that only those need to be tested instead of every Transaction of the {@code Model}.
+ */
+public interface IndexLookupPredicate extends IndexablePredicate {
+
+    /**
+     * Returns the largest number of candidates worth looking up among {@code transactionCount} Transactions.
+     * Beyond it, testing every Transaction is about as fast as finding and testing the candidates.
+     */
+    static int getCandidateLimit(int transactionCount) {
+        return transactionCount / 2;
+    }
+
+    /**
+     * Looks up the Transactions of the {@code Model} whose indexes this predicate uses that it may accept,
+     * which include every Transaction of the {@code Model} that it accepts. Returns an empty {@code Optional}
+     * if there are more than {@code limit} of them, or if the predicate does not use any indexes.
+     */
+    Optional<List<Transaction>> findCandidates(int limit);
+}
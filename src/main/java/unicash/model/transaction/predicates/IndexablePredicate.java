@@ -0,0 +1,46 @@
+package unicash.model.transaction.predicates;
+
+import java.util.OptionalInt;
+import java.util.function.Predicate;
+
+import unicash.model.Model;
+import unicash.model.transaction.Transaction;
+
+/**
+ * A {@code Predicate<Transaction>} that can test the Transactions of a {@code Model} faster
+ * by using the indexes the {@code Model} keeps of them.
+ *
+ * <p>The predicate also reports how costly it is to test a Transaction and, once it uses the indexes,
+ * how many Transactions it is expected to accept, so that several of them can be tested in the order that
+ * rejects Transactions soonest.</p>
+ */
+public interface IndexablePredicate extends Predicate<Transaction> {
+
+    /** The relative cost of a test that looks values of a Transaction up, such as in an index. */
+    int COST_LOOKUP = 1;
+
+    /** The relative cost of a test that searches a text of a Transaction for a keyword. */
+    int COST_TEXT_SEARCH = 10;
+
+    /**
+     * Makes this predicate use the indexes of {@code model} when testing Transactions.
+     * The predicate still tests any Transaction correctly, including ones not in {@code model}.
+     */
+    void useIndexesOf(Model model);
+
+    /**
+     * Returns the relative cost of testing one Transaction, in multiples of {@link #COST_LOOKUP}.
+     */
+    int getCost();
+
+    /**
+     * Returns an estimate of the number of Transactions in the {@code Model} whose indexes this predicate uses
+     * that the predicate accepts, or an empty {@code OptionalInt} if it does not use any indexes.
+     */
+    OptionalInt estimateMatches();
+
+    /**
+     * Returns a short description of what this predicate tests, such as {@code name contains [coffee]}.
+     */
+    String describe();
+}
@@ -0,0 +1,130 @@
+package unicash.model.transaction.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import unicash.commons.util.ToStringBuilder;
+import unicash.model.Model;
+import unicash.model.commons.Amount;
+import unicash.model.transaction.Transaction;
+
+/**
+ * Tests that a {@code Transaction}'s {@code Amount} is within a range.
+ */
+public class TransactionAmountInRangePredicate implements IndexLookupPredicate {
+
+    private final Amount minimum;
+    private final Amount maximum;
+    private final long minimumCents;
+    private final long maximumCents;
+
+    /** The model whose index of amounts is used, and the number of its transactions in the range. */
+    private Model model;
+    private OptionalInt matchEstimate = OptionalInt.empty();
+
+    /**
+     * Creates a new {@code TransactionAmountInRangePredicate} object with the given bounds, both inclusive.
+     * A null bound leaves the range unbounded on its side.
+     *
+     * @param minimum the smallest amount in the range, or null if there is none
+     * @param maximum the largest amount in the range, or null if there is none
+     */
+    public TransactionAmountInRangePredicate(Amount minimum, Amount maximum) {
+        this.minimum = minimum;
+        this.maximum = maximum;
+        minimumCents = minimum == null ? Long.MIN_VALUE : minimum.getCents();
+        maximumCents = maximum == null ? Long.MAX_VALUE : maximum.getCents();
+    }
+
+    /**
+     * Returns true if the {@code Amount} of the Transaction is within the range.
+     *
+     * @param transaction the input {@code Transaction} object to be tested
+     */
+    @Override
+    public boolean test(Transaction transaction) {
+        long cents = transaction.getAmount().getCents();
+        return cents >= minimumCents && cents <= maximumCents;
+    }
+
+    /**
+     * Makes this predicate look up the transactions of {@code model} in the range in its index of amounts,
+     * counting them unless there are too many of them for the index to be of use.
+     */
+    @Override
+    public void useIndexesOf(Model model) {
+        requireNonNull(model);
+        this.model = model;
+        matchEstimate = findCandidates(IndexLookupPredicate.getCandidateLimit(
+                model.getUniCash().getTransactionList().size()))
+                .map(candidates -> OptionalInt.of(candidates.size()))
+                .orElse(OptionalInt.empty());
+    }
+
+    @Override
+    public int getCost() {
+        return COST_LOOKUP;
+    }
+
+    /**
+     * Returns the number of transactions in the range once an index is used, or an empty {@code OptionalInt}
+     * if there were too many of them to count.
+     */
+    @Override
+    public OptionalInt estimateMatches() {
+        return matchEstimate;
+    }
+
+    /**
+     * Returns the transactions in the range, looked up in the index of amounts of the {@code Model} used.
+     */
+    @Override
+    public Optional<List<Transaction>> findCandidates(int limit) {
+        if (model == null) {
+            return Optional.empty();
+        }
+        return model.findTransactionsWithAmountBetween(minimumCents, maximumCents, limit);
+    }
+
+    @Override
+    public String describe() {
+        if (minimum == null && maximum == null) {
+            return "any amount";
+        }
+        return "amount" + (minimum == null ? "" : " from " + minimum) + (maximum == null ? "" : " to " + maximum);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TransactionAmountInRangePredicate)) {
+            return false;
+        }
+
+        TransactionAmountInRangePredicate otherAmountInRangePredicate =
+                (TransactionAmountInRangePredicate) other;
+        return Objects.equals(minimum, otherAmountInRangePredicate.minimum)
+                && Objects.equals(maximum, otherAmountInRangePredicate.maximum);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minimum, maximum);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("minimum", minimum)
+                .add("maximum", maximum)
+                .toString();
+    }
+}
@@ -1,10 +1,18 @@
 package unicash.model.transaction.predicates;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
 
 import unicash.commons.util.StringUtil;
 import unicash.commons.util.ToStringBuilder;
+import unicash.model.Model;
+import unicash.model.category.Category;
 import unicash.model.transaction.Transaction;
 
 /**
@@ -12,10 +20,22 @@ import unicash.model.transaction.Transaction;
  * the keywords given.
  */
 public class TransactionCategoryContainsKeywordsPredicate
-        implements Predicate<Transaction> {
+        implements IndexLookupPredicate {
 
     private final List<String> keywords;
 
+    /**
+     * Whether each category tested so far matches any of the keywords. There are far fewer categories than
+     * transactions, so each category is only matched against the keywords once.
+     */
+    private final Map<Category, Boolean> categoryMatches = new HashMap<>();
+
+    /** The model whose index of categories is used, once an index is used. */
+    private Model model;
+
+    /** The number of transactions with a matching category, once an index is used. */
+    private Integer matchEstimate;
+
     /**
      * Creates a new {@code TransactionCategoryContainsKeywordsPredicate} object
      * with the given list of string keywords.
@@ -31,27 +51,86 @@ public class TransactionCategoryContainsKeywordsPredicate
      * of the Transaction contains any of the keywords in the keywords list
      * as a substring.
      *
-     * <p> A nested anyMatch compares each keyword for each category directly in the
-     * {@code UniqueCategoryList}. This removes any dependency on {@code UniqueCategoryList}'s
-     * representation of the Categories.
+     * <p> Each category in the {@code UniqueCategoryList} is compared with every keyword the first time
+     * it is tested, and the result is remembered for the other transactions with the same category.
      *
      * @param transaction the input {@code Transaction} object to be tested
      */
     @Override
     public boolean test(Transaction transaction) {
+        for (Category category : transaction.getCategories()) {
+            if (categoryMatches.computeIfAbsent(category, this::isMatchingCategory)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isMatchingCategory(Category category) {
         return keywords
                 .stream()
-                .anyMatch(keyword -> transaction
-                        .getCategories()
-                        .joinCategoriesAsList()
-                        .stream()
-                        .anyMatch(category ->
-                                    StringUtil.containsSubstringIgnoreCase(
-                                            category.toString(), keyword)
-                                )
-                );
+                .anyMatch(keyword -> StringUtil.containsSubstringIgnoreCase(category.toString(), keyword));
+    }
+
+    /**
+     * Matches every category of the transactions in {@code model} against the keywords ahead of testing them,
+     * counting the transactions with a matching category, and makes it look up those transactions in the
+     * index of categories of {@code model}.
+     */
+    @Override
+    public void useIndexesOf(Model model) {
+        requireNonNull(model);
+        this.model = model;
+        int matchCount = 0;
+        for (Map.Entry<Category, Integer> entry : model.getTransactionCountPerCategory().entrySet()) {
+            if (categoryMatches.computeIfAbsent(entry.getKey(), this::isMatchingCategory)) {
+                matchCount += entry.getValue();
+            }
+        }
+        matchEstimate = matchCount;
+    }
+
+    /**
+     * Returns the cost of looking up whether each category of a transaction matches, as every category
+     * is only matched against the keywords once.
+     */
+    @Override
+    public int getCost() {
+        return COST_LOOKUP;
     }
 
+    /**
+     * Returns the total number of transactions with each matching category, which counts the transactions
+     * with several matching categories more than once.
+     */
+    @Override
+    public OptionalInt estimateMatches() {
+        return matchEstimate == null ? OptionalInt.empty() : OptionalInt.of(matchEstimate);
+    }
+
+    /**
+     * Returns the transactions with a matching category, looked up in the index of categories of the
+     * {@code Model} used.
+     */
+    @Override
+    public Optional<List<Transaction>> findCandidates(int limit) {
+        if (model == null) {
+            return Optional.empty();
+        }
+
+        List<Category> matchingCategories = new ArrayList<>();
+        for (Category category : model.getTransactionCountPerCategory().keySet()) {
+            if (categoryMatches.computeIfAbsent(category, this::isMatchingCategory)) {
+                matchingCategories.add(category);
+            }
+        }
+        return model.findTransactionsWithAnyCategory(matchingCategories, limit);
+    }
+
+    @Override
+    public String describe() {
+        return "category contains " + keywords;
+    }
 
     @Override
     public boolean equals(Object other) {
@@ -69,6 +148,11 @@ public class TransactionCategoryContainsKeywordsPredicate
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -1,12 +1,21 @@
 package unicash.model.transaction.predicates;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 
 import unicash.commons.util.ToStringBuilder;
+import unicash.model.Model;
+import unicash.model.commons.Amount;
+import unicash.model.transaction.DateTime;
 import unicash.model.transaction.Transaction;
+import unicash.model.transaction.Type;
 
 
 /**
@@ -22,11 +31,30 @@ import unicash.model.transaction.Transaction;
  * </p> Encapsulated within is a list of transaction predicates, and this list can be accessed
  * publicly, and modified. The overriding test method returns true only if the input Transaction
  * matches all predicates in this list.
+ *
+ * </p> The property predicates are tested in a plan ordered so that Transactions are rejected as soon as
+ * possible: those expected to accept the fewest Transactions of the {@code Model} whose indexes are used
+ * come first, and those without an estimate come last, with ties broken by the cost of testing them.
+ *
+ * </p> Once the indexes of a {@code Model} are used, the property predicate that can look up the fewest
+ * candidates in them, if any can look up few enough to be of use, is chosen as the access path: only the
+ * Transactions it looks up need to be tested, instead of every Transaction of the {@code Model}.
  */
-public class TransactionContainsAllKeywordsPredicate implements Predicate<Transaction> {
+public class TransactionContainsAllKeywordsPredicate implements IndexLookupPredicate {
+
+    private static final Comparator<PlanStep> PLAN_ORDER = Comparator
+            .comparingLong((PlanStep step) -> step.estimatedMatches.isPresent()
+                    ? step.estimatedMatches.getAsInt() : Long.MAX_VALUE)
+            .thenComparingInt(step -> step.cost);
 
     private List<Predicate<Transaction>> predicateList;
 
+    /** The property predicates in the order they are tested in, compiled when first needed. */
+    private List<PlanStep> plan;
+
+    /** The property predicate whose candidates are looked up, once the indexes of a {@code Model} are used. */
+    private IndexLookupPredicate accessPath;
+
     /**
      * Creates a new {@code TransactionContainsAllKeywordsPredicate} object with a
      * default empty list of transaction predicates.
@@ -57,8 +85,138 @@ public class TransactionContainsAllKeywordsPredicate implements Predicate<Transa
             return false;
         }
 
-        return predicateList.stream()
-                .allMatch(predicate -> predicate.test(transaction));
+        List<PlanStep> steps = getPlan();
+        for (int i = 0; i < steps.size(); i++) {
+            if (!steps.get(i).predicate.test(transaction)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<PlanStep> getPlan() {
+        if (plan == null) {
+            List<PlanStep> steps = new ArrayList<>(predicateList.size());
+            for (Predicate<Transaction> predicate : predicateList) {
+                steps.add(new PlanStep(predicate));
+            }
+            // The sort is stable, so predicates that cannot be told apart keep the order they were added in
+            steps.sort(PLAN_ORDER);
+            plan = steps;
+        }
+        return plan;
+    }
+
+    /**
+     * Makes every property predicate in the encapsulated {@code predicateList} that can use
+     * the indexes of {@code model} use them, and chooses the access path among those that can look up
+     * their candidates in the indexes.
+     */
+    @Override
+    public void useIndexesOf(Model model) {
+        requireNonNull(model);
+        for (Predicate<Transaction> predicate : predicateList) {
+            if (predicate instanceof IndexablePredicate) {
+                IndexablePredicate indexablePredicate = (IndexablePredicate) predicate;
+                indexablePredicate.useIndexesOf(model);
+            }
+        }
+        // Compile the plan again with the estimates of the predicates using the indexes
+        plan = null;
+        accessPath = chooseAccessPath(IndexLookupPredicate.getCandidateLimit(
+                model.getUniCash().getTransactionList().size()));
+    }
+
+    /**
+     * Returns the property predicate expected to look up the fewest candidates, if it is expected to look up
+     * no more than {@code limit} of them, or else null.
+     */
+    private IndexLookupPredicate chooseAccessPath(int limit) {
+        // The plan is ordered by estimate, so the first predicate that can look its candidates up has the fewest
+        for (PlanStep step : getPlan()) {
+            if (step.predicate instanceof IndexLookupPredicate) {
+                boolean isFewEnough = step.estimatedMatches.isPresent() && step.estimatedMatches.getAsInt() <= limit;
+                return isFewEnough ? (IndexLookupPredicate) step.predicate : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the candidates looked up by the property predicate chosen as the access path, as a Transaction
+     * must match all of the property predicates, or an empty {@code Optional} if none was chosen.
+     */
+    @Override
+    public Optional<List<Transaction>> findCandidates(int limit) {
+        if (accessPath == null) {
+            return Optional.empty();
+        }
+        return accessPath.findCandidates(limit);
+    }
+
+    /**
+     * Returns the sum of the costs of the property predicates, counting those that cannot use indexes
+     * as searching a text.
+     */
+    @Override
+    public int getCost() {
+        int cost = 0;
+        for (PlanStep step : getPlan()) {
+            cost += step.cost;
+        }
+        return cost;
+    }
+
+    /**
+     * Returns the smallest estimate of the property predicates, as a Transaction must match all of them.
+     */
+    @Override
+    public OptionalInt estimateMatches() {
+        if (predicateList.isEmpty()) {
+            return OptionalInt.of(0);
+        }
+        // The first step of the plan has the smallest estimate, if any predicate has one
+        return getPlan().get(0).estimatedMatches;
+    }
+
+    @Override
+    public String describe() {
+        List<String> descriptions = new ArrayList<>();
+        for (PlanStep step : getPlan()) {
+            descriptions.add(step.description);
+        }
+        return String.join(" and ", descriptions);
+    }
+
+    /**
+     * Returns the plan the property predicates are tested in, with the access path on the first line,
+     * followed by one numbered step per line with the cost and estimated number of matches of each step,
+     * for diagnosing slow searches.
+     */
+    public String explain() {
+        if (predicateList.isEmpty()) {
+            return "Query plan: no predicates, matching no transactions";
+        }
+
+        StringBuilder explanation = new StringBuilder("Query plan:").append(System.lineSeparator());
+        if (accessPath == null) {
+            explanation.append("Access: every transaction tested");
+        } else {
+            explanation.append("Access: index lookup of ").append(accessPath.describe())
+                    .append(" (about ").append(accessPath.estimateMatches().orElse(0)).append(" candidates)");
+        }
+        List<PlanStep> steps = getPlan();
+        for (int i = 0; i < steps.size(); i++) {
+            PlanStep step = steps.get(i);
+            explanation.append(System.lineSeparator())
+                    .append(i + 1).append(". ").append(step.description)
+                    .append(" (cost ").append(step.cost);
+            if (step.estimatedMatches.isPresent()) {
+                explanation.append(", about ").append(step.estimatedMatches.getAsInt()).append(" matches");
+            }
+            explanation.append(")");
+        }
+        return explanation.toString();
     }
 
 
@@ -74,6 +232,7 @@ public class TransactionContainsAllKeywordsPredicate implements Predicate<Transa
                 new TransactionNameContainsKeywordsPredicate(toKeywordList(name));
 
         predicateList.add(namePredicate);
+        plan = null;
 
     }
 
@@ -89,6 +248,7 @@ public class TransactionContainsAllKeywordsPredicate implements Predicate<Transa
                 new TransactionLocationContainsKeywordsPredicate(toKeywordList(location));
 
         predicateList.add(locationPredicate);
+        plan = null;
 
     }
 
@@ -105,9 +265,45 @@ public class TransactionContainsAllKeywordsPredicate implements Predicate<Transa
                 new TransactionCategoryContainsKeywordsPredicate(toKeywordList(category));
 
         predicateList.add(categoryPredicate);
+        plan = null;
+
+    }
+
+
+    /**
+     * Creates a new {@code TransactionAmountInRangePredicate} with the given bounds, both inclusive,
+     * and adds this to the encapsulated list of transaction predicates.
+     *
+     * @param minimum the smallest amount to be matched, or null if there is none
+     * @param maximum the largest amount to be matched, or null if there is none
+     */
+    public void addAmountRange(Amount minimum, Amount maximum) {
+        predicateList.add(new TransactionAmountInRangePredicate(minimum, maximum));
+        plan = null;
+    }
 
+    /**
+     * Creates a new {@code TransactionDateTimeInRangePredicate} with the given bounds, both inclusive,
+     * and adds this to the encapsulated list of transaction predicates.
+     *
+     * @param start the earliest date time to be matched, or null if there is none
+     * @param end the latest date time to be matched, or null if there is none
+     */
+    public void addDateTimeRange(DateTime start, DateTime end) {
+        predicateList.add(new TransactionDateTimeInRangePredicate(start, end));
+        plan = null;
     }
 
+    /**
+     * Creates a new {@code TransactionTypeMatchesPredicate} with the given {@code Type}
+     * and adds this to the encapsulated list of transaction predicates.
+     *
+     * @param type the {@code Type} to be matched
+     */
+    public void addType(Type type) {
+        predicateList.add(new TransactionTypeMatchesPredicate(type));
+        plan = null;
+    }
 
     /**
      * A helper method that returns the input string keyword as a list
@@ -139,10 +335,39 @@ public class TransactionContainsAllKeywordsPredicate implements Predicate<Transa
         return predicateList.equals(otherContainsKeywordsPredicate.predicateList);
     }
 
+    @Override
+    public int hashCode() {
+        return predicateList.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicateList",
                         predicateList).toString();
     }
+
+    /**
+     * A property predicate with its cost and estimated number of matches at the time the plan was compiled.
+     */
+    private static class PlanStep {
+        private final Predicate<Transaction> predicate;
+        private final String description;
+        private final int cost;
+        private final OptionalInt estimatedMatches;
+
+        private PlanStep(Predicate<Transaction> predicate) {
+            this.predicate = predicate;
+            if (predicate instanceof IndexablePredicate) {
+                IndexablePredicate indexablePredicate = (IndexablePredicate) predicate;
+                description = indexablePredicate.describe();
+                cost = indexablePredicate.getCost();
+                estimatedMatches = indexablePredicate.estimateMatches();
+            } else {
+                description = predicate.toString();
+                cost = COST_TEXT_SEARCH;
+                estimatedMatches = OptionalInt.empty();
+            }
+        }
+    }
 }
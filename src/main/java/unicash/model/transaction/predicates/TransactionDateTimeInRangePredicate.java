@@ -0,0 +1,131 @@
+package unicash.model.transaction.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import unicash.commons.util.ToStringBuilder;
+import unicash.model.Model;
+import unicash.model.transaction.DateTime;
+import unicash.model.transaction.Transaction;
+
+/**
+ * Tests that a {@code Transaction}'s {@code DateTime} is within a period.
+ */
+public class TransactionDateTimeInRangePredicate implements IndexLookupPredicate {
+
+    private final DateTime start;
+    private final DateTime end;
+    private final long startMinute;
+    private final long endMinute;
+
+    /** The model whose index of date times is used, and the number of its transactions in the period. */
+    private Model model;
+    private OptionalInt matchEstimate = OptionalInt.empty();
+
+    /**
+     * Creates a new {@code TransactionDateTimeInRangePredicate} object with the given bounds, both inclusive.
+     * A null bound leaves the period unbounded on its side.
+     *
+     * @param start the earliest date time in the period, or null if there is none
+     * @param end the latest date time in the period, or null if there is none
+     */
+    public TransactionDateTimeInRangePredicate(DateTime start, DateTime end) {
+        this.start = start;
+        this.end = end;
+        startMinute = start == null ? Long.MIN_VALUE : start.getEpochMinute();
+        endMinute = end == null ? Long.MAX_VALUE : end.getEpochMinute();
+    }
+
+    /**
+     * Returns true if the {@code DateTime} of the Transaction is within the period, to the minute.
+     *
+     * @param transaction the input {@code Transaction} object to be tested
+     */
+    @Override
+    public boolean test(Transaction transaction) {
+        long minute = transaction.getDateTime().getEpochMinute();
+        return minute >= startMinute && minute <= endMinute;
+    }
+
+    /**
+     * Makes this predicate look up the transactions of {@code model} dated within the period in its index of
+     * date times, counting them unless there are too many of them for the index to be of use.
+     */
+    @Override
+    public void useIndexesOf(Model model) {
+        requireNonNull(model);
+        this.model = model;
+        matchEstimate = findCandidates(IndexLookupPredicate.getCandidateLimit(
+                model.getUniCash().getTransactionList().size()))
+                .map(candidates -> OptionalInt.of(candidates.size()))
+                .orElse(OptionalInt.empty());
+    }
+
+    @Override
+    public int getCost() {
+        return COST_LOOKUP;
+    }
+
+    /**
+     * Returns the number of transactions dated within the period once an index is used, or an empty
+     * {@code OptionalInt} if there were too many of them to count.
+     */
+    @Override
+    public OptionalInt estimateMatches() {
+        return matchEstimate;
+    }
+
+    /**
+     * Returns the transactions dated within the period, looked up in the index of date times of the
+     * {@code Model} used.
+     */
+    @Override
+    public Optional<List<Transaction>> findCandidates(int limit) {
+        if (model == null) {
+            return Optional.empty();
+        }
+        return model.findTransactionsDatedBetween(startMinute, endMinute, limit);
+    }
+
+    @Override
+    public String describe() {
+        if (start == null && end == null) {
+            return "any date time";
+        }
+        return "date time" + (start == null ? "" : " from " + start) + (end == null ? "" : " to " + end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TransactionDateTimeInRangePredicate)) {
+            return false;
+        }
+
+        TransactionDateTimeInRangePredicate otherDateTimeInRangePredicate =
+                (TransactionDateTimeInRangePredicate) other;
+        return Objects.equals(start, otherDateTimeInRangePredicate.start)
+                && Objects.equals(end, otherDateTimeInRangePredicate.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .add("end", end)
+                .toString();
+    }
+}
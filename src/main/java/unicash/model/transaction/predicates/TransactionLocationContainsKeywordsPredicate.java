@@ -1,20 +1,28 @@
 package unicash.model.transaction.predicates;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
 
 import unicash.commons.util.StringUtil;
 import unicash.commons.util.ToStringBuilder;
+import unicash.model.Model;
+import unicash.model.transaction.TextMatcher;
 import unicash.model.transaction.Transaction;
 
 /**
  * Tests that a {@code Transactions}'s {@code Location} matches any of the keywords given.
  */
 public class TransactionLocationContainsKeywordsPredicate
-        implements Predicate<Transaction> {
+        implements IndexablePredicate {
 
     private final List<String> keywords;
 
+    /** Tests of whether a location contains each keyword through an index, once an index is used. */
+    private List<TextMatcher> keywordMatchers;
+
     /**
      * Creates a new {@code TransactionLocationContainsKeywordsPredicate} object
      * with the given list of string keywords.
@@ -33,11 +41,65 @@ public class TransactionLocationContainsKeywordsPredicate
      */
     @Override
     public boolean test(Transaction transaction) {
+        if (keywordMatchers != null) {
+            String location = transaction.getLocation().toString();
+            for (TextMatcher keywordMatcher : keywordMatchers) {
+                if (keywordMatcher.test(location)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsSubstringIgnoreCase(
                         transaction.getLocation().toString(), keyword));
     }
 
+    /**
+     * Makes this predicate look up locations among the locations of the transactions in {@code model}
+     * found to contain each keyword, instead of searching every location for the keywords.
+     */
+    @Override
+    public void useIndexesOf(Model model) {
+        requireNonNull(model);
+        keywordMatchers = keywords.stream()
+                .map(model::getLocationMatcher)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the cost of looking the location up among the locations found to contain each keyword once
+     * an index is used, or else the cost of searching the location for each keyword.
+     */
+    @Override
+    public int getCost() {
+        int costPerKeyword = keywordMatchers != null ? COST_LOOKUP : COST_TEXT_SEARCH;
+        return costPerKeyword * keywords.size();
+    }
+
+    /**
+     * Returns the total number of transactions whose locations contain each keyword, which counts the
+     * transactions containing several of the keywords more than once.
+     */
+    @Override
+    public OptionalInt estimateMatches() {
+        if (keywordMatchers == null) {
+            return OptionalInt.empty();
+        }
+
+        int matchCount = 0;
+        for (TextMatcher keywordMatcher : keywordMatchers) {
+            matchCount += keywordMatcher.countMatches();
+        }
+        return OptionalInt.of(matchCount);
+    }
+
+    @Override
+    public String describe() {
+        return "location contains " + keywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,6 +116,11 @@ public class TransactionLocationContainsKeywordsPredicate
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
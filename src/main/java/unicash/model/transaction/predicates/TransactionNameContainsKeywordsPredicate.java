@@ -1,20 +1,28 @@
 package unicash.model.transaction.predicates;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
 
 import unicash.commons.util.StringUtil;
 import unicash.commons.util.ToStringBuilder;
+import unicash.model.Model;
+import unicash.model.transaction.TextMatcher;
 import unicash.model.transaction.Transaction;
 
 /**
  * Tests that a {@code Transactions}'s {@code Name} matches any of the keywords given.
  */
 public class TransactionNameContainsKeywordsPredicate
-        implements Predicate<Transaction> {
+        implements IndexablePredicate {
 
     private final List<String> keywords;
 
+    /** Tests of whether a name contains each keyword through an index, once an index is used. */
+    private List<TextMatcher> keywordMatchers;
+
     /**
      * Creates a new {@code TransactionNameContainsKeywordsPredicate} object
      * with the given list of string keywords.
@@ -33,11 +41,65 @@ public class TransactionNameContainsKeywordsPredicate
      */
     @Override
     public boolean test(Transaction transaction) {
+        if (keywordMatchers != null) {
+            String name = transaction.getName().fullName;
+            for (TextMatcher keywordMatcher : keywordMatchers) {
+                if (keywordMatcher.test(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsSubstringIgnoreCase(
                         transaction.getName().fullName, keyword));
     }
 
+    /**
+     * Makes this predicate look up names among the names of the transactions in {@code model}
+     * found to contain each keyword, instead of searching every name for the keywords.
+     */
+    @Override
+    public void useIndexesOf(Model model) {
+        requireNonNull(model);
+        keywordMatchers = keywords.stream()
+                .map(model::getNameMatcher)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the cost of looking the name up among the names found to contain each keyword once
+     * an index is used, or else the cost of searching the name for each keyword.
+     */
+    @Override
+    public int getCost() {
+        int costPerKeyword = keywordMatchers != null ? COST_LOOKUP : COST_TEXT_SEARCH;
+        return costPerKeyword * keywords.size();
+    }
+
+    /**
+     * Returns the total number of transactions whose names contain each keyword, which counts the
+     * transactions containing several of the keywords more than once.
+     */
+    @Override
+    public OptionalInt estimateMatches() {
+        if (keywordMatchers == null) {
+            return OptionalInt.empty();
+        }
+
+        int matchCount = 0;
+        for (TextMatcher keywordMatcher : keywordMatchers) {
+            matchCount += keywordMatcher.countMatches();
+        }
+        return OptionalInt.of(matchCount);
+    }
+
+    @Override
+    public String describe() {
+        return "name contains " + keywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,6 +116,11 @@ public class TransactionNameContainsKeywordsPredicate
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
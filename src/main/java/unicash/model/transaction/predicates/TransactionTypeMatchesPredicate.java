@@ -0,0 +1,92 @@
+package unicash.model.transaction.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.OptionalInt;
+
+import unicash.commons.util.ToStringBuilder;
+import unicash.model.Model;
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.Type;
+
+/**
+ * Tests that a {@code Transaction}'s {@code Type} is the type given.
+ */
+public class TransactionTypeMatchesPredicate implements IndexablePredicate {
+
+    private final Type type;
+
+    /**
+     * Creates a new {@code TransactionTypeMatchesPredicate} object with the given type.
+     *
+     * @param type the type to be matched
+     */
+    public TransactionTypeMatchesPredicate(Type type) {
+        requireNonNull(type);
+        this.type = type;
+    }
+
+    /**
+     * Returns true if the {@code Type} of the Transaction is the type of this predicate.
+     *
+     * @param transaction the input {@code Transaction} object to be tested
+     */
+    @Override
+    public boolean test(Transaction transaction) {
+        return transaction.getType().type.equals(type.type);
+    }
+
+    /**
+     * Does nothing, as there is no index of the types of transactions. Comparing the type of a transaction
+     * is already as cheap as looking it up.
+     */
+    @Override
+    public void useIndexesOf(Model model) {
+        requireNonNull(model);
+    }
+
+    @Override
+    public int getCost() {
+        return COST_LOOKUP;
+    }
+
+    /**
+     * Returns an empty {@code OptionalInt}, as there is no index of the types of transactions to count them.
+     */
+    @Override
+    public OptionalInt estimateMatches() {
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public String describe() {
+        return "type is " + type;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TransactionTypeMatchesPredicate)) {
+            return false;
+        }
+
+        TransactionTypeMatchesPredicate otherTypeMatchesPredicate = (TransactionTypeMatchesPredicate) other;
+        return type.equals(otherTypeMatchesPredicate.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return type.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .toString();
+    }
+}
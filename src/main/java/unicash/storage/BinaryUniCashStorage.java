@@ -0,0 +1,337 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import unicash.commons.core.LogsCenter;
+import unicash.commons.enums.TransactionType;
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.commons.util.FileUtil;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.UniCash;
+import unicash.model.budget.Budget;
+import unicash.model.budget.Interval;
+import unicash.model.category.Category;
+import unicash.model.category.UniqueCategoryList;
+import unicash.model.commons.Amount;
+import unicash.model.transaction.DateTime;
+import unicash.model.transaction.Location;
+import unicash.model.transaction.Name;
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionList;
+import unicash.model.transaction.Type;
+
+/**
+ * A class to access UniCash data stored as a compact binary snapshot on the hard disk.
+ *
+ * <p>Reading the snapshot back never parses date time or amount strings, and validates each distinct name,
+ * location and category only once, as they are shared with the interning pools. Files ending in
+ * {@value #JSON_FILE_EXTENSION} are read and written as json instead, for import and export.</p>
+ *
+ * <p>Layout, all numbers big-endian:</p>
+ * <pre>
+ * int     magic ("UCSH")
+ * short   format version
+ * int     number of categories, then each category as a string
+ * int     number of transactions, then for each transaction:
+ *           string name, string location, byte type, long amount in cents,
+ *           long date time in minutes since the epoch (UTC),
+ *           byte number of categories, then each category's index into the category table
+ * byte    1 if a budget follows, 0 otherwise; a budget is a long amount in cents and a string interval
+ * int     CRC32 of everything above
+ * </pre>
+ * <p>Strings are an int byte length followed by UTF-8 bytes. Files of version 1, which stored amounts as
+ * doubles, can still be read, and are written as the current version on the next save.</p>
+ */
+public class BinaryUniCashStorage implements UniCashStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+    public static final String JSON_FILE_EXTENSION = ".json";
+
+    public static final int MAGIC = 0x55435348;
+    public static final short FORMAT_VERSION = 2;
+    public static final short DOUBLE_AMOUNT_FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_DATA = "File is not a UniCash binary data file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported UniCash binary data version: %d";
+    public static final String MESSAGE_CORRUPTED_DATA = "UniCash binary data file is corrupted";
+
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryUniCashStorage.class);
+
+    private final Path filePath;
+    private final int maxTransactions;
+    private final JsonUniCashStorage jsonStorage;
+
+    /**
+     * Creates a binary storage for the data file at {@code filePath}.
+     */
+    public BinaryUniCashStorage(Path filePath) {
+        this(filePath, TransactionList.MAX_TRANSACTIONS);
+    }
+
+    /**
+     * Creates a binary storage for the data file at {@code filePath}, which reads data of
+     * up to {@code maxTransactions} transactions.
+     */
+    public BinaryUniCashStorage(Path filePath, int maxTransactions) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.maxTransactions = maxTransactions;
+        this.jsonStorage = new JsonUniCashStorage(filePath, maxTransactions);
+    }
+
+    /**
+     * Returns true if {@code filePath} names a binary data file.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        return filePath.getFileName() != null
+                && filePath.getFileName().toString().endsWith(BINARY_FILE_EXTENSION);
+    }
+
+    private static boolean isJsonFile(Path filePath) {
+        return filePath.getFileName() != null
+                && filePath.getFileName().toString().endsWith(JSON_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getUniCashFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyUniCash> readUniCash() throws DataLoadingException {
+        return readUniCash(filePath);
+    }
+
+    /**
+     * Similar to {@link #readUniCash()}.
+     * The file is read into memory in one go and decoded from there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyUniCash> readUniCash(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (isJsonFile(filePath)) {
+            return jsonStorage.readUniCash(filePath);
+        }
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            // Not memory-mapped, as a mapped file stays open until it is garbage collected,
+            // which stops it from being replaced on some platforms
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+            return Optional.of(decode(buffer, maxTransactions));
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveUniCash(ReadOnlyUniCash uniCash) throws IOException {
+        saveUniCash(uniCash, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveUniCash(ReadOnlyUniCash)}.
+     * The file at {@code filePath} is replaced atomically.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+        requireNonNull(uniCash);
+        requireNonNull(filePath);
+
+        if (isJsonFile(filePath)) {
+            jsonStorage.saveUniCash(uniCash, filePath);
+            return;
+        }
+
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            CRC32 checksum = new CRC32();
+            DataOutputStream data = new DataOutputStream(
+                    new CheckedOutputStream(new BufferedOutputStream(out), checksum));
+            encode(uniCash, data);
+            data.flush();
+
+            DataOutputStream trailer = new DataOutputStream(out);
+            trailer.writeInt((int) checksum.getValue());
+            trailer.flush();
+        });
+    }
+
+    //// encoding
+
+    private static void encode(ReadOnlyUniCash uniCash, DataOutputStream data) throws IOException {
+        List<Transaction> transactions = uniCash.getTransactionList();
+        Map<Category, Integer> categoryIndexes = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            for (Category category : transaction.getCategories()) {
+                categoryIndexes.putIfAbsent(category, categoryIndexes.size());
+            }
+        }
+
+        data.writeInt(MAGIC);
+        data.writeShort(FORMAT_VERSION);
+
+        data.writeInt(categoryIndexes.size());
+        for (Category category : categoryIndexes.keySet()) {
+            writeString(data, category.category);
+        }
+
+        data.writeInt(transactions.size());
+        for (Transaction transaction : transactions) {
+            writeString(data, transaction.getName().fullName);
+            writeString(data, transaction.getLocation().location);
+            data.writeByte(transaction.getType().type.ordinal());
+            data.writeLong(transaction.getAmount().getCents());
+            data.writeLong(DateTime.toEpochMinute(transaction.getDateTime().getDateTime()));
+
+            data.writeByte(transaction.getCategories().getSize());
+            for (Category category : transaction.getCategories()) {
+                data.writeInt(categoryIndexes.get(category));
+            }
+        }
+
+        Budget budget = uniCash.getBudget();
+        data.writeBoolean(budget != null);
+        if (budget != null) {
+            data.writeLong(budget.getAmount().getCents());
+            writeString(data, budget.getInterval().interval.getOriginalString());
+        }
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    //// decoding
+
+    private static UniCash decode(ByteBuffer buffer, int maxTransactions) throws IllegalValueException {
+        if (buffer.remaining() < HEADER_SIZE + CHECKSUM_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_DATA);
+        }
+        short version = buffer.getShort(Integer.BYTES);
+        if (version != FORMAT_VERSION && version != DOUBLE_AMOUNT_FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        verifyChecksum(buffer);
+
+        try {
+            buffer.position(HEADER_SIZE);
+            return decodeBody(buffer, version, maxTransactions);
+        } catch (RuntimeException e) {
+            // The checksum matched, so this is a file that was not written by this version of UniCash
+            throw new IllegalValueException(MESSAGE_CORRUPTED_DATA, e);
+        }
+    }
+
+    private static void verifyChecksum(ByteBuffer buffer) throws IllegalValueException {
+        int bodySize = buffer.limit() - CHECKSUM_SIZE;
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate().position(0).limit(bodySize));
+        if ((int) checksum.getValue() != buffer.getInt(bodySize)) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+        }
+    }
+
+    private static UniCash decodeBody(ByteBuffer buffer, short version, int maxTransactions)
+            throws IllegalValueException {
+        int categoryCount = buffer.getInt();
+        if (categoryCount < 0 || categoryCount > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+        }
+        Category[] categoryTable = new Category[categoryCount];
+        for (int i = 0; i < categoryCount; i++) {
+            categoryTable[i] = Category.of(readString(buffer));
+        }
+
+        int transactionCount = buffer.getInt();
+        if (transactionCount < 0 || transactionCount > maxTransactions) {
+            throw new IllegalValueException(TransactionList.getSizeConstraintsMessage(maxTransactions));
+        }
+
+        TransactionType[] transactionTypes = TransactionType.values();
+        Type[] types = new Type[transactionTypes.length];
+        for (int i = 0; i < transactionTypes.length; i++) {
+            types[i] = new Type(transactionTypes[i].getOriginalString());
+        }
+
+        List<Transaction> transactions = new ArrayList<>(transactionCount);
+        for (int i = 0; i < transactionCount; i++) {
+            Name name = Name.of(readString(buffer));
+            Location location = Location.of(readString(buffer));
+            Type type = types[buffer.get()];
+            Amount amount = readAmount(buffer, version);
+            DateTime dateTime = DateTime.of(fromEpochMinute(buffer.getLong()));
+
+            int transactionCategoryCount = buffer.get();
+            List<Category> categories = new ArrayList<>(transactionCategoryCount);
+            for (int j = 0; j < transactionCategoryCount; j++) {
+                categories.add(categoryTable[buffer.getInt()]);
+            }
+
+            transactions.add(new Transaction(name, type, amount, dateTime, location,
+                    new UniqueCategoryList(categories)));
+        }
+
+        UniCash uniCash = new UniCash(maxTransactions);
+        uniCash.setTransactions(transactions);
+        if (buffer.get() != 0) {
+            Amount budgetAmount = readAmount(buffer, version);
+            uniCash.setBudget(new Budget(budgetAmount, new Interval(readString(buffer))));
+        }
+        return uniCash;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Amount readAmount(ByteBuffer buffer, short version) {
+        return version == DOUBLE_AMOUNT_FORMAT_VERSION
+                ? new Amount(buffer.getDouble())
+                : Amount.ofCents(buffer.getLong());
+    }
+
+    private static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+
+}
@@ -0,0 +1,89 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.transaction.Transaction;
+
+/**
+ * UniCash data read from storage, of which only the newest transactions have been converted into the
+ * model's {@code Transaction} so far.
+ *
+ * <p>The newest transactions are the ones shown first, so they can be displayed while the older history
+ * is read and converted afterwards, typically on a background thread.</p>
+ */
+public class IncrementalUniCashLoad {
+
+    /** The number of history transactions converted between two progress reports. */
+    public static final int PROGRESS_INTERVAL = ParallelTransactionConverter.CHUNK_SIZE;
+
+    private final ReadOnlyUniCash newestUniCash;
+    private final int historySize;
+    private final HistoryReader historyReader;
+
+    private IncrementalUniCashLoad(ReadOnlyUniCash newestUniCash, int historySize, HistoryReader historyReader) {
+        this.newestUniCash = newestUniCash;
+        this.historySize = historySize;
+        this.historyReader = historyReader;
+    }
+
+    /**
+     * Returns a load of {@code uniCash} that has no history left to convert.
+     */
+    public static IncrementalUniCashLoad ofLoaded(ReadOnlyUniCash uniCash) {
+        requireNonNull(uniCash);
+        return new IncrementalUniCashLoad(uniCash, 0, progressListener -> List.of());
+    }
+
+    /**
+     * Returns a load of {@code newestUniCash}, of which the {@code historySize} older transactions
+     * are read and converted by {@code historyReader} when the history is loaded.
+     */
+    static IncrementalUniCashLoad of(ReadOnlyUniCash newestUniCash, int historySize, HistoryReader historyReader) {
+        requireNonNull(newestUniCash);
+        requireNonNull(historyReader);
+        assert historySize >= 0 : "History size cannot be negative";
+        return new IncrementalUniCashLoad(newestUniCash, historySize, historyReader);
+    }
+
+    /**
+     * Returns the budget and the newest transactions.
+     */
+    public ReadOnlyUniCash getNewestUniCash() {
+        return newestUniCash;
+    }
+
+    /**
+     * Returns the number of transactions older than the newest ones, which have yet to be converted.
+     */
+    public int getHistorySize() {
+        return historySize;
+    }
+
+    /**
+     * Reads and converts the transactions older than the newest ones, and returns them from oldest to newest.
+     * {@code progressListener} is told the number of transactions converted so far
+     * after every {@value #PROGRESS_INTERVAL} transactions.
+     *
+     * @throws DataLoadingException if the transactions cannot be read, or any of them violate data constraints.
+     */
+    public List<Transaction> loadHistory(IntConsumer progressListener) throws DataLoadingException {
+        requireNonNull(progressListener);
+        List<Transaction> history = historyReader.read(progressListener);
+        assert history.size() == historySize : "The history read must have the size it was loaded with";
+        return history;
+    }
+
+    /**
+     * Reads and converts the history of a load.
+     */
+    @FunctionalInterface
+    interface HistoryReader {
+        List<Transaction> read(IntConsumer progressListener) throws DataLoadingException;
+    }
+
+}
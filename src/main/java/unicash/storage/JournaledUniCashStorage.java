@@ -0,0 +1,467 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import unicash.commons.core.LogsCenter;
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.commons.util.FileUtil;
+import unicash.commons.util.JsonUtil;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.budget.Budget;
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionList;
+
+/**
+ * A class to access UniCash data stored as a json snapshot plus an append-only journal of changes.
+ *
+ * <p>Saving the UniCash that was last saved only appends the changes made to it since, so the cost
+ * of a save scales with the size of the change rather than the size of the ledger. Once the journal
+ * grows past the compaction threshold, or a change cannot be expressed as journal entries, a fresh
+ * snapshot is written and the journal is discarded.</p>
+ *
+ * <p>Changes are recorded as they are made to the UniCash that was last saved, so it should only be modified
+ * on the thread that saves it. To save in the background, save a copy that the saving thread keeps up to date,
+ * as {@link StorageManager} does.</p>
+ *
+ * <p>The journal is a write-ahead log. Its header holds the checksum of the snapshot it applies to,
+ * and every record is prefixed with its own checksum. Reading recovers from a crash at any point:</p>
+ * <ul>
+ *     <li>a torn record at the end of the journal, and anything after it, is discarded;</li>
+ *     <li>a journal left behind by a compaction that did not get to delete it is ignored,
+ *     since its header no longer matches the snapshot;</li>
+ *     <li>the previous snapshot is kept as a backup while a new one is written, and is read together
+ *     with its journal if the newest snapshot is missing or unreadable.</li>
+ * </ul>
+ */
+public class JournaledUniCashStorage implements UniCashStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    public static final String MESSAGE_INVALID_INDEX = "Journal entry %d refers to an invalid index: %d";
+
+    private static final String JOURNAL_HEADER_PREFIX = "#snapshot\t";
+    private static final char RECORD_SEPARATOR = '\t';
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledUniCashStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final Path backupPath;
+    private final int compactionThreshold;
+    private final int maxTransactions;
+    private final JsonUniCashStorage snapshotStorage;
+
+    private final ListChangeListener<Transaction> changeRecorder = this::recordChange;
+
+    // All fields below are guarded by this storage's monitor
+    private final List<JsonAdaptedJournalEntry> unwrittenEntries = new ArrayList<>();
+    private long snapshotChecksum;
+    private boolean isSnapshotValid;
+    private ReadOnlyUniCash trackedUniCash;
+    private Budget lastRecordedBudget;
+    private boolean isCompactionRequired;
+    private int journalSize;
+
+    public JournaledUniCashStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a journaled storage that compacts the journal into a snapshot
+     * once it holds {@code compactionThreshold} entries.
+     */
+    public JournaledUniCashStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, TransactionList.MAX_TRANSACTIONS);
+    }
+
+    /**
+     * Creates a journaled storage that compacts the journal into a snapshot
+     * once it holds {@code compactionThreshold} entries, and reads data of up to
+     * {@code maxTransactions} transactions.
+     */
+    public JournaledUniCashStorage(Path filePath, int compactionThreshold, int maxTransactions) {
+        requireNonNull(filePath);
+        assert compactionThreshold > 0 : "Compaction threshold must be positive";
+
+        this.filePath = filePath;
+        this.journalPath = getJournalPath(filePath);
+        this.backupPath = getBackupPath(filePath);
+        this.compactionThreshold = compactionThreshold;
+        this.maxTransactions = maxTransactions;
+        this.snapshotStorage = new JsonUniCashStorage(filePath, maxTransactions);
+    }
+
+    /**
+     * Returns the path of the journal that accompanies the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalPath(Path snapshotPath) {
+        requireNonNull(snapshotPath);
+        return Paths.get(snapshotPath.toString() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the previous snapshot that is kept as a backup of the snapshot at {@code snapshotPath}.
+     */
+    public static Path getBackupPath(Path snapshotPath) {
+        requireNonNull(snapshotPath);
+        return Paths.get(snapshotPath.toString() + BACKUP_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getUniCashFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyUniCash> readUniCash() throws DataLoadingException {
+        return readUniCash(filePath);
+    }
+
+    /**
+     * Reads the newest valid snapshot at {@code filePath}, or its backup, and replays the valid records
+     * of its journal, if any, on top of it.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyUniCash> readUniCash(Path filePath) throws DataLoadingException {
+        return readUniCashIncrementally(filePath, Integer.MAX_VALUE).map(IncrementalUniCashLoad::getNewestUniCash);
+    }
+
+    /**
+     * Similar to {@link #readUniCash()}.
+     * The journal is replayed on the layout of the snapshot before any of its transactions is read, so that only
+     * the newest {@code newestCount} transactions of the result need to be read and converted before returning.
+     */
+    @Override
+    public Optional<IncrementalUniCashLoad> readUniCashIncrementally(int newestCount) throws DataLoadingException {
+        return readUniCashIncrementally(filePath, newestCount);
+    }
+
+    private Optional<IncrementalUniCashLoad> readUniCashIncrementally(Path filePath, int newestCount)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+
+        long startTime = System.nanoTime();
+        Path snapshotPath = filePath;
+        Path backupPath = getBackupPath(filePath);
+        Optional<SnapshotLayout> snapshot;
+        try {
+            snapshot = snapshotStorage.readSnapshotLayout(filePath);
+        } catch (DataLoadingException e) {
+            if (!FileUtil.isFileExists(backupPath)) {
+                throw e;
+            }
+            logger.warning("Snapshot at " + filePath + " could not be read, recovering from backup " + backupPath);
+            snapshot = Optional.empty();
+        }
+        if (snapshot.isEmpty() && FileUtil.isFileExists(backupPath)) {
+            snapshotPath = backupPath;
+            snapshot = snapshotStorage.readSnapshotLayout(backupPath);
+        }
+        if (snapshot.isEmpty()) {
+            markSnapshotValid(filePath, snapshotPath, false);
+            return Optional.empty();
+        }
+
+        SnapshotLayout uniCash = snapshot.get();
+        Path journalPath = getJournalPath(filePath);
+        if (FileUtil.isFileExists(journalPath)) {
+            try {
+                replayJournal(uniCash, snapshotPath, journalPath);
+            } catch (IOException | IllegalValueException e) {
+                logger.info("Journal at " + journalPath + " could not be replayed: " + e.getMessage());
+                throw new DataLoadingException(e);
+            }
+            long recoveryMillis = (System.nanoTime() - startTime) / 1_000_000;
+            logger.info(String.format("Recovered UniCash data from %s and %s in %d ms",
+                    snapshotPath, journalPath, recoveryMillis));
+        }
+
+        try {
+            IncrementalUniCashLoad load = uniCash.toIncrementalLoad(newestCount, maxTransactions);
+            markSnapshotValid(filePath, snapshotPath, true);
+            return Optional.of(load);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from snapshot " + snapshotPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + snapshotPath + " or its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Remembers whether the snapshot of this storage's data file was read successfully, so that
+     * only a valid snapshot ever replaces the backup.
+     */
+    private synchronized void markSnapshotValid(Path filePath, Path snapshotPath, boolean isRead) {
+        if (filePath.equals(this.filePath)) {
+            isSnapshotValid = isRead && snapshotPath.equals(filePath);
+        }
+    }
+
+    /**
+     * Applies the valid records of the journal at {@code journalPath} to {@code snapshot}, the layout of the
+     * snapshot at {@code snapshotPath}, unless the journal belongs to another snapshot.
+     */
+    private void replayJournal(SnapshotLayout snapshot, Path snapshotPath, Path journalPath)
+            throws IOException, IllegalValueException {
+        // Decoded leniently, as a torn record may end in the middle of a character
+        List<String> lines = new String(Files.readAllBytes(journalPath), StandardCharsets.UTF_8).lines()
+                .filter(line -> !line.isBlank())
+                .collect(Collectors.toList());
+        if (lines.isEmpty() || !lines.get(0).equals(formatHeader(getChecksum(snapshotPath)))) {
+            logger.info("Ignoring journal " + journalPath + " as it does not belong to snapshot " + snapshotPath);
+            return;
+        }
+
+        int entryCount = 0;
+        for (String line : lines.subList(1, lines.size())) {
+            Optional<String> record = parseRecord(line);
+            if (record.isEmpty()) {
+                break;
+            }
+            entryCount++;
+            JsonAdaptedJournalEntry entry = JsonUtil.fromJsonString(record.get(), JsonAdaptedJournalEntry.class);
+            applyEntry(entry, entryCount, snapshot);
+        }
+
+        int discardedCount = lines.size() - 1 - entryCount;
+        logger.info("Replayed " + entryCount + " journal records from " + journalPath
+                + ", discarded " + discardedCount + " torn records");
+    }
+
+    /**
+     * Returns the header of a journal for the snapshot with the given checksum.
+     */
+    static String formatHeader(long snapshotChecksum) {
+        return JOURNAL_HEADER_PREFIX + Long.toHexString(snapshotChecksum);
+    }
+
+    /**
+     * Returns {@code json} as a journal record, prefixed with its checksum.
+     */
+    static String formatRecord(String json) {
+        return Long.toHexString(getChecksum(json)) + RECORD_SEPARATOR + json;
+    }
+
+    /**
+     * Returns the json of the journal record {@code line}, or {@code Optional.empty()} if the record is torn.
+     */
+    private static Optional<String> parseRecord(String line) {
+        int separatorIndex = line.indexOf(RECORD_SEPARATOR);
+        if (separatorIndex < 0) {
+            return Optional.empty();
+        }
+
+        String json = line.substring(separatorIndex + 1);
+        String checksum = line.substring(0, separatorIndex);
+        return checksum.equals(Long.toHexString(getChecksum(json))) ? Optional.of(json) : Optional.empty();
+    }
+
+    private static long getChecksum(String json) {
+        CRC32 checksum = new CRC32();
+        checksum.update(json.getBytes(StandardCharsets.UTF_8));
+        return checksum.getValue();
+    }
+
+    /**
+     * Returns the CRC32 checksum of the file at {@code path}.
+     */
+    static long getChecksum(Path path) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(path), checksum)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Applies {@code entry} to {@code snapshot}.
+     */
+    private static void applyEntry(JsonAdaptedJournalEntry entry, int entryNumber, SnapshotLayout snapshot)
+            throws IllegalValueException {
+        String op = entry.getOp();
+        switch (op) {
+        case JsonAdaptedJournalEntry.OP_ADD:
+            int addIndex = entry.getIndex();
+            if (addIndex > snapshot.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, entryNumber, addIndex));
+            }
+            snapshot.add(addIndex, entry.getTransaction());
+            return;
+        case JsonAdaptedJournalEntry.OP_REMOVE:
+            int removeIndex = entry.getIndex();
+            if (removeIndex >= snapshot.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, entryNumber, removeIndex));
+            }
+            snapshot.remove(removeIndex);
+            return;
+        case JsonAdaptedJournalEntry.OP_BUDGET:
+            snapshot.setBudget(entry.getBudget());
+            return;
+        case JsonAdaptedJournalEntry.OP_CLEAR_BUDGET:
+            snapshot.setBudget(null);
+            return;
+        default:
+            throw new IllegalValueException(String.format(JsonAdaptedJournalEntry.MESSAGE_UNKNOWN_OP, op));
+        }
+    }
+
+    @Override
+    public void saveUniCash(ReadOnlyUniCash uniCash) throws IOException {
+        saveUniCash(uniCash, filePath);
+    }
+
+    /**
+     * Saves {@code uniCash} to {@code filePath}.
+     *
+     * <p>Only the data file of this storage is journaled. Saving to any other location,
+     * such as when exporting, writes a plain json snapshot.</p>
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+        requireNonNull(uniCash);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveUniCash(uniCash, filePath);
+            return;
+        }
+
+        if (uniCash != trackedUniCash) {
+            startTracking(uniCash);
+        }
+        Budget budget = uniCash.getBudget();
+        if (!Objects.equals(budget, lastRecordedBudget)) {
+            unwrittenEntries.add(JsonAdaptedJournalEntry.ofBudget(budget));
+            lastRecordedBudget = budget;
+        }
+        if (!isCompactionRequired && unwrittenEntries.isEmpty()) {
+            return;
+        }
+
+        boolean isCompacting = isCompactionRequired || journalSize + unwrittenEntries.size() > compactionThreshold;
+        try {
+            if (isCompacting) {
+                compact(uniCash);
+            } else {
+                append(unwrittenEntries);
+            }
+        } catch (IOException ioe) {
+            // A partially written journal cannot be trusted, so the next save rewrites the snapshot
+            requireCompaction();
+            throw ioe;
+        }
+
+        journalSize = isCompacting ? 0 : journalSize + unwrittenEntries.size();
+        unwrittenEntries.clear();
+        isCompactionRequired = false;
+    }
+
+    /**
+     * Writes {@code uniCash} in full and discards the journal.
+     * The previous snapshot is kept as the backup, as long as it is known to be valid.
+     */
+    private void compact(ReadOnlyUniCash uniCash) throws IOException {
+        if (isSnapshotValid && FileUtil.isFileExists(filePath)) {
+            Files.move(filePath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        isSnapshotValid = false;
+        snapshotStorage.saveUniCash(uniCash, filePath);
+        Files.deleteIfExists(journalPath);
+        snapshotChecksum = getChecksum(filePath);
+        isSnapshotValid = true;
+        logger.fine("Compacted UniCash journal into snapshot at " + filePath);
+    }
+
+    private void append(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        assert isSnapshotValid : "Journal records must follow a valid snapshot";
+
+        StringBuilder lines = new StringBuilder();
+        if (!FileUtil.isFileExists(journalPath)) {
+            lines.append(formatHeader(snapshotChecksum)).append(System.lineSeparator());
+        }
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(formatRecord(JsonUtil.toCompactJsonString(entry))).append(System.lineSeparator());
+        }
+        FileUtil.appendToFile(journalPath, lines.toString());
+    }
+
+    /**
+     * Starts recording changes made to the transactions of {@code uniCash}, in place of
+     * the previously tracked UniCash. The first save of a newly tracked UniCash is a full snapshot.
+     */
+    private void startTracking(ReadOnlyUniCash uniCash) {
+        if (trackedUniCash != null) {
+            trackedUniCash.getTransactionList().removeListener(changeRecorder);
+        }
+        trackedUniCash = uniCash;
+        trackedUniCash.getTransactionList().addListener(changeRecorder);
+        lastRecordedBudget = uniCash.getBudget();
+        requireCompaction();
+    }
+
+    /**
+     * Translates a change of the tracked transaction list into journal entries.
+     * Changes that would not be cheaper to journal than to snapshot mark the journal for compaction instead.
+     */
+    private synchronized void recordChange(ListChangeListener.Change<? extends Transaction> change) {
+        while (!isCompactionRequired && change.next()) {
+            int entryCount = change.getRemovedSize() + change.getAddedSize();
+            if (change.wasPermutated()
+                    || journalSize + unwrittenEntries.size() + entryCount > compactionThreshold) {
+                requireCompaction();
+                continue;
+            }
+
+            int from = change.getFrom();
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                unwrittenEntries.add(JsonAdaptedJournalEntry.ofRemove(from));
+            }
+            if (change.wasAdded()) {
+                ObservableList<? extends Transaction> list = change.getList();
+                for (int i = from; i < change.getTo(); i++) {
+                    unwrittenEntries.add(JsonAdaptedJournalEntry.ofAdd(i, list.get(i)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards the unwritten entries, so that the next save writes a full snapshot instead.
+     */
+    private void requireCompaction() {
+        unwrittenEntries.clear();
+        isCompactionRequired = true;
+    }
+}
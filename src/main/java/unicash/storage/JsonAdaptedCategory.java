@@ -42,7 +42,7 @@ class JsonAdaptedCategory {
         if (!Category.isValidCategory(category)) {
             throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
         }
-        return new Category(category);
+        return Category.of(category);
     }
 
 }
@@ -0,0 +1,118 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.model.budget.Budget;
+import unicash.model.transaction.Transaction;
+
+/**
+ * Jackson-friendly version of a single change recorded in the UniCash journal.
+ *
+ * <p>Every entry describes one operation on the transaction list or the budget, so that
+ * replaying the entries in order onto the last snapshot reproduces the saved UniCash.</p>
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String OP_ADD = "add";
+    public static final String OP_REMOVE = "remove";
+    public static final String OP_BUDGET = "budget";
+    public static final String OP_CLEAR_BUDGET = "clearBudget";
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_OP = "Journal entry has an unknown operation: %s";
+
+    private final String op;
+    private final Integer index;
+    private final JsonAdaptedTransaction transaction;
+    private final JsonAdaptedBudget budget;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(
+            @JsonProperty("op") String op,
+            @JsonProperty("index") Integer index,
+            @JsonProperty("transaction") JsonAdaptedTransaction transaction,
+            @JsonProperty("budget") JsonAdaptedBudget budget
+    ) {
+        this.op = op;
+        this.index = index;
+        this.transaction = transaction;
+        this.budget = budget;
+    }
+
+    /**
+     * Returns an entry that inserts {@code transaction} at {@code index} of the transaction list.
+     */
+    public static JsonAdaptedJournalEntry ofAdd(int index, Transaction transaction) {
+        requireNonNull(transaction);
+        return new JsonAdaptedJournalEntry(OP_ADD, index, new JsonAdaptedTransaction(transaction), null);
+    }
+
+    /**
+     * Returns an entry that removes the transaction at {@code index} of the transaction list.
+     */
+    public static JsonAdaptedJournalEntry ofRemove(int index) {
+        return new JsonAdaptedJournalEntry(OP_REMOVE, index, null, null);
+    }
+
+    /**
+     * Returns an entry that sets the budget to {@code budget}, or clears it if {@code budget} is null.
+     */
+    public static JsonAdaptedJournalEntry ofBudget(Budget budget) {
+        if (budget == null) {
+            return new JsonAdaptedJournalEntry(OP_CLEAR_BUDGET, null, null, null);
+        }
+        return new JsonAdaptedJournalEntry(OP_BUDGET, null, null, new JsonAdaptedBudget(budget));
+    }
+
+    String getOp() throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+        return op;
+    }
+
+    /**
+     * Returns the list index targeted by this entry.
+     *
+     * @throws IllegalValueException if the index is missing or negative.
+     */
+    int getIndex() throws IllegalValueException {
+        if (index == null || index < 0) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+        return index;
+    }
+
+    /**
+     * Returns the adapted transaction carried by an add entry.
+     * It is only converted into the model's {@code Transaction} when the UniCash it is added to is loaded.
+     *
+     * @throws IllegalValueException if the transaction is missing.
+     */
+    JsonAdaptedTransaction getTransaction() throws IllegalValueException {
+        if (transaction == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "transaction"));
+        }
+        return transaction;
+    }
+
+    /**
+     * Returns the model {@code Budget} carried by a budget entry.
+     *
+     * @throws IllegalValueException if the budget is missing or violates data constraints.
+     */
+    Budget getBudget() throws IllegalValueException {
+        if (budget == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "budget"));
+        }
+        return budget.toModelType();
+    }
+
+}
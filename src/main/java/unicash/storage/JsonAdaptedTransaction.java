@@ -2,7 +2,6 @@ package unicash.storage;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -58,14 +57,13 @@ public class JsonAdaptedTransaction {
      */
     public JsonAdaptedTransaction(Transaction source) {
         name = source.getName().fullName;
-        amount = source.getAmount().amount;
+        amount = source.getAmount().getValue();
         dateTime = source.getDateTime().inputString();
         location = source.getLocation().location;
         type = source.getType().type.getOriginalString();
-        categories.addAll(source.getCategories().asUnmodifiableObservableList()
-                .stream()
-                .map(JsonAdaptedCategory::new)
-                .collect(Collectors.toList()));
+        for (Category category : source.getCategories()) {
+            categories.add(new JsonAdaptedCategory(category));
+        }
     }
 
     /**
@@ -80,7 +78,7 @@ public class JsonAdaptedTransaction {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
         if (!Amount.isValidAmount(amount)) {
             throw new IllegalValueException(Amount.MESSAGE_CONSTRAINTS);
@@ -98,7 +96,7 @@ public class JsonAdaptedTransaction {
         if (location != null && !Location.isValidLocation(location)) {
             throw new IllegalValueException(Location.MESSAGE_CONSTRAINTS);
         }
-        final Location modelLocation = new Location(location);
+        final Location modelLocation = Location.of(location);
 
         if (type == null) {
             throw new IllegalValueException(formatMissingFieldMessage(Type.class));
@@ -1,5 +1,6 @@
 package unicash.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,11 +8,17 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import unicash.commons.exceptions.IllegalValueException;
+import unicash.commons.util.JsonUtil;
 import unicash.model.ReadOnlyUniCash;
 import unicash.model.UniCash;
 import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionList;
 
 /**
  * An Immutable UniCash that is serializable to JSON format.
@@ -19,6 +26,10 @@ import unicash.model.transaction.Transaction;
 @JsonRootName(value = "unicash")
 class JsonSerializableUniCash {
 
+    public static final String MESSAGE_INVALID_TRANSACTION = "Transactions must be json objects!";
+    private static final String FIELD_TRANSACTIONS = "transactions";
+    private static final String FIELD_BUDGET = "budget";
+
     private final List<JsonAdaptedTransaction> transactions = new ArrayList<>();
     private final JsonAdaptedBudget budget;
 
@@ -54,20 +65,153 @@ class JsonSerializableUniCash {
     }
 
     /**
-     * Converts this transaction list into the model's {@code UniCash} object.
+     * Converts this transaction list into the model's {@code UniCash} object, which holds up to
+     * {@value TransactionList#MAX_TRANSACTIONS} transactions.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public UniCash toModelType() throws IllegalValueException {
-        UniCash uniCash = new UniCash();
-        for (var jsonAdaptedTransaction : transactions) {
-            Transaction transaction = jsonAdaptedTransaction.toModelType();
-            uniCash.addTransaction(transaction);
+        return toModelType(TransactionList.MAX_TRANSACTIONS);
+    }
+
+    /**
+     * Converts this transaction list into the model's {@code UniCash} object, which holds up to
+     * {@code maxTransactions} transactions.
+     * The transactions are converted in parallel by a {@code ParallelTransactionConverter}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public UniCash toModelType(int maxTransactions) throws IllegalValueException {
+        if (transactions.size() > maxTransactions) {
+            throw new IllegalValueException(TransactionList.getSizeConstraintsMessage(maxTransactions));
         }
+
+        UniCash uniCash = new UniCash(maxTransactions);
+        uniCash.setTransactions(ParallelTransactionConverter.convert(transactions, convertedCount -> { }));
+        if (budget != null) {
+            uniCash.setBudget(budget.toModelType());
+        }
+        return uniCash;
+    }
+
+    /**
+     * Writes {@code source} as a UniCash json document to {@code generator}.
+     *
+     * <p>Produces the same document as serializing a {@code JsonSerializableUniCash} of {@code source},
+     * but adapts and writes one transaction at a time instead of building the whole document first.</p>
+     *
+     * @throws IOException if there was any problem writing to the generator.
+     */
+    public static void writeModelType(ReadOnlyUniCash source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+
+        generator.writeArrayFieldStart(FIELD_TRANSACTIONS);
+        for (Transaction transaction : source.getTransactionList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedTransaction(transaction));
+        }
+        generator.writeEndArray();
+
+        generator.writeFieldName(FIELD_BUDGET);
+        if (source.getBudget() != null) {
+            JsonUtil.writeValue(generator, new JsonAdaptedBudget(source.getBudget()));
+        } else {
+            generator.writeNull();
+        }
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a UniCash json document from {@code parser} directly into the model's {@code UniCash} object.
+     *
+     * <p>Unlike {@link #toModelType()}, the transactions are handed to a {@code ParallelTransactionConverter}
+     * as they are read, so they are converted while the rest of the document is still being parsed, and the
+     * adapted transactions never have to be held in memory all at once. The converted transactions are
+     * then inserted into the {@code UniCash} in a single batch.</p>
+     *
+     * @throws IOException if the document is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated, or the document holds
+     *     more than {@code maxTransactions} transactions.
+     */
+    public static UniCash readModelType(JsonParser parser, int maxTransactions)
+            throws IOException, IllegalValueException {
+        ParallelTransactionConverter converter = new ParallelTransactionConverter();
+        JsonAdaptedBudget budget = readDocument(parser, maxTransactions, (transactionParser, index) ->
+                converter.add(JsonUtil.readValue(transactionParser, JsonAdaptedTransaction.class)));
+
+        UniCash uniCash = new UniCash(maxTransactions);
+        uniCash.setTransactions(converter.finish(convertedCount -> { }));
         if (budget != null) {
             uniCash.setBudget(budget.toModelType());
         }
         return uniCash;
     }
 
+    /**
+     * Reads a UniCash json document from {@code parser}, passing the parser to {@code transactionReader}
+     * at each transaction in order, and returns its budget.
+     *
+     * @throws IOException if the document is not valid json.
+     * @throws IllegalValueException if a transaction is not a json object, or the document holds
+     *     more than {@code maxTransactions} transactions.
+     */
+    static JsonAdaptedBudget readDocument(JsonParser parser, int maxTransactions,
+            TransactionReader transactionReader) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a UniCash json object");
+        }
+
+        JsonAdaptedBudget budget = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (valueToken == JsonToken.VALUE_NULL) {
+                continue;
+            }
+
+            switch (fieldName) {
+            case FIELD_TRANSACTIONS:
+                readTransactions(parser, maxTransactions, transactionReader);
+                break;
+            case FIELD_BUDGET:
+                budget = JsonUtil.readValue(parser, JsonAdaptedBudget.class);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return budget;
+    }
+
+    private static void readTransactions(JsonParser parser, int maxTransactions,
+            TransactionReader transactionReader) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected a json array of transactions");
+        }
+
+        int transactionCount = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                throw new IllegalValueException(MESSAGE_INVALID_TRANSACTION);
+            }
+            if (transactionCount == maxTransactions) {
+                throw new IllegalValueException(TransactionList.getSizeConstraintsMessage(maxTransactions));
+            }
+            transactionReader.read(parser, transactionCount);
+            transactionCount++;
+        }
+    }
+
+    /**
+     * Handles each transaction of a UniCash json document.
+     */
+    @FunctionalInterface
+    interface TransactionReader {
+        /**
+         * Reads or skips the transaction at {@code index} of the document, starting at the json object
+         * that {@code parser} is at, and leaving the parser at the end of that object.
+         */
+        void read(JsonParser parser, int index) throws IOException, IllegalValueException;
+    }
+
 }
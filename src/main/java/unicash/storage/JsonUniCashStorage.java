@@ -7,24 +7,41 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import unicash.commons.core.LogsCenter;
 import unicash.commons.exceptions.DataLoadingException;
 import unicash.commons.exceptions.IllegalValueException;
 import unicash.commons.util.FileUtil;
 import unicash.commons.util.JsonUtil;
 import unicash.model.ReadOnlyUniCash;
+import unicash.model.transaction.TransactionList;
 
 /**
  * A class to access UniCash data stored as a json file on the hard disk.
  */
 public class JsonUniCashStorage implements UniCashStorage {
 
+    /** Data with more transactions than this is written compactly, as indentation would bloat the file. */
+    public static final int PRETTY_PRINT_LIMIT = 1000;
+
     private static final Logger logger = LogsCenter.getLogger(JsonUniCashStorage.class);
 
     private final Path filePath;
+    private final int maxTransactions;
 
     public JsonUniCashStorage(Path filePath) {
+        this(filePath, TransactionList.MAX_TRANSACTIONS);
+    }
+
+    /**
+     * Creates a json storage for the data file at {@code filePath}, which reads data of
+     * up to {@code maxTransactions} transactions.
+     */
+    public JsonUniCashStorage(Path filePath, int maxTransactions) {
         this.filePath = filePath;
+        this.maxTransactions = maxTransactions;
     }
 
     public Path getUniCashFilePath() {
@@ -38,6 +55,7 @@ public class JsonUniCashStorage implements UniCashStorage {
 
     /**
      * Similar to {@link #readUniCash()}.
+     * The file is streamed, converting each transaction as it is read.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,13 +63,64 @@ public class JsonUniCashStorage implements UniCashStorage {
     public Optional<ReadOnlyUniCash> readUniCash(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        var jsonUniCash = JsonUtil.readJsonFile(filePath, JsonSerializableUniCash.class);
-        if (jsonUniCash.isEmpty()) {
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableUniCash.readModelType(parser, maxTransactions));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Similar to {@link #readUniCash()}.
+     * The file is streamed once to count the transactions without reading them, and again to convert only the
+     * newest {@code newestCount} transactions. The older history is read in a third pass when it is loaded.
+     */
+    @Override
+    public Optional<IncrementalUniCashLoad> readUniCashIncrementally(int newestCount) throws DataLoadingException {
+        Optional<SnapshotLayout> layout = readSnapshotLayout(filePath);
+        if (layout.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(layout.get().toIncrementalLoad(newestCount, maxTransactions));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the layout of the UniCash json document at {@code filePath}, without reading any of its transactions.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file is not a valid UniCash json document.
+     */
+    Optional<SnapshotLayout> readSnapshotLayout(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
         try {
-            return Optional.of(jsonUniCash.get().toModelType());
+            return Optional.of(SnapshotLayout.read(filePath, maxTransactions));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -65,6 +134,7 @@ public class JsonUniCashStorage implements UniCashStorage {
 
     /**
      * Similar to {@link #saveUniCash(ReadOnlyUniCash)}.
+     * The data is streamed to a temporary file that then atomically replaces the file at {@code filePath}.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -72,8 +142,12 @@ public class JsonUniCashStorage implements UniCashStorage {
         requireNonNull(uniCash);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableUniCash(uniCash), filePath);
+        boolean isPrettyPrinted = uniCash.getTransactionList().size() <= PRETTY_PRINT_LIMIT;
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+                JsonSerializableUniCash.writeModelType(uniCash, generator);
+            }
+        });
     }
 
 }
@@ -0,0 +1,168 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.model.transaction.Transaction;
+
+/**
+ * Converts adapted transactions into the model's {@code Transaction} in chunks on a fork-join pool.
+ *
+ * <p>Transactions are added in order, and every full chunk is submitted to the pool as soon as it is added,
+ * so conversion runs alongside whatever is producing the transactions, such as a json parser.
+ * The converted transactions are returned in the order they were added, and a data constraint violation
+ * is reported for the earliest invalid transaction, with its index among all the transactions of the data,
+ * which may not start with the first transaction added.</p>
+ */
+class ParallelTransactionConverter {
+
+    /** The number of transactions converted by a single task. */
+    public static final int CHUNK_SIZE = 1000;
+
+    public static final String MESSAGE_INVALID_TRANSACTION_AT = "Invalid transaction at index %d: %s";
+
+    private final ForkJoinPool pool;
+    private final int firstIndex;
+    private final List<ForkJoinTask<ConvertedChunk>> submittedChunks = new ArrayList<>();
+    private List<JsonAdaptedTransaction> pendingChunk = new ArrayList<>(CHUNK_SIZE);
+    private int submittedCount;
+
+    /**
+     * Creates a converter that runs on the common fork-join pool.
+     */
+    ParallelTransactionConverter() {
+        this(ForkJoinPool.commonPool(), 0);
+    }
+
+    /**
+     * Creates a converter that runs on {@code pool}, for transactions that start at index {@code firstIndex}
+     * among all the transactions of the data.
+     */
+    ParallelTransactionConverter(ForkJoinPool pool, int firstIndex) {
+        requireNonNull(pool);
+        assert firstIndex >= 0 : "The index of the first transaction cannot be negative";
+        this.pool = pool;
+        this.firstIndex = firstIndex;
+    }
+
+    /**
+     * Converts {@code adaptedTransactions} in parallel, and returns them in the same order.
+     * {@code progressListener} is told the number of transactions converted so far after every full chunk.
+     *
+     * @throws IllegalValueException if any of the transactions violate data constraints.
+     */
+    static List<Transaction> convert(List<JsonAdaptedTransaction> adaptedTransactions,
+            IntConsumer progressListener) throws IllegalValueException {
+        return convert(adaptedTransactions, 0, progressListener);
+    }
+
+    /**
+     * Similar to {@link #convert(List, IntConsumer)}, for transactions that start at index {@code firstIndex}
+     * among all the transactions of the data, so that an invalid transaction is reported with its index
+     * among all of them.
+     */
+    static List<Transaction> convert(List<JsonAdaptedTransaction> adaptedTransactions, int firstIndex,
+            IntConsumer progressListener) throws IllegalValueException {
+        ParallelTransactionConverter converter = new ParallelTransactionConverter(ForkJoinPool.commonPool(),
+                firstIndex);
+        adaptedTransactions.forEach(converter::add);
+        return converter.finish(progressListener);
+    }
+
+    /**
+     * Adds {@code adaptedTransaction} after the transactions added so far.
+     */
+    void add(JsonAdaptedTransaction adaptedTransaction) {
+        requireNonNull(adaptedTransaction);
+        pendingChunk.add(adaptedTransaction);
+        if (pendingChunk.size() == CHUNK_SIZE) {
+            submittedChunks.add(pool.submit(new ConvertChunkTask(pendingChunk, firstIndex + submittedCount)));
+            submittedCount += CHUNK_SIZE;
+            pendingChunk = new ArrayList<>(CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * Waits for all the added transactions to be converted, and returns them in the order they were added.
+     * The last, partial chunk is converted on the calling thread.
+     * {@code progressListener} is told the number of transactions converted so far after every full chunk.
+     *
+     * @throws IllegalValueException if any of the transactions violate data constraints.
+     */
+    List<Transaction> finish(IntConsumer progressListener) throws IllegalValueException {
+        requireNonNull(progressListener);
+
+        ConvertedChunk lastChunk = new ConvertChunkTask(pendingChunk, firstIndex + submittedCount).call();
+        List<Transaction> transactions = new ArrayList<>(submittedCount + pendingChunk.size());
+        for (int i = 0; i < submittedChunks.size(); i++) {
+            ConvertedChunk chunk = submittedChunks.get(i).join();
+            if (chunk.failure != null) {
+                cancelFrom(i + 1);
+                throw chunk.failure;
+            }
+            transactions.addAll(Arrays.asList(chunk.transactions));
+            progressListener.accept(transactions.size());
+        }
+
+        if (lastChunk.failure != null) {
+            throw lastChunk.failure;
+        }
+        transactions.addAll(Arrays.asList(lastChunk.transactions));
+        return transactions;
+    }
+
+    private void cancelFrom(int chunkIndex) {
+        for (int i = chunkIndex; i < submittedChunks.size(); i++) {
+            submittedChunks.get(i).cancel(false);
+        }
+    }
+
+    /**
+     * The transactions converted from a chunk, or the first data constraint violation found in it.
+     */
+    private static class ConvertedChunk {
+        private final Transaction[] transactions;
+        private final IllegalValueException failure;
+
+        private ConvertedChunk(Transaction[] transactions, IllegalValueException failure) {
+            this.transactions = transactions;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * Converts a chunk of adapted transactions that starts at {@code startIndex} among all the transactions.
+     */
+    private static class ConvertChunkTask implements Callable<ConvertedChunk> {
+        private final List<JsonAdaptedTransaction> chunk;
+        private final int startIndex;
+
+        private ConvertChunkTask(List<JsonAdaptedTransaction> chunk, int startIndex) {
+            this.chunk = chunk;
+            this.startIndex = startIndex;
+        }
+
+        @Override
+        public ConvertedChunk call() {
+            Transaction[] transactions = new Transaction[chunk.size()];
+            for (int i = 0; i < transactions.length; i++) {
+                try {
+                    transactions[i] = chunk.get(i).toModelType();
+                } catch (IllegalValueException ive) {
+                    String message = String.format(MESSAGE_INVALID_TRANSACTION_AT, startIndex + i, ive.getMessage());
+                    return new ConvertedChunk(null, new IllegalValueException(message, ive));
+                }
+            }
+            return new ConvertedChunk(transactions, null);
+        }
+    }
+
+}
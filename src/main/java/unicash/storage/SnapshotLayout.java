@@ -0,0 +1,251 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.commons.util.JsonUtil;
+import unicash.model.UniCash;
+import unicash.model.budget.Budget;
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionList;
+
+/**
+ * The transactions and budget of UniCash data that is stored as a json snapshot, possibly changed by
+ * journal entries replayed on top of it, without any of the snapshot's transactions having been read.
+ *
+ * <p>Each transaction of the data is either a record of the snapshot, kept as its position in the snapshot,
+ * or a transaction added by the journal. Journal entries never reorder transactions, so the records of the
+ * snapshot stay in the order they are stored, and any range of the data can be read in a single pass over
+ * the snapshot that skips the records outside of it.</p>
+ */
+class SnapshotLayout {
+
+    public static final String MESSAGE_SNAPSHOT_CHANGED = "The snapshot at %s changed while it was being read";
+
+    private final Path snapshotPath;
+    private final int snapshotSize;
+    private final List<JsonAdaptedTransaction> journalTransactions = new ArrayList<>();
+    private Budget budget;
+
+    /**
+     * The source of each transaction: the position of a snapshot record if non-negative, or else
+     * {@code -1 - i} for the {@code i}th transaction added by the journal.
+     * Null while the data is exactly the records of the snapshot.
+     */
+    private int[] sources;
+    private int size;
+
+    private SnapshotLayout(Path snapshotPath, int snapshotSize, Budget budget) {
+        this.snapshotPath = snapshotPath;
+        this.snapshotSize = snapshotSize;
+        this.budget = budget;
+        this.size = snapshotSize;
+    }
+
+    /**
+     * Reads the layout of the snapshot at {@code snapshotPath}, which only counts its transactions
+     * without reading them, and reads its budget.
+     *
+     * @throws IOException if the snapshot is not valid json.
+     * @throws IllegalValueException if the snapshot holds more than {@code maxTransactions} transactions,
+     *     or its budget violates data constraints.
+     */
+    static SnapshotLayout read(Path snapshotPath, int maxTransactions) throws IOException, IllegalValueException {
+        requireNonNull(snapshotPath);
+
+        RecordCounter counter = new RecordCounter();
+        JsonAdaptedBudget budget;
+        try (JsonParser parser = JsonUtil.createParser(snapshotPath)) {
+            budget = JsonSerializableUniCash.readDocument(parser, maxTransactions, counter);
+        }
+        return new SnapshotLayout(snapshotPath, counter.count, budget == null ? null : budget.toModelType());
+    }
+
+    /**
+     * Returns the number of transactions of the data.
+     */
+    int size() {
+        return size;
+    }
+
+    Budget getBudget() {
+        return budget;
+    }
+
+    void setBudget(Budget budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Inserts {@code transaction}, added by the journal, at {@code index} of the data.
+     */
+    void add(int index, JsonAdaptedTransaction transaction) {
+        requireNonNull(transaction);
+        assert index >= 0 && index <= size : "Index out of bounds";
+
+        int[] current = getSources();
+        if (size == current.length) {
+            sources = Arrays.copyOf(current, Math.max(size * 3 / 2, size + 1));
+        }
+        System.arraycopy(sources, index, sources, index + 1, size - index);
+        journalTransactions.add(transaction);
+        sources[index] = -journalTransactions.size();
+        size++;
+    }
+
+    /**
+     * Removes the transaction at {@code index} of the data.
+     */
+    void remove(int index) {
+        assert index >= 0 && index < size : "Index out of bounds";
+
+        int[] current = getSources();
+        System.arraycopy(current, index + 1, current, index, size - index - 1);
+        size--;
+    }
+
+    private int[] getSources() {
+        if (sources == null) {
+            sources = new int[size];
+            Arrays.setAll(sources, position -> position);
+        }
+        return sources;
+    }
+
+    private int getSource(int index) {
+        return sources == null ? index : sources[index];
+    }
+
+    /**
+     * Converts the budget and only the newest {@code newestCount} transactions into the model's objects,
+     * reading only their records of the snapshot. The older history is read in another pass over the snapshot
+     * when it is loaded through the returned {@code IncrementalUniCashLoad}.
+     *
+     * @throws IOException if the snapshot cannot be read.
+     * @throws IllegalValueException if there are more than {@code maxTransactions} transactions, or
+     *     any of the newest transactions violate data constraints.
+     */
+    IncrementalUniCashLoad toIncrementalLoad(int newestCount, int maxTransactions)
+            throws IOException, IllegalValueException {
+        assert newestCount >= 0 : "The number of newest transactions cannot be negative";
+        if (size > maxTransactions) {
+            throw new IllegalValueException(TransactionList.getSizeConstraintsMessage(maxTransactions));
+        }
+
+        int historySize = Math.max(0, size - newestCount);
+        UniCash newestUniCash = new UniCash(maxTransactions);
+        newestUniCash.setTransactions(readTransactions(historySize, size, convertedCount -> { }));
+        if (budget != null) {
+            newestUniCash.setBudget(budget);
+        }
+        if (historySize == 0) {
+            return IncrementalUniCashLoad.ofLoaded(newestUniCash);
+        }
+
+        return IncrementalUniCashLoad.of(newestUniCash, historySize, progressListener -> {
+            try {
+                return readTransactions(0, historySize, progressListener);
+            } catch (IOException | IllegalValueException e) {
+                throw new DataLoadingException(e);
+            }
+        });
+    }
+
+    /**
+     * Reads the transactions from {@code from} (inclusive) to {@code to} (exclusive) of the data in a single
+     * pass over the snapshot, and converts them in parallel as they are read.
+     * {@code progressListener} is told the number of transactions converted so far after every full chunk.
+     *
+     * @throws IOException if the snapshot cannot be read.
+     * @throws IllegalValueException if any of the transactions violate data constraints, or the snapshot
+     *     no longer holds the records it held when the layout was read.
+     */
+    List<Transaction> readTransactions(int from, int to, IntConsumer progressListener)
+            throws IOException, IllegalValueException {
+        assert from >= 0 && from <= to && to <= size : "Range out of bounds";
+
+        RangeReader reader = new RangeReader(from, to);
+        if (reader.hasSnapshotRecords()) {
+            try (JsonParser parser = JsonUtil.createParser(snapshotPath)) {
+                JsonSerializableUniCash.readDocument(parser, Integer.MAX_VALUE, reader);
+            }
+            if (reader.recordCount != snapshotSize) {
+                throw new IllegalValueException(String.format(MESSAGE_SNAPSHOT_CHANGED, snapshotPath));
+            }
+        }
+        reader.addJournalTransactions();
+        return reader.converter.finish(progressListener);
+    }
+
+    /**
+     * Counts the records of a snapshot without reading them.
+     */
+    private static class RecordCounter implements JsonSerializableUniCash.TransactionReader {
+        private int count;
+
+        @Override
+        public void read(JsonParser parser, int index) throws IOException {
+            parser.skipChildren();
+            count = index + 1;
+        }
+    }
+
+    /**
+     * Hands a range of the data to a converter in order, as the records of the snapshot are read,
+     * skipping the records outside of the range.
+     */
+    private class RangeReader implements JsonSerializableUniCash.TransactionReader {
+        private final ParallelTransactionConverter converter;
+        private final int to;
+        private int next;
+        private int recordCount;
+
+        private RangeReader(int from, int to) {
+            this.converter = new ParallelTransactionConverter(ForkJoinPool.commonPool(), from);
+            this.next = from;
+            this.to = to;
+        }
+
+        private boolean hasSnapshotRecords() {
+            for (int i = next; i < to; i++) {
+                if (getSource(i) >= 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void read(JsonParser parser, int position) throws IOException {
+            recordCount = position + 1;
+            addJournalTransactions();
+            if (next < to && getSource(next) == position) {
+                converter.add(JsonUtil.readValue(parser, JsonAdaptedTransaction.class));
+                next++;
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        /**
+         * Adds the transactions added by the journal up to the next record of the snapshot in the range.
+         */
+        private void addJournalTransactions() {
+            while (next < to && getSource(next) < 0) {
+                converter.add(journalTransactions.get(-1 - getSource(next)));
+                next++;
+            }
+        }
+    }
+}
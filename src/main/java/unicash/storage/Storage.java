@@ -29,4 +29,17 @@ public interface Storage extends UniCashStorage, UserPrefsStorage {
     @Override
     void saveUniCash(ReadOnlyUniCash uniCash) throws IOException;
 
+    /**
+     * Returns true if a save of UniCash data that has already returned has since failed.
+     * The failure is reported by the next save.
+     */
+    boolean hasUniCashSaveFailed();
+
+    /**
+     * Blocks until all UniCash data handed to the storage so far has been written.
+     *
+     * @throws IOException if any of the pending writes failed.
+     */
+    void flushUniCash() throws IOException;
+
 }
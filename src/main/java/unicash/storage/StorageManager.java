@@ -2,7 +2,12 @@ package unicash.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import unicash.commons.core.LogsCenter;
@@ -13,6 +18,12 @@ import unicash.model.UserPrefs;
 
 /**
  * Manages storage of UniCash data in local storage.
+ *
+ * <p>In write-behind mode, UniCash data is saved by a single background writer instead of the calling thread.
+ * The writer keeps its own copy of the data, which each save brings up to date with the changes made since
+ * the previous save, so the calling thread never copies the data itself. Saves that arrive while the writer
+ * is busy are coalesced so that only the latest data for each file is written. A failed background save is
+ * reported by the next call to {@link #saveUniCash(ReadOnlyUniCash, Path)}.</p>
  */
 public class StorageManager implements Storage {
 
@@ -20,12 +31,33 @@ public class StorageManager implements Storage {
     private final UniCashStorage uniCashStorage;
     private final UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService writer;
+    private final UniCashReplica replica = new UniCashReplica();
+    private final Map<Path, Long> pendingSaves = new LinkedHashMap<>();
+    private boolean isWriteScheduled;
+    private IOException saveFailure;
+
     /**
      * Creates a {@code StorageManager} with the given {@code UniCashStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(UniCashStorage uniCashStorage, UserPrefsStorage userPrefsStorage) {
+        this(uniCashStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code UniCashStorage} and {@code UserPrefStorage}
+     * that saves UniCash data in the background if {@code isWriteBehind} is true.
+     */
+    public StorageManager(UniCashStorage uniCashStorage, UserPrefsStorage userPrefsStorage, boolean isWriteBehind) {
         this.userPrefsStorage = userPrefsStorage;
         this.uniCashStorage = uniCashStorage;
+        this.writer = isWriteBehind ? Executors.newSingleThreadExecutor(StorageManager::createWriterThread) : null;
+    }
+
+    private static Thread createWriterThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "UniCash-storage-writer");
+        thread.setDaemon(true);
+        return thread;
     }
 
     // ================ UserPrefs methods ==============================
@@ -60,10 +92,18 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyUniCash> readUniCash(Path filePath) throws DataLoadingException {
+        awaitPendingSaves();
         logger.fine("Attempting to read data from file: " + filePath);
         return uniCashStorage.readUniCash(filePath);
     }
 
+    @Override
+    public Optional<IncrementalUniCashLoad> readUniCashIncrementally(int newestCount) throws DataLoadingException {
+        awaitPendingSaves();
+        logger.fine("Attempting to read data incrementally from file: " + uniCashStorage.getUniCashFilePath());
+        return uniCashStorage.readUniCashIncrementally(newestCount);
+    }
+
     @Override
     public void saveUniCash(ReadOnlyUniCash uniCash) throws IOException {
         saveUniCash(uniCash, uniCashStorage.getUniCashFilePath());
@@ -71,8 +111,97 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        uniCashStorage.saveUniCash(uniCash, filePath);
+        if (writer == null) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            uniCashStorage.saveUniCash(uniCash, filePath);
+            return;
+        }
+
+        replica.track(uniCash);
+        long mark = replica.mark();
+        IOException failure;
+        synchronized (this) {
+            // Moved to the end, so that the writer catches its copy up to the marks in the order they were taken
+            pendingSaves.remove(filePath);
+            pendingSaves.put(filePath, mark);
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.execute(this::writePendingSaves);
+            }
+            failure = saveFailure;
+            saveFailure = null;
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public synchronized boolean hasUniCashSaveFailed() {
+        return saveFailure != null;
+    }
+
+    @Override
+    public void flushUniCash() throws IOException {
+        awaitPendingSaves();
+
+        IOException failure;
+        synchronized (this) {
+            failure = saveFailure;
+            saveFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes the latest pending data of every file, until no saves are pending.
+     * Runs on the background writer.
+     */
+    private void writePendingSaves() {
+        while (true) {
+            Map<Path, Long> saves;
+            synchronized (this) {
+                if (pendingSaves.isEmpty()) {
+                    isWriteScheduled = false;
+                    return;
+                }
+                saves = new LinkedHashMap<>(pendingSaves);
+                pendingSaves.clear();
+            }
+
+            for (Map.Entry<Path, Long> save : saves.entrySet()) {
+                try {
+                    logger.fine("Attempting to write to data file: " + save.getKey());
+                    replica.catchUpTo(save.getValue());
+                    uniCashStorage.saveUniCash(replica, save.getKey());
+                } catch (IOException | RuntimeException e) {
+                    logger.warning("Failed to write to data file " + save.getKey() + ": " + e.getMessage());
+                    synchronized (this) {
+                        saveFailure = e instanceof IOException ? (IOException) e : new IOException(e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Blocks until every save handed to the background writer so far has been written.
+     */
+    private void awaitPendingSaves() {
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task should not fail.", e);
+        }
     }
 
 }
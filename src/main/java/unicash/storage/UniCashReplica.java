@@ -0,0 +1,149 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.budget.Budget;
+import unicash.model.transaction.Transaction;
+
+/**
+ * A copy of a {@code ReadOnlyUniCash} that is kept up to date by another thread, such as a background writer.
+ *
+ * <p>The thread that modifies the tracked UniCash only records each change of its transactions, at a cost
+ * proportional to the size of the change. The copy applies the recorded changes when it is brought up to
+ * a mark, so no thread ever copies the whole transaction list for a save, except once when a UniCash
+ * starts being tracked.</p>
+ *
+ * <p>{@link #track(ReadOnlyUniCash)} and {@link #mark()} are called on the thread that modifies the tracked
+ * UniCash, and {@link #catchUpTo(long)} and the getters on the thread that reads the copy.</p>
+ */
+class UniCashReplica implements ReadOnlyUniCash {
+
+    private final ObservableList<Transaction> transactions = FXCollections.observableArrayList();
+    private final ObservableList<Transaction> unmodifiableTransactions =
+            FXCollections.unmodifiableObservableList(transactions);
+    private final ListChangeListener<Transaction> changeRecorder = this::recordChange;
+
+    // Guarded by this replica's monitor
+    private final Queue<ReplicaChange> unappliedChanges = new ArrayDeque<>();
+    private long recordedCount;
+    private long appliedCount;
+
+    // Only accessed by the thread that modifies the tracked UniCash
+    private ReadOnlyUniCash trackedUniCash;
+    private Budget lastRecordedBudget;
+
+    // Only accessed by the thread that reads the copy
+    private Budget budget;
+
+    /**
+     * Starts recording the changes of {@code uniCash}, in place of the previously tracked UniCash,
+     * if it is not tracked already. The copy is reset to the transactions and budget of {@code uniCash}.
+     */
+    void track(ReadOnlyUniCash uniCash) {
+        requireNonNull(uniCash);
+        if (uniCash == trackedUniCash) {
+            return;
+        }
+
+        if (trackedUniCash != null) {
+            trackedUniCash.getTransactionList().removeListener(changeRecorder);
+        }
+        trackedUniCash = uniCash;
+        trackedUniCash.getTransactionList().addListener(changeRecorder);
+        List<Transaction> contents = List.copyOf(uniCash.getTransactionList());
+        record(copy -> copy.transactions.setAll(contents));
+        lastRecordedBudget = uniCash.getBudget();
+        Budget budget = lastRecordedBudget;
+        record(copy -> copy.budget = budget);
+    }
+
+    /**
+     * Returns a mark that covers every change of the tracked UniCash so far.
+     * The budget is not observable, so it is compared to the budget of the previous mark instead.
+     */
+    long mark() {
+        assert trackedUniCash != null : "A UniCash must be tracked before it is marked";
+
+        Budget budget = trackedUniCash.getBudget();
+        if (!Objects.equals(budget, lastRecordedBudget)) {
+            lastRecordedBudget = budget;
+            record(copy -> copy.budget = budget);
+        }
+        synchronized (this) {
+            return recordedCount;
+        }
+    }
+
+    /**
+     * Applies the recorded changes up to {@code mark}, so that the copy matches the tracked UniCash
+     * at the time the mark was taken. Marks must be caught up to in the order they were taken.
+     */
+    void catchUpTo(long mark) {
+        while (true) {
+            ReplicaChange change;
+            synchronized (this) {
+                assert mark >= appliedCount : "A copy cannot be rolled back to an earlier mark";
+                if (appliedCount == mark) {
+                    return;
+                }
+                change = unappliedChanges.remove();
+                appliedCount++;
+            }
+            change.applyTo(this);
+        }
+    }
+
+    private void recordChange(ListChangeListener.Change<? extends Transaction> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                List<Transaction> permuted = List.copyOf(change.getList().subList(from, to));
+                record(copy -> copy.transactions.remove(from, to));
+                record(copy -> copy.transactions.addAll(from, permuted));
+                continue;
+            }
+
+            int removedSize = change.getRemovedSize();
+            if (removedSize > 0) {
+                record(copy -> copy.transactions.remove(from, from + removedSize));
+            }
+            if (change.wasAdded()) {
+                List<Transaction> added = List.copyOf(change.getAddedSubList());
+                record(copy -> copy.transactions.addAll(from, added));
+            }
+        }
+    }
+
+    private synchronized void record(ReplicaChange change) {
+        unappliedChanges.add(change);
+        recordedCount++;
+    }
+
+    @Override
+    public ObservableList<Transaction> getTransactionList() {
+        return unmodifiableTransactions;
+    }
+
+    @Override
+    public Budget getBudget() {
+        return budget;
+    }
+
+    /**
+     * A recorded change, to be applied to the copy.
+     */
+    @FunctionalInterface
+    private interface ReplicaChange {
+        void applyTo(UniCashReplica copy);
+    }
+}
@@ -31,6 +31,18 @@ public interface UniCashStorage {
      */
     Optional<ReadOnlyUniCash> readUniCash(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns UniCash data as an {@link IncrementalUniCashLoad}, in which only the newest {@code newestCount}
+     * transactions need to be converted before returning. Storages that cannot defer the conversion
+     * return a load with no history left.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    default Optional<IncrementalUniCashLoad> readUniCashIncrementally(int newestCount) throws DataLoadingException {
+        return readUniCash().map(IncrementalUniCashLoad::ofLoaded);
+    }
+
     /**
      * Saves the given {@link ReadOnlyUniCash} to the storage.
      *
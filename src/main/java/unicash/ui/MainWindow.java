@@ -123,8 +123,8 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay.setFeedbackToUser(MESSAGE_UNICASH_WELCOME);
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(
-                logic.getUniCashFilePath(), logic.getFilteredTransactionList());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getUniCashFilePath(),
+                logic.getFilteredTransactionList(), logic.getHistoryLoadProgress());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
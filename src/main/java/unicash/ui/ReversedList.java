@@ -0,0 +1,95 @@
+package unicash.ui;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A read-only view of an {@code ObservableList} in reverse order.
+ *
+ * <p>The view holds no elements of its own. Each index is mapped onto the source list when it is read,
+ * and each change to the source list is passed on with its indexes mapped, so a {@code ListView}
+ * showing the view only reads the rows it renders, and no change costs more than the rows it touches.</p>
+ *
+ * @param <E> the type of the elements in the list.
+ */
+public class ReversedList<E> extends TransformationList<E, E> {
+
+    /**
+     * Creates a view of {@code source} in reverse order.
+     */
+    public ReversedList(ObservableList<E> source) {
+        super(source);
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return size() - 1 - index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return getSourceIndex(index);
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        // The source list has already changed, so work back to its size before the change
+        int sizeBeforeChange = size();
+        while (change.next()) {
+            sizeBeforeChange += change.getRemovedSize() - change.getAddedSize();
+        }
+        change.reset();
+
+        beginChange();
+        int currentSize = sizeBeforeChange;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                addPermutation(change, currentSize);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(currentSize - 1 - i);
+                }
+            } else {
+                addReplacement(change, currentSize);
+                currentSize += change.getAddedSize() - change.getRemovedSize();
+            }
+        }
+        endChange();
+    }
+
+    private void addPermutation(Change<? extends E> change, int currentSize) {
+        int from = change.getFrom();
+        int to = change.getTo();
+        int[] permutation = new int[to - from];
+        // Source index i is view index (currentSize - 1 - i), so the range is walked from its end
+        for (int i = to - 1; i >= from; i--) {
+            permutation[to - 1 - i] = currentSize - 1 - change.getPermutation(i);
+        }
+        nextPermutation(currentSize - to, currentSize - from, permutation);
+    }
+
+    private void addReplacement(Change<? extends E> change, int currentSize) {
+        List<E> removed = new ArrayList<>(change.getRemoved());
+        Collections.reverse(removed);
+        int viewFrom = currentSize - change.getFrom() - removed.size();
+        nextReplace(viewFrom, viewFrom + change.getAddedSize(), removed);
+    }
+}
@@ -7,28 +7,34 @@ import static unicash.ui.StyleSheet.TEXT_FILL_RED;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import unicash.commons.enums.TransactionType;
+import unicash.model.commons.Amount;
 import unicash.model.transaction.Transaction;
 
 /**
  * A UI Controller class for the status bar that is displayed at the
- * footer of the application. Contains information about data path and
- * balance indicator.
+ * footer of the application. Contains information about data path,
+ * the progress of loading older transactions and balance indicator.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
     private static final String POSITIVE_BALANCE_STRING = "Rolling Balance: $";
     private static final String NEGATIVE_BALANCE_STRING = "Rolling Balance: -$";
+    private static final String HISTORY_LOADING_STRING = "Loading older transactions: %.0f%%";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label historyLoadStatus;
+
     @FXML
     private Label balanceIndicator;
 
@@ -36,15 +42,21 @@ public class StatusBarFooter extends UiPart<Region> {
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path} indicating the
-     * current Data Source and a given {@code ObservableList} of transactions to
-     * facilitate the updating of balance and keeping a balance counter.
+     * current Data Source, a given {@code ObservableList} of transactions to
+     * facilitate the updating of balance and keeping a balance counter, and the
+     * progress of loading older transactions.
      */
     public StatusBarFooter(Path saveLocation,
-                           ObservableList<Transaction> transactionList) {
+                           ObservableList<Transaction> transactionList,
+                           ReadOnlyDoubleProperty historyLoadProgress) {
         super(FXML);
         saveLocationStatus.setText("Data source -> " + Paths.get(".").resolve(saveLocation));
         transactions = transactionList;
 
+        updateHistoryLoadStatus(historyLoadProgress.get());
+        historyLoadProgress.addListener((observable, oldProgress, newProgress) ->
+                updateHistoryLoadStatus(newProgress.doubleValue()));
+
         /*
          * This initiates the first indication of balance upon application start,
          * before the method is added as a listener.
@@ -63,6 +75,15 @@ public class StatusBarFooter extends UiPart<Region> {
         });
     }
 
+    /**
+     * Shows the percentage of older transactions loaded, or hides it once loading is complete.
+     */
+    private void updateHistoryLoadStatus(double progress) {
+        boolean isLoading = progress < 1;
+        historyLoadStatus.setVisible(isLoading);
+        historyLoadStatus.setText(isLoading ? String.format(HISTORY_LOADING_STRING, progress * 100) : "");
+    }
+
     /**
      * Handles the updating of balanceIndicator in the status bar. If the balance
      * falls below 0, or goes into a negative value, the font style is set to the
@@ -80,32 +101,31 @@ public class StatusBarFooter extends UiPart<Region> {
      */
     @FXML
     public void updateBalance(ObservableList<Transaction> transactions) {
-        double balance = 0.0;
-        String balanceString = String.valueOf(balance);
+        long balance = 0;
+        String balanceString;
 
         for (Transaction t : transactions) {
             if (t.getTypeString().equalsIgnoreCase(String.valueOf(
                     TransactionType.EXPENSE))) {
-                balance -= t.getAmount().amount;
+                balance -= t.getAmount().getCents();
             } else {
-                balance += t.getAmount().amount;
+                balance += t.getAmount().getCents();
             }
         }
 
-        if (Double.compare(balance, 0) < 0) {
-            double formattedNegativeBalance = Math.abs(balance);
-            balanceString = NEGATIVE_BALANCE_STRING + String.format("%.2f", formattedNegativeBalance);
+        if (balance < 0) {
+            balanceString = NEGATIVE_BALANCE_STRING + Amount.centsToDecimalString(Math.abs(balance));
         } else {
-            balanceString = POSITIVE_BALANCE_STRING + String.format("%.2f", balance);
+            balanceString = POSITIVE_BALANCE_STRING + Amount.centsToDecimalString(balance);
         }
 
         balanceIndicator.setText(balanceString);
 
         // Set color to green, red, and black for positive, negative and zero respectively.
-        if (Double.compare(balance, 0) < 0) {
+        if (Long.compare(balance, 0) < 0) {
             balanceIndicator.setStyle(TEXT_FILL_RED);
 
-        } else if (Double.compare(balance, 0) > 0) {
+        } else if (Long.compare(balance, 0) > 0) {
             balanceIndicator.setStyle(TEXT_FILL_GREEN);
 
         } else {
@@ -1,5 +1,9 @@
 package unicash.ui;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import unicash.model.category.Category;
 
 /**
@@ -47,6 +51,11 @@ public class StyleSheet {
     public static final int BLUE_OFFSET = 0;
     public static final boolean IS_YELLOW_SKEW = true;
 
+    /* Colors and styles already worked out for the most recently shown categories */
+    public static final int MAX_CACHED_CATEGORIES = 1000;
+    private static final Map<Category, String> brightColors = createCategoryCache();
+    private static final Map<Category, String> brightBackgroundStyles = createCategoryCache();
+
     /**
      * Returns a 6-digit hexadecimal number based on the Category's unique
      * hash code, to be used as a color indicator, without any color offsetting.
@@ -72,11 +81,40 @@ public class StyleSheet {
      * hash code, to be used as a color indicator. If the hex color value
      * generated from the hashcode accords poor {@code Label} visibility,
      * the value is offset such that is always of a certain brightness value.
+     * The colors of the {@value #MAX_CACHED_CATEGORIES} most recently used
+     * categories are kept, as every {@code TransactionCard} shown asks for
+     * the colors of its categories.
      */
     public static String getBrightColorFromHash(Category category) {
+        return brightColors.computeIfAbsent(category, key -> computeBrightColor(key.hashCode()));
+    }
+
+    /**
+     * Returns the style that sets the background of a {@code Label} to the
+     * color given by {@link #getBrightColorFromHash(Category)}.
+     */
+    public static String getBrightBackgroundStyle(Category category) {
+        return brightBackgroundStyles.computeIfAbsent(category, key ->
+                String.format(TEXT_BACKGROUND_COLOR_SPECIFIER, getBrightColorFromHash(key)));
+    }
+
+    /**
+     * Returns a map that keeps the values of the {@value #MAX_CACHED_CATEGORIES}
+     * most recently used categories, and may be used from several threads.
+     */
+    private static Map<Category, String> createCategoryCache() {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Category, String> eldest) {
+                return size() > MAX_CACHED_CATEGORIES;
+            }
+        });
+    }
+
+    private static String computeBrightColor(int hashCode) {
 
         // Absolute value of hash code taken to guard against negative values
-        String hexString = Integer.toHexString(Math.abs(category.hashCode()));
+        String hexString = Integer.toHexString(Math.abs(hashCode));
 
         // Padding for hash codes that are less than 6 digits long
         hexString = padHexString(hexString);
@@ -1,29 +1,26 @@
 package unicash.ui;
 
+import static java.util.Objects.requireNonNull;
 import static unicash.ui.StyleSheet.FONT_STYLE_BOLD;
-import static unicash.ui.StyleSheet.TEXT_BACKGROUND_COLOR_SPECIFIER;
 import static unicash.ui.StyleSheet.TEXT_FILL_BLACK;
 import static unicash.ui.StyleSheet.TEXT_FILL_GREEN;
 import static unicash.ui.StyleSheet.TEXT_FILL_RED;
 import static unicash.ui.StyleSheet.TRANSACTION_ID_SEPARATOR;
-import static unicash.ui.StyleSheet.getBrightColorFromHash;
+import static unicash.ui.StyleSheet.getBrightBackgroundStyle;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import unicash.commons.enums.TransactionType;
 import unicash.model.category.Category;
-import unicash.model.category.UniqueCategoryList;
 import unicash.model.transaction.Transaction;
 
 
 /**
  * A UI component that displays information of a {@code Transaction}.
+ * A card can be given another {@code Transaction} to display, so that a list
+ * cell can keep reusing its card instead of loading a new one from FXML.
  */
 public class TransactionCard extends UiPart<Region> {
 
@@ -36,7 +33,7 @@ public class TransactionCard extends UiPart<Region> {
      *
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
-    public final Transaction transaction;
+    private Transaction transaction;
 
     @FXML
     private HBox cardPane;
@@ -67,6 +64,17 @@ public class TransactionCard extends UiPart<Region> {
     @FXML
     private Label fifthCategory;
 
+    private Label[] categoryLabels;
+
+    /**
+     * Creates an empty {@code TransactionCard}, to be given a {@code Transaction}
+     * to display through {@link #setTransaction(Transaction, int)}.
+     */
+    public TransactionCard() {
+        super(FXML);
+        categoryLabels = new Label[] {firstCategory, secondCategory,
+            thirdCategory, fourthCategory, fifthCategory};
+    }
 
     /**
      * Creates a {@code TransactionCard} with the given {@code Transaction} and index to display.
@@ -74,9 +82,17 @@ public class TransactionCard extends UiPart<Region> {
      * All transactions are assumed to be made in dollars.
      */
     public TransactionCard(Transaction transaction, int displayedIndex) {
-        super(FXML);
+        this();
+        setTransaction(transaction, displayedIndex);
+    }
+
+    /**
+     * Displays the given {@code Transaction} and index on this card, in place of
+     * whatever the card displayed before.
+     */
+    public void setTransaction(Transaction transaction, int displayedIndex) {
+        requireNonNull(transaction);
         this.transaction = transaction;
-        id.setText(displayedIndex + TRANSACTION_ID_SEPARATOR);
 
         idStyleFormatter(displayedIndex);
         nameStyleFormatter();
@@ -86,6 +102,13 @@ public class TransactionCard extends UiPart<Region> {
         discreteCategoriesStyleFormatter();
     }
 
+    /**
+     * Returns the transaction displayed on the transaction card.
+     */
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
     /**
      * Returns the name label of the transaction card.
      *
@@ -187,33 +210,21 @@ public class TransactionCard extends UiPart<Region> {
     /**
      * For color coding every category using its hash value to generate a distinct
      * and unique color without having to store additional color information inside
-     * the {@code Category} class.
+     * the {@code Category} class. Labels left over from a previous transaction
+     * with more categories are cleared.
      **/
     private void discreteCategoriesStyleFormatter() {
-        UniqueCategoryList categoryUniqueList = transaction.getCategories();
-        ObservableList<Category> categoryObservableList =
-                categoryUniqueList.asUnmodifiableObservableList();
-        Iterator<Category> categoryIterator = categoryUniqueList.iterator();
-        ArrayList<Category> categoryArrayList = new ArrayList<>();
-
-        Label[] labelArrayList = new Label[] {firstCategory, secondCategory,
-            thirdCategory, fourthCategory, fifthCategory};
-
-        for (Category c : categoryObservableList) {
-            categoryArrayList.add(c);
-        }
-
-        for (int i = 0; i < categoryArrayList.size(); i++) {
-            Category currentCategory = categoryArrayList.get(i);
-            String categoryColorHexString =
-                    getBrightColorFromHash(currentCategory);
-
-            Label currentCategoryLabel = labelArrayList[i];
+        int labelIndex = 0;
+        for (Category currentCategory : transaction.getCategories()) {
+            Label currentCategoryLabel = categoryLabels[labelIndex++];
 
             currentCategoryLabel.setText(currentCategory.categoryToStringWithPrefix());
-            currentCategoryLabel.setStyle(String.format(TEXT_BACKGROUND_COLOR_SPECIFIER,
-                    categoryColorHexString));
+            currentCategoryLabel.setStyle(getBrightBackgroundStyle(currentCategory));
+        }
 
+        for (; labelIndex < categoryLabels.length; labelIndex++) {
+            categoryLabels[labelIndex].setText("");
+            categoryLabels[labelIndex].setStyle("");
         }
     }
 
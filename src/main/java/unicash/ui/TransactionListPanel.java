@@ -2,8 +2,6 @@ package unicash.ui;
 
 import java.util.logging.Logger;
 
-import javafx.beans.binding.Bindings;
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -28,33 +26,21 @@ public class TransactionListPanel extends UiPart<Region> {
      */
     public TransactionListPanel(ObservableList<Transaction> transactionList) {
         super(FXML);
-        transactionListView.setItems(transactionList);
+        // Shows the newest Transaction first without copying the list on every change
+        transactionListView.setItems(new ReversedList<>(transactionList));
         transactionListView.setCellFactory(
                 listView -> new TransactionListViewCell(transactionList));
-
-        /* Binds items property of the ListView to an ObservableList. Whenever the list is
-         * updated (like reversing its order), the ListView will reflect the changes. The
-         * item of the ListView is kept in sync with a reversed version of the ObservableList. */
-        transactionListView.itemsProperty()
-                .bind(
-                        Bindings.createObjectBinding(() -> {
-                            ObservableList<Transaction> reversedList =
-                                    FXCollections.observableArrayList(transactionList);
-
-                            FXCollections.reverse(reversedList);
-
-                            return reversedList;
-                        }, transactionList)
-            );
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Transaction}
-     * using a {@code TransactionCard}.
+     * using a {@code TransactionCard}. Each cell loads its card once, and gives it
+     * the {@code Transaction} to display on every update.
      */
     class TransactionListViewCell extends ListCell<Transaction> {
 
         private ObservableList<Transaction> internalTransactionList;
+        private TransactionCard transactionCard;
 
         /**
          * Creates a TransactionListViewCell taking in an ObservableList
@@ -77,7 +63,11 @@ public class TransactionListPanel extends UiPart<Region> {
                 setText(null);
             } else {
                 int displayIndex = internalTransactionList.size() - getIndex();
-                setGraphic(new TransactionCard(transaction, displayIndex).getRoot());
+                if (transactionCard == null) {
+                    transactionCard = new TransactionCard();
+                }
+                transactionCard.setTransaction(transaction, displayIndex);
+                setGraphic(transactionCard.getRoot());
             }
         }
     }
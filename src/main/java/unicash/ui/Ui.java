@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows a warning with the given title and message, and returns once the user has closed it. */
+    void showWarning(String title, String message);
+
 }
@@ -54,6 +54,11 @@ public class UiManager implements Ui {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
 
+    @Override
+    public void showWarning(String title, String message) {
+        showAlertDialogAndWait(AlertType.WARNING, title, title, message);
+    }
+
     void showAlertDialogAndWait(Alert.AlertType type, String title, String headerText, String contentText) {
         showAlertDialogAndWait(mainWindow.getPrimaryStage(), type, title, headerText, contentText);
     }
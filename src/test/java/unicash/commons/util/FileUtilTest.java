@@ -1,12 +1,15 @@
 package unicash.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static unicash.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -41,4 +44,52 @@ public class FileUtilTest {
         FileUtil.createFile(path);
     }
 
+    @Test
+    public void writeToFileAtomically_missingFile_fileCreated() throws IOException {
+        var path = temporaryFolder.resolve("parent").resolve("tempfile");
+
+        FileUtil.writeToFileAtomically(path, out -> out.write("content".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("content", FileUtil.readFromFile(path));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_contentReplaced() throws IOException {
+        var path = temporaryFolder.resolve("tempfile");
+        FileUtil.writeToFile(path, "old content that is longer");
+
+        FileUtil.writeToFileAtomically(path, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("new", FileUtil.readFromFile(path));
+        try (Stream<Path> files = Files.list(temporaryFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFails_originalFileKept() throws IOException {
+        var path = temporaryFolder.resolve("tempfile");
+        FileUtil.writeToFile(path, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(path, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("dummy IO exception");
+        }));
+
+        assertEquals("old", FileUtil.readFromFile(path));
+        try (Stream<Path> files = Files.list(temporaryFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void appendToFile_existingFile_contentAppended() throws IOException {
+        var path = temporaryFolder.resolve("tempfile");
+
+        FileUtil.appendToFile(path, "first");
+        FileUtil.appendToFile(path, "second");
+
+        assertEquals("firstsecond", FileUtil.readFromFile(path));
+    }
+
 }
@@ -0,0 +1,72 @@
+package unicash.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InterningPoolTest {
+
+    private static String validate(String key) {
+        if (key.isBlank()) {
+            throw new IllegalArgumentException("Blank key");
+        }
+        return new String(key);
+    }
+
+    @Test
+    public void intern_sameKey_sameInstance() {
+        InterningPool<String> pool = new InterningPool<>("test");
+        String first = pool.intern("food", InterningPoolTest::validate);
+        assertSame(first, pool.intern("food", InterningPoolTest::validate));
+        assertEquals(1, pool.getSize());
+        assertEquals(0.5, pool.getHitRate());
+    }
+
+    @Test
+    public void intern_invalidKey_notAdded() {
+        InterningPool<String> pool = new InterningPool<>("test");
+        assertThrows(IllegalArgumentException.class, () -> pool.intern(" ", InterningPoolTest::validate));
+        assertFalse(pool.contains(" "));
+        assertEquals(0, pool.getSize());
+    }
+
+    @Test
+    public void intern_poolFull_newValuesNotShared() {
+        InterningPool<String> pool = new InterningPool<>("test", 1);
+        String food = pool.intern("food", InterningPoolTest::validate);
+        String travel = pool.intern("travel", InterningPoolTest::validate);
+
+        assertSame(food, pool.intern("food", InterningPoolTest::validate));
+        assertNotSame(travel, pool.intern("travel", InterningPoolTest::validate));
+        assertTrue(pool.contains("food"));
+        assertFalse(pool.contains("travel"));
+    }
+
+    @Test
+    public void intern_nullKey_throwsNullPointerException() {
+        InterningPool<String> pool = new InterningPool<>("test");
+        assertThrows(NullPointerException.class, () -> pool.intern(null, InterningPoolTest::validate));
+    }
+
+    @Test
+    public void constructor_negativeSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new InterningPool<String>("test", -1));
+    }
+
+    @Test
+    public void getHitRate_noLookups_zero() {
+        assertEquals(0.0, new InterningPool<String>("test").getHitRate());
+    }
+
+    @Test
+    public void getStatistics_poolCreated_includesPool() {
+        InterningPool<String> pool = new InterningPool<>("statistics test");
+        pool.intern("food", InterningPoolTest::validate);
+        assertTrue(InterningPool.getStatistics().contains(pool.toString()));
+    }
+}
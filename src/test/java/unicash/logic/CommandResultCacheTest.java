@@ -0,0 +1,99 @@
+package unicash.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.NUS;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.logic.commands.CommandResult;
+import unicash.logic.commands.FindCommand;
+import unicash.logic.commands.GetBudgetCommand;
+import unicash.logic.commands.GetTotalExpenditureCommand;
+import unicash.logic.commands.ListCommand;
+import unicash.logic.commands.exceptions.CommandException;
+import unicash.model.Model;
+import unicash.model.ModelManager;
+import unicash.model.UserPrefs;
+import unicash.model.transaction.predicates.TransactionContainsAllKeywordsPredicate;
+
+public class CommandResultCacheTest {
+
+    private final Model model = new ModelManager(getTypicalUniCash(), new UserPrefs());
+    private final CommandResultCache cache = new CommandResultCache();
+
+    private static FindCommand findName(String name) {
+        TransactionContainsAllKeywordsPredicate predicate = new TransactionContainsAllKeywordsPredicate();
+        predicate.addNameKeyword(name);
+        return new FindCommand(predicate);
+    }
+
+    @Test
+    public void execute_equalCommandOnUnchangedData_resultReused() throws CommandException {
+        CommandResult result = cache.execute(new GetTotalExpenditureCommand(8, 2001, null), model);
+
+        assertEquals(result, cache.execute(new GetTotalExpenditureCommand(8, 2001, null), model));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void execute_dataChanged_commandExecutedAgain() throws CommandException {
+        cache.execute(findName("groceries"), model);
+        model.deleteTransaction(BUYING_GROCERIES);
+
+        CommandResult result = cache.execute(findName("groceries"), model);
+        assertEquals(new CommandResult(String.format(FindCommand.MESSAGE_SUCCESS, 0)), result);
+        assertEquals(0, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void execute_resultReused_filterAppliedAgain() throws CommandException {
+        cache.execute(findName("groceries"), model);
+        cache.execute(new ListCommand(), model);
+
+        cache.execute(findName("groceries"), model);
+        assertEquals(List.of(BUYING_GROCERIES), model.getFilteredTransactionList());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void execute_notCacheableCommand_alwaysExecuted() throws CommandException {
+        cache.execute(new ListCommand(), model);
+        cache.execute(new ListCommand(), model);
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void execute_budgetOnOtherDay_commandExecutedAgain() throws CommandException {
+        LocalDateTime morning = LocalDateTime.of(2023, 11, 15, 9, 0);
+        cache.execute(new GetBudgetCommand(morning), model);
+        cache.execute(new GetBudgetCommand(morning.plusHours(10)), model);
+        cache.execute(new GetBudgetCommand(morning.plusDays(1)), model);
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void execute_moreResultsThanMax_leastRecentlyUsedEvicted() throws CommandException {
+        for (int month = 1; month <= CommandResultCache.MAX_RESULTS; month++) {
+            cache.execute(new GetTotalExpenditureCommand(month % 12 + 1, 2000 + month, null), model);
+        }
+        // Using the first result makes the second the least recently used
+        cache.execute(new GetTotalExpenditureCommand(2, 2001, null), model);
+        cache.execute(findName(NUS.getName().fullName), model);
+        assertEquals(1, cache.getEvictions());
+
+        cache.execute(new GetTotalExpenditureCommand(2, 2001, null), model);
+        cache.execute(new GetTotalExpenditureCommand(3, 2002, null), model);
+        assertEquals(2, cache.getHits());
+        assertEquals(CommandResultCache.MAX_RESULTS + 2, cache.getMisses());
+        assertEquals(2, cache.getEvictions());
+    }
+}
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -92,6 +93,61 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_unmodifiedData_saveSkipped() throws Exception {
+        String listCommand = CommandType.LIST.getMainCommandWord();
+        LogicManager logicManager = (LogicManager) logic;
+
+        // first command always saves, as nothing has been saved yet
+        logicManager.execute(listCommand);
+        assertEquals(1, logicManager.getSavesPerformed());
+        assertEquals(0, logicManager.getSavesSkipped());
+
+        logicManager.execute(listCommand);
+        assertEquals(1, logicManager.getSavesPerformed());
+        assertEquals(1, logicManager.getSavesSkipped());
+    }
+
+    @Test
+    public void execute_modifiedData_savePerformed() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.execute(CommandType.LIST.getMainCommandWord());
+
+        model.addTransaction(NUS);
+        logicManager.execute(CommandType.LIST.getMainCommandWord());
+        assertEquals(2, logicManager.getSavesPerformed());
+        assertEquals(0, logicManager.getSavesSkipped());
+    }
+
+    @Test
+    public void execute_historyLoading_saveDeferred() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        model.startHistoryLoad(1);
+
+        model.addTransaction(NUS);
+        logicManager.execute(CommandType.LIST.getMainCommandWord());
+        assertEquals(0, logicManager.getSavesPerformed());
+
+        model.addHistory(List.of(INTERN));
+        logicManager.execute(CommandType.LIST.getMainCommandWord());
+        assertEquals(1, logicManager.getSavesPerformed());
+    }
+
+    @Test
+    public void execute_historyLoadFailed_saveSkipped() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        model.startHistoryLoad(1);
+        model.failHistoryLoad();
+
+        model.addTransaction(NUS);
+        logicManager.execute(CommandType.LIST.getMainCommandWord());
+        assertEquals(0, logicManager.getSavesPerformed());
+
+        // replacing the data is the user's confirmation that the older transactions can be overwritten
+        logicManager.execute(CommandType.CLEAR_TRANSACTIONS.getMainCommandWord());
+        assertEquals(1, logicManager.getSavesPerformed());
+    }
+
     @Test
     public void getFilteredTransactionList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredTransactionList().remove(0));
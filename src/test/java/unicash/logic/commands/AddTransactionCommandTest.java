@@ -10,14 +10,19 @@ import static unicash.testutil.TypicalTransactions.INTERN;
 import static unicash.testutil.TypicalTransactions.NUS;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.collections.ObservableList;
 import unicash.commons.core.GuiSettings;
 import unicash.logic.UniCashMessages;
@@ -26,7 +31,10 @@ import unicash.model.Model;
 import unicash.model.ReadOnlyUniCash;
 import unicash.model.ReadOnlyUserPrefs;
 import unicash.model.UniCash;
+import unicash.model.UserPrefs;
 import unicash.model.budget.Budget;
+import unicash.model.category.Category;
+import unicash.model.transaction.TextMatcher;
 import unicash.model.transaction.Transaction;
 import unicash.testutil.TransactionBuilder;
 
@@ -155,6 +163,11 @@ public class AddTransactionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getUniCashVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasTransaction(Transaction transaction) {
             throw new AssertionError("This method should not be called.");
@@ -208,6 +221,79 @@ public class AddTransactionCommandTest {
         public boolean hasExpenses() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TextMatcher getNameMatcher(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TextMatcher getLocationMatcher(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Category, Integer> getTransactionCountPerCategory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<List<Transaction>> findTransactionsDatedBetween(long firstMinute, long lastMinute,
+                int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<List<Transaction>> findTransactionsWithAmountBetween(long minimumCents, long maximumCents,
+                int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<List<Transaction>> findTransactionsWithAnyCategory(Collection<Category> categories,
+                int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void startHistoryLoad(int historySize) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setHistoryLoadProgress(int loadedCount) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addHistory(List<Transaction> history) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isHistoryLoading() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void failHistoryLoad() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasHistoryLoadFailed() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyDoubleProperty getHistoryLoadProgress() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -254,6 +340,11 @@ public class AddTransactionCommandTest {
             return true;
         }
 
+        @Override
+        public ReadOnlyUserPrefs getUserPrefs() {
+            return new UserPrefs();
+        }
+
         @Override
         public void addTransaction(Transaction transaction) {
         }
@@ -39,6 +39,16 @@ public class CommandResultTest {
 
         // different showSummary value -> returns false
         assertNotEquals(commandResult, showSummaryCommandResult);
+
+        // different diagnostics -> returns true
+        assertEquals(commandResult, new CommandResult("feedback", "diagnostics"));
+        assertEquals(commandResult.hashCode(), new CommandResult("feedback", "diagnostics").hashCode());
+    }
+
+    @Test
+    public void getDiagnostics() {
+        assertEquals("", new CommandResult("feedback").getDiagnostics());
+        assertEquals("diagnostics", new CommandResult("feedback", "diagnostics").getDiagnostics());
     }
 
     @Test
@@ -61,6 +61,9 @@ public class FindCommandTest {
         // same predicate -> returns true
         assertEquals(findFirstCommand, findSecondCommand);
 
+        // different explain flag -> returns false
+        assertNotEquals(findFirstCommand, new FindCommand(firstPredicate, true));
+
         assertFalse(findFirstCommand.equals(3));
     }
 
@@ -90,6 +93,16 @@ public class FindCommandTest {
         assertEquals(filteredResult.get(2), INTERN);
     }
 
+    @Test
+    public void execute_explained_planShownInFeedback() {
+        TransactionContainsAllKeywordsPredicate predicate = preparePredicate("work");
+        CommandResult result = new FindCommand(predicate, true).execute(modelWithTransactions);
+
+        String expectedMessage = String.format(CommandType.FIND.getMessageSuccess(), 3)
+                + "\n\n" + predicate.explain();
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
     @Test
     public void execute_predicateNull_assertionFailure() {
         assertThrows(NullPointerException.class, () -> new FindCommand(null));
@@ -106,7 +119,8 @@ public class FindCommandTest {
                 new TransactionContainsAllKeywordsPredicate();
 
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", isExplained=false}";
         assertEquals(expected, findCommand.toString());
     }
 
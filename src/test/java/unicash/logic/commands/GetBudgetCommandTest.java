@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static unicash.logic.UniCashMessages.MESSAGE_HISTORY_LOADING;
+import static unicash.logic.UniCashMessages.MESSAGE_HISTORY_LOAD_FAILED;
+import static unicash.logic.commands.CommandTestUtil.assertCommandFailure;
 import static unicash.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static unicash.testutil.TypicalBudgets.DAILY;
 import static unicash.testutil.TypicalBudgets.MONTHLY;
@@ -52,7 +55,7 @@ public class GetBudgetCommandTest {
         model.addTransaction(new TransactionBuilder(NUS).withType("expense").withDateTime(now).build());
         model.addTransaction(new TransactionBuilder(INTERN).withType("income").withDateTime(now).build());
 
-        var expectedRemainder = DAILY.getAmount().amount - NUS.getAmount().amount;
+        var expectedRemainder = DAILY.getAmount().getValue() - NUS.getAmount().getValue();
 
         var command = new GetBudgetCommand();
         assertCommandSuccess(
@@ -68,6 +71,17 @@ public class GetBudgetCommandTest {
         );
     }
 
+    @Test
+    public void execute_historyIncomplete_throwsCommandException() {
+        var model = new ModelManager(new UniCash(), new UserPrefs());
+        model.setBudget(new Budget(DAILY));
+        model.startHistoryLoad(1);
+        assertCommandFailure(new GetBudgetCommand(), model, MESSAGE_HISTORY_LOADING);
+
+        model.failHistoryLoad();
+        assertCommandFailure(new GetBudgetCommand(), model, MESSAGE_HISTORY_LOAD_FAILED);
+    }
+
     @Test
     public void execute_noTransactionWithinInterval_calculatesFullBudgetAsRemainder() {
         var uniCash = new UniCash();
@@ -84,7 +98,7 @@ public class GetBudgetCommandTest {
                         GetBudgetCommand.MESSAGE_SUCCESS,
                         "Daily",
                         DAILY.getAmount().toString(),
-                        DAILY.getAmount().amount
+                        DAILY.getAmount().getValue()
                 ),
                 model
         );
@@ -107,9 +121,9 @@ public class GetBudgetCommandTest {
 
         var command = new GetBudgetCommand();
         var expectedRemainder =
-                DAILY.getAmount().amount
-                        - NUS.getAmount().amount
-                        - INTERN.getAmount().amount;
+                DAILY.getAmount().getValue()
+                        - NUS.getAmount().getValue()
+                        - INTERN.getAmount().getValue();
         assertCommandSuccess(
                 command,
                 model,
@@ -143,7 +157,7 @@ public class GetBudgetCommandTest {
         }
 
         var command = new GetBudgetCommand(today);
-        var expectedRemainder = WEEKLY.getAmount().amount - (7 * NUS.getAmount().amount);
+        var expectedRemainder = WEEKLY.getAmount().getValue() - (7 * NUS.getAmount().getValue());
         assertCommandSuccess(
                 command,
                 model,
@@ -198,9 +212,9 @@ public class GetBudgetCommandTest {
 
         var command = new GetBudgetCommand(today);
         var expectedRemainder =
-                MONTHLY.getAmount().amount
-                        - NUS.getAmount().amount
-                        - INTERN.getAmount().amount;
+                MONTHLY.getAmount().getValue()
+                        - NUS.getAmount().getValue()
+                        - INTERN.getAmount().getValue();
         assertCommandSuccess(
                 command,
                 model,
@@ -214,6 +228,39 @@ public class GetBudgetCommandTest {
         );
     }
 
+    @Test
+    public void execute_sameMonthOfPreviousYear_notInInterval() {
+        var model = new ModelManager(new UniCash(), new UserPrefs());
+        model.setBudget(new Budget(MONTHLY));
+        var today = LocalDateTime.of(2023, 11, 15, 10, 0);
+
+        model.addTransaction(new TransactionBuilder(NUS).withType("expense")
+                .withDateTime(localDateTimeToString(today.minusYears(1))).build());
+
+        assertCommandSuccess(new GetBudgetCommand(today), model, String.format(
+                GetBudgetCommand.MESSAGE_SUCCESS, "Monthly", MONTHLY.getAmount().toString(),
+                MONTHLY.getAmount().getValue()), model);
+    }
+
+    @Test
+    public void execute_filteredTransactionList_allTransactionsInInterval() {
+        var model = new ModelManager(new UniCash(), new UserPrefs());
+        model.setBudget(new Budget(DAILY));
+        var today = LocalDateTime.of(2023, 11, 15, 10, 0);
+
+        model.addTransaction(new TransactionBuilder(NUS).withType("expense")
+                .withDateTime(localDateTimeToString(today)).build());
+        model.updateFilteredTransactionList(transaction -> false);
+
+        var expectedRemainder = DAILY.getAmount().getValue() - NUS.getAmount().getValue();
+        var expectedMessage = expectedRemainder < 0
+                ? String.format(GetBudgetCommand.MESSAGE_SUCCESS_NEGATIVE_BUDGET, "Daily",
+                        DAILY.getAmount().toString(), Math.abs(expectedRemainder))
+                : String.format(GetBudgetCommand.MESSAGE_SUCCESS, "Daily",
+                        DAILY.getAmount().toString(), expectedRemainder);
+        assertCommandSuccess(new GetBudgetCommand(today), model, expectedMessage, model);
+    }
+
     @Test
     public void equals_nullOther_returnsFalse() {
         assertNotEquals(new GetBudgetCommand(), null);
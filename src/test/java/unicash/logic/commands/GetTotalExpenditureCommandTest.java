@@ -4,12 +4,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.logic.UniCashMessages.MESSAGE_HISTORY_LOADING;
+import static unicash.logic.commands.CommandTestUtil.assertCommandFailure;
 import static unicash.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import unicash.commons.enums.TransactionType;
 import unicash.logic.commands.exceptions.CommandException;
 import unicash.model.Model;
@@ -17,6 +22,7 @@ import unicash.model.ModelManager;
 import unicash.model.UniCash;
 import unicash.model.UserPrefs;
 import unicash.model.category.Category;
+import unicash.model.transaction.Transaction;
 import unicash.testutil.TransactionBuilder;
 
 public class GetTotalExpenditureCommandTest {
@@ -50,6 +56,13 @@ public class GetTotalExpenditureCommandTest {
         assertThrows(CommandException.class, () -> command.execute(BASE_MODEL));
     }
 
+    @Test
+    public void execute_historyLoading_throwsCommandException() {
+        var model = getModel();
+        model.startHistoryLoad(1);
+        assertCommandFailure(new GetTotalExpenditureCommand(10, 2002, null), model, MESSAGE_HISTORY_LOADING);
+    }
+
     @Test
     public void execute_yearLessThan1920_throwsCommandException() {
         var command = new GetTotalExpenditureCommand(13, 200, null);
@@ -74,6 +87,21 @@ public class GetTotalExpenditureCommandTest {
         }
     }
 
+    @Test
+    public void execute_sameCommandAgain_filteredListNotChanged() throws CommandException {
+        var model = getModel();
+        model.addTransaction(new TransactionBuilder().withType("expense").build());
+        new GetTotalExpenditureCommand(8, 2001, null).execute(model);
+        List<ListChangeListener.Change<? extends Transaction>> changes = new ArrayList<>();
+        ListChangeListener<Transaction> changeRecorder = changes::add;
+        model.getFilteredTransactionList().addListener(changeRecorder);
+
+        new GetTotalExpenditureCommand(8, 2001, null).execute(model);
+        assertTrue(changes.isEmpty());
+        new GetTotalExpenditureCommand(8, 2002, null).execute(model);
+        assertEquals(1, changes.size());
+    }
+
     @Test
     public void execute_multipleMonthsOnly_filtersOnlySelectedMonths() throws CommandException {
         var model = getModel();
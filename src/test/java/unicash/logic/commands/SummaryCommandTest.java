@@ -1,5 +1,7 @@
 package unicash.logic.commands;
 
+import static unicash.logic.UniCashMessages.MESSAGE_HISTORY_LOADING;
+import static unicash.logic.commands.CommandTestUtil.assertCommandFailure;
 import static unicash.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static unicash.logic.commands.SummaryCommand.MESSAGE_NOT_SHOWING_SUMMARY;
 import static unicash.logic.commands.SummaryCommand.MESSAGE_SHOWING_SUMMARY_SUCCESS;
@@ -29,4 +31,12 @@ public class SummaryCommandTest {
         assertCommandSuccess(new SummaryCommand(), nonEmptyModel,
                 nonEmptyModelExpectedCommandResult, expectedNonEmptyModel);
     }
+
+    @Test
+    public void execute_historyLoading_failure() {
+        Model model = new ModelManager();
+        model.addTransaction(NUS);
+        model.startHistoryLoad(1);
+        assertCommandFailure(new SummaryCommand(), model, MESSAGE_HISTORY_LOADING);
+    }
 }
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.logic.UniCashMessages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static unicash.logic.commands.CommandTestUtil.INVALID_CATEGORY_DESC;
 import static unicash.logic.commands.CommandTestUtil.INVALID_LOCATION_DESC;
 import static unicash.logic.commands.CommandTestUtil.INVALID_TRANSACTION_NAME_DESC;
@@ -19,9 +20,13 @@ import org.junit.jupiter.api.Test;
 import unicash.commons.enums.CommandType;
 import unicash.commons.util.ToStringBuilder;
 import unicash.logic.UniCashMessages;
+import unicash.logic.commands.FindCommand;
 import unicash.logic.parser.exceptions.ParseException;
 import unicash.model.category.Category;
+import unicash.model.commons.Amount;
+import unicash.model.transaction.DateTime;
 import unicash.model.transaction.Location;
+import unicash.model.transaction.Type;
 import unicash.model.transaction.predicates.TransactionContainsAllKeywordsPredicate;
 
 
@@ -97,52 +102,69 @@ public class FindCommandParserTest {
     }
 
     @Test
-    public void parseMethod_inputContainsDateTimePrefix_throwsParseException() {
-        String dateTimePrefixedArgument = "dt/10-10-2023 10:10";
+    public void parseMethod_inputContainsDateTimeRange_returnsFindCommand() throws ParseException {
+        String dateTimePrefixedArgument = "dt/01-03-2023 00:00..31-03-2023 23:59";
         String findCommandArgumentWithDateTime =
                 CommandType.FIND.getMainCommandWord()
                         + WHITESPACE + dateTimePrefixedArgument;
 
-        assertThrows(ParseException.class, () -> {
-            uniCashParser.parseCommand(findCommandArgumentWithDateTime);
-        });
-
-        assertThrows(ParseException.class, () -> {
-            parser.parse(WHITESPACE + findCommandArgumentWithDateTime);
-        });
+        TransactionContainsAllKeywordsPredicate expectedPredicate =
+                new TransactionContainsAllKeywordsPredicate();
+        expectedPredicate.addDateTimeRange(
+                new DateTime("01-03-2023 00:00"), new DateTime("31-03-2023 23:59"));
+        assertEquals(new FindCommand(expectedPredicate), uniCashParser.parseCommand(findCommandArgumentWithDateTime));
     }
 
     @Test
-    public void parseMethod_inputContainsTypePrefix_throwsParseException() {
+    public void parseMethod_inputContainsTypePrefix_returnsFindCommand() throws ParseException {
         String typePrefixedArgument = "type/expense";
-        String findCommandArgumentWithType =
-                CommandType.FIND.getMainCommandWord()
-                        + WHITESPACE + typePrefixedArgument;
 
-        assertThrows(ParseException.class, () -> {
-            uniCashParser.parseCommand(findCommandArgumentWithType);
-        });
-
-        assertThrows(ParseException.class, () -> {
-            parser.parse(WHITESPACE + typePrefixedArgument);
-        });
+        TransactionContainsAllKeywordsPredicate expectedPredicate =
+                new TransactionContainsAllKeywordsPredicate();
+        expectedPredicate.addType(new Type("expense"));
+        assertEquals(new FindCommand(expectedPredicate), parser.parse(WHITESPACE + typePrefixedArgument));
     }
 
     @Test
-    public void parseMethod_inputContainsAmountPrefix_throwsParseException() {
-        String amountPrefixedArgument = "amt/30.00";
-        String findCommandArgumentWithAmount =
-                CommandType.FIND.getMainCommandWord()
-                        + WHITESPACE + amountPrefixedArgument;
+    public void parseMethod_inputContainsAmountRanges_returnsFindCommand() throws ParseException {
+        TransactionContainsAllKeywordsPredicate expectedPredicate =
+                new TransactionContainsAllKeywordsPredicate();
+        expectedPredicate.addAmountRange(new Amount(200), null);
+        assertEquals(new FindCommand(expectedPredicate), new FindCommandParser().parse(" amt/$200.."));
 
-        assertThrows(ParseException.class, () -> {
-            uniCashParser.parseCommand(findCommandArgumentWithAmount);
-        });
+        expectedPredicate = new TransactionContainsAllKeywordsPredicate();
+        expectedPredicate.addAmountRange(null, new Amount(50));
+        assertEquals(new FindCommand(expectedPredicate), new FindCommandParser().parse(" amt/..50"));
 
-        assertThrows(ParseException.class, () -> {
-            parser.parse(WHITESPACE + amountPrefixedArgument);
-        });
+        expectedPredicate = new TransactionContainsAllKeywordsPredicate();
+        expectedPredicate.addAmountRange(new Amount(30), new Amount(30));
+        assertEquals(new FindCommand(expectedPredicate), new FindCommandParser().parse(" amt/30.00"));
+    }
 
+    @Test
+    public void parseMethod_inputContainsExplainPrefix_returnsExplainedFindCommand() throws ParseException {
+        TransactionContainsAllKeywordsPredicate expectedPredicate =
+                new TransactionContainsAllKeywordsPredicate();
+        expectedPredicate.addType(new Type("expense"));
+        assertEquals(new FindCommand(expectedPredicate, true), parser.parse(" type/expense explain/"));
+    }
+
+    @Test
+    public void parseMethod_invalidExplainPrefix_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " explain/", expectedMessage);
+        assertParseFailure(new FindCommandParser(), " type/expense explain/yes", expectedMessage);
+    }
+
+    @Test
+    public void parseMethod_invalidRange_throwsParseException() {
+        assertParseFailure(parser, " amt/50..20", FindCommandParser.MESSAGE_INVALID_RANGE_ORDER);
+        assertParseFailure(new FindCommandParser(), " amt/..", FindCommandParser.MESSAGE_INVALID_RANGE_FORMAT);
+        assertParseFailure(new FindCommandParser(), " dt/ ", FindCommandParser.MESSAGE_INVALID_RANGE_FORMAT);
+        assertParseFailure(new FindCommandParser(), " dt/02-03-2023 00:00..01-03-2023 00:00",
+                FindCommandParser.MESSAGE_INVALID_RANGE_ORDER);
+        assertParseFailure(new FindCommandParser(), " amt/abc..", Amount.MESSAGE_CONSTRAINTS);
+        assertParseFailure(new FindCommandParser(), " type/neither", Type.MESSAGE_CONSTRAINTS);
     }
 
     @Test
@@ -0,0 +1,146 @@
+package unicash.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static unicash.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class IndexedFilteredListTest {
+
+    private static final Predicate<String> IS_VOWEL = value -> "aeiou".contains(value);
+
+    private ObservableList<String> source;
+    private IndexedFilteredList<String> filteredList;
+    private int testCount;
+
+    /** A copy of the view kept up to date from the changes it reports, which must match the view. */
+    private List<String> replayedList;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+        filteredList = new IndexedFilteredList<>(source, this::isVowelCounted);
+        replayedList = new ArrayList<>(filteredList);
+        filteredList.addListener(this::replay);
+    }
+
+    private boolean isVowelCounted(String value) {
+        testCount++;
+        return IS_VOWEL.test(value);
+    }
+
+    private void replay(ListChangeListener.Change<? extends String> change) {
+        while (change.next()) {
+            assertEquals(change.getRemoved(), replayedList.subList(change.getFrom(),
+                    change.getFrom() + change.getRemovedSize()));
+            replayedList.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+            replayedList.addAll(change.getFrom(), change.getAddedSubList());
+        }
+    }
+
+    private void assertFiltered() {
+        List<String> expected = source.stream().filter(IS_VOWEL).collect(Collectors.toList());
+        assertEquals(expected, filteredList);
+        assertEquals(expected, replayedList);
+        for (int i = 0; i < filteredList.size(); i++) {
+            assertEquals(i, filteredList.getViewIndex(filteredList.getSourceIndex(i)));
+        }
+    }
+
+    @Test
+    public void get_validIndex_readsMatchingElements() {
+        assertEquals("a", filteredList.get(0));
+        assertEquals("e", filteredList.get(1));
+        assertEquals(4, filteredList.getSourceIndex(1));
+        assertEquals(1, filteredList.getViewIndex(4));
+        assertEquals(-1, filteredList.getViewIndex(1));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> filteredList.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> filteredList.get(-1));
+    }
+
+    @Test
+    public void setPredicate_everyElementTested() {
+        filteredList.setPredicate(value -> !value.equals("c"));
+        assertEquals(List.of("a", "b", "d", "e"), filteredList);
+        assertEquals(List.of("a", "b", "d", "e"), replayedList);
+
+        testCount = 0;
+        filteredList.setPredicate(this::isVowelCounted);
+        assertFiltered();
+        assertEquals(source.size(), testCount);
+    }
+
+    @Test
+    public void setPredicate_candidatePositions_onlyCandidatesTested() {
+        filteredList.setPredicate(value -> true);
+        testCount = 0;
+        filteredList.setPredicate(this::isVowelCounted, new int[] {1, 4});
+        assertEquals(List.of("e"), filteredList);
+        assertEquals(List.of("e"), replayedList);
+        assertEquals(2, testCount);
+    }
+
+    @Test
+    public void sourceChanged_add_onlyAddedElementsTested() {
+        testCount = 0;
+        source.add("i");
+        assertFiltered();
+        source.add(0, "z");
+        assertFiltered();
+        source.addAll(2, List.of("o", "y", "u"));
+        assertFiltered();
+        assertEquals(5, testCount);
+    }
+
+    @Test
+    public void sourceChanged_addAfterCandidatePositions_filterKept() {
+        filteredList.setPredicate(this::isVowelCounted, new int[] {0, 4});
+        source.add(1, "u");
+        source.add("x");
+        assertFiltered();
+    }
+
+    @Test
+    public void sourceChanged_remove_matchingElementsRemoved() {
+        source.remove("e");
+        assertFiltered();
+        source.remove(0);
+        assertFiltered();
+        source.removeAll("b", "d");
+        assertFiltered();
+        source.clear();
+        assertFiltered();
+    }
+
+    @Test
+    public void sourceChanged_set_replacedElementTested() {
+        source.set(1, "o");
+        assertFiltered();
+        source.set(0, "x");
+        assertFiltered();
+        source.setAll("u", "v", "i");
+        assertFiltered();
+    }
+
+    @Test
+    public void sourceChanged_sort_positionsUpdated() {
+        source.setAll("u", "d", "a", "e", "c", "b");
+        source.sort(Comparator.naturalOrder());
+        assertFiltered();
+    }
+}
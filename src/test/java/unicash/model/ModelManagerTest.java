@@ -9,28 +9,107 @@ import static unicash.model.Model.PREDICATE_SHOW_ALL_TRANSACTIONS;
 import static unicash.testutil.Assert.assertThrows;
 import static unicash.testutil.TypicalBudgets.DAILY;
 import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.DINING_WITH_FRIENDS;
 import static unicash.testutil.TypicalTransactions.INTERN;
 import static unicash.testutil.TypicalTransactions.NUS;
+import static unicash.testutil.TypicalTransactions.WORK_AT_LIHO;
 import static unicash.testutil.TypicalTransactions.getMaxTransactionList;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import unicash.commons.core.GuiSettings;
 import unicash.model.budget.Budget;
+import unicash.model.commons.Amount;
+import unicash.model.transaction.DateTime;
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionList;
 import unicash.model.transaction.exceptions.TransactionNotFoundException;
 import unicash.model.transaction.predicates.TransactionContainsAllKeywordsPredicate;
 import unicash.model.transaction.predicates.TransactionNameContainsKeywordsPredicate;
+import unicash.testutil.TransactionBuilder;
 import unicash.testutil.UniCashBuilder;
 
 public class ModelManagerTest {
 
     private ModelManager modelManager = new ModelManager();
 
+    @Test
+    public void startHistoryLoad_historyAdded_historyBeforeExistingTransactions() {
+        modelManager.addTransaction(NUS);
+        modelManager.startHistoryLoad(2);
+        assertTrue(modelManager.isHistoryLoading());
+        assertEquals(0, modelManager.getHistoryLoadProgress().get());
+
+        modelManager.setHistoryLoadProgress(1);
+        assertEquals(0.5, modelManager.getHistoryLoadProgress().get());
+
+        modelManager.addHistory(List.of(INTERN, BUYING_GROCERIES));
+        assertFalse(modelManager.isHistoryLoading());
+        assertEquals(1, modelManager.getHistoryLoadProgress().get());
+        assertEquals(List.of(INTERN, BUYING_GROCERIES, NUS), modelManager.getFilteredTransactionList());
+    }
+
+    @Test
+    public void startHistoryLoad_noHistory_notLoading() {
+        modelManager.startHistoryLoad(0);
+        assertFalse(modelManager.isHistoryLoading());
+        assertEquals(1, modelManager.getHistoryLoadProgress().get());
+    }
+
+    @Test
+    public void setUniCash_historyLoading_historyDiscarded() {
+        modelManager.startHistoryLoad(1);
+
+        modelManager.setUniCash(new UniCash());
+        assertFalse(modelManager.isHistoryLoading());
+
+        modelManager.addHistory(List.of(INTERN));
+        assertEquals(new UniCash(), modelManager.getUniCash());
+    }
+
+    @Test
+    public void failHistoryLoad_historyLoading_transactionsKept() {
+        modelManager.addTransaction(NUS);
+        modelManager.startHistoryLoad(1);
+
+        modelManager.failHistoryLoad();
+        assertFalse(modelManager.isHistoryLoading());
+        assertTrue(modelManager.hasHistoryLoadFailed());
+        assertEquals(List.of(NUS), modelManager.getFilteredTransactionList());
+
+        // the history arriving late is not added
+        modelManager.addHistory(List.of(INTERN));
+        assertEquals(List.of(NUS), modelManager.getFilteredTransactionList());
+
+        modelManager.setUniCash(new UniCash());
+        assertFalse(modelManager.hasHistoryLoadFailed());
+    }
+
+    @Test
+    public void failHistoryLoad_notLoading_noEffect() {
+        modelManager.failHistoryLoad();
+        assertFalse(modelManager.hasHistoryLoadFailed());
+    }
+
+    @Test
+    public void isFull_historyLoading_historyCounted() {
+        modelManager.startHistoryLoad(TransactionList.MAX_TRANSACTIONS - 1);
+        assertFalse(modelManager.isFull());
+
+        modelManager.addTransaction(NUS);
+        assertTrue(modelManager.isFull());
+    }
+
     @Test
     public void constructor() {
         assertEquals(new UserPrefs(), modelManager.getUserPrefs());
@@ -115,6 +194,26 @@ public class ModelManagerTest {
         assertFalse(modelManager.isFull());
     }
 
+    @Test
+    public void isFull_userPrefsLimitReached_returnsTrue() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMaxTransactions(1);
+        ModelManager limitedModelManager = new ModelManager(new UniCash(), userPrefs);
+        assertFalse(limitedModelManager.isFull());
+
+        limitedModelManager.addTransaction(NUS);
+        assertTrue(limitedModelManager.isFull());
+    }
+
+    @Test
+    public void setUserPrefs_limitChanged_limitApplied() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMaxTransactions(1);
+        modelManager.addTransaction(NUS);
+        modelManager.setUserPrefs(userPrefs);
+        assertTrue(modelManager.isFull());
+    }
+
     @Test
     public void deleteTransaction_transactionNotInUniCash_throws() {
         modelManager.addTransaction(NUS);
@@ -132,6 +231,83 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredTransactionList().remove(0));
     }
 
+    @Test
+    public void addTransaction_filterApplied_allTransactionsShown() {
+        modelManager.addTransaction(BUYING_GROCERIES);
+        modelManager.updateFilteredTransactionList(
+                new TransactionNameContainsKeywordsPredicate(List.of("groceries")));
+
+        modelManager.addTransaction(NUS);
+        assertEquals(List.of(BUYING_GROCERIES, NUS), modelManager.getFilteredTransactionList());
+    }
+
+    @Test
+    public void addTransaction_noFilterApplied_onlyNewTransactionAdded() {
+        modelManager.addTransaction(BUYING_GROCERIES);
+        List<ListChangeListener.Change<? extends Transaction>> changes = new ArrayList<>();
+        ListChangeListener<Transaction> changeRecorder = changes::add;
+        modelManager.getFilteredTransactionList().addListener(changeRecorder);
+
+        modelManager.addTransaction(NUS);
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Transaction> change = changes.get(0);
+        assertTrue(change.next());
+        assertEquals(List.of(NUS), change.getAddedSubList());
+        assertEquals(0, change.getRemovedSize());
+        assertEquals(List.of(BUYING_GROCERIES, NUS), modelManager.getFilteredTransactionList());
+    }
+
+    @Test
+    public void updateFilteredTransactionList_equalFilter_listNotChanged() {
+        modelManager.addTransaction(BUYING_GROCERIES);
+        modelManager.addTransaction(NUS);
+        modelManager.updateFilteredTransactionList(
+                new TransactionNameContainsKeywordsPredicate(List.of("groceries")));
+        List<ListChangeListener.Change<? extends Transaction>> changes = new ArrayList<>();
+        ListChangeListener<Transaction> changeRecorder = changes::add;
+        modelManager.getFilteredTransactionList().addListener(changeRecorder);
+
+        modelManager.updateFilteredTransactionList(
+                new TransactionNameContainsKeywordsPredicate(List.of("groceries")));
+        modelManager.updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS);
+        modelManager.updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS);
+        assertEquals(1, changes.size());
+        assertEquals(List.of(BUYING_GROCERIES, NUS), modelManager.getFilteredTransactionList());
+    }
+
+    @Test
+    public void updateFilteredTransactionList_fewTransactionsInRange_onlyRangeLookedUpTested() {
+        ModelManager model = new ModelManager(getTypicalUniCash(), new UserPrefs());
+        AtomicInteger testCount = new AtomicInteger();
+        Predicate<Transaction> countedTest = transaction -> testCount.incrementAndGet() > 0;
+        TransactionContainsAllKeywordsPredicate predicate = new TransactionContainsAllKeywordsPredicate(
+                new ArrayList<>(List.of(countedTest)));
+        predicate.addDateTimeRange(new DateTime("18-08-2001 00:00"), new DateTime("18-08-2001 23:59"));
+        predicate.useIndexesOf(model);
+
+        model.updateFilteredTransactionList(predicate);
+        assertEquals(List.of(BUYING_GROCERIES, DINING_WITH_FRIENDS), model.getFilteredTransactionList());
+        assertEquals(2, testCount.get());
+
+        // The filter is kept as the transactions change
+        Transaction movedGroceries = new TransactionBuilder(BUYING_GROCERIES).withDateTime("19-08-2001 10:10").build();
+        model.setTransaction(BUYING_GROCERIES, movedGroceries);
+        model.deleteTransaction(NUS);
+        assertEquals(List.of(DINING_WITH_FRIENDS), model.getFilteredTransactionList());
+    }
+
+    @Test
+    public void updateFilteredTransactionList_manyTransactionsInRange_everyTransactionTested() {
+        ModelManager model = new ModelManager(getTypicalUniCash(), new UserPrefs());
+        TransactionContainsAllKeywordsPredicate predicate = new TransactionContainsAllKeywordsPredicate();
+        predicate.addAmountRange(new Amount(10), null);
+        predicate.useIndexesOf(model);
+
+        model.updateFilteredTransactionList(predicate);
+        assertEquals(List.of(BUYING_GROCERIES, DINING_WITH_FRIENDS, WORK_AT_LIHO, NUS),
+                model.getFilteredTransactionList());
+    }
+
     @Test
     public void getExpenseSummaryPerCategory_calculatesSummaryCorrectly() {
         UniCash uniCash = new UniCashBuilder()
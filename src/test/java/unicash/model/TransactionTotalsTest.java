@@ -0,0 +1,116 @@
+package unicash.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.model.transaction.Transaction;
+import unicash.testutil.TransactionBuilder;
+
+public class TransactionTotalsTest {
+
+    private static final Transaction FOOD_EXPENSE = new TransactionBuilder().withName("lunch")
+            .withType("expense")
+            .withAmount(0.1)
+            .withDateTime("03-06-2023 12:00")
+            .withCategories("food")
+            .build();
+    private static final Transaction FOOD_AND_TRAVEL_EXPENSE = new TransactionBuilder().withName("train meal")
+            .withType("expense")
+            .withAmount(0.2)
+            .withDateTime("29-06-2023 18:00")
+            .withCategories("food", "travel")
+            .build();
+    private static final Transaction UNCATEGORIZED_EXPENSE = new TransactionBuilder().withName("gift")
+            .withType("expense")
+            .withAmount(5)
+            .withDateTime("01-07-2023 09:00")
+            .withCategories()
+            .build();
+    private static final Transaction INCOME = new TransactionBuilder().withName("salary")
+            .withType("income")
+            .withAmount(100)
+            .withDateTime("01-07-2023 09:00")
+            .withCategories("food")
+            .build();
+
+    private final TransactionTotals totals = new TransactionTotals();
+
+    @Test
+    public void totals_noTransactions_empty() {
+        assertFalse(totals.hasExpenses());
+        assertEquals(0.0, totals.getBalance());
+        assertEquals(new HashMap<>(), totals.getExpensesPerCategory());
+        assertEquals(new HashMap<>(), totals.getExpensesPerYearMonth());
+    }
+
+    @Test
+    public void totals_expensesAndIncome_expensesSummedExactly() {
+        totals.addAll(List.of(FOOD_EXPENSE, FOOD_AND_TRAVEL_EXPENSE, UNCATEGORIZED_EXPENSE, INCOME));
+
+        HashMap<String, Double> expectedPerCategory = new HashMap<>();
+        expectedPerCategory.put("food", 0.3);
+        expectedPerCategory.put("travel", 0.2);
+        expectedPerCategory.put(UniCash.UNCATEGORIZED_CATEGORY_NAME, 5.0);
+        HashMap<YearMonth, Double> expectedPerYearMonth = new HashMap<>();
+        expectedPerYearMonth.put(YearMonth.of(2023, 6), 0.3);
+        expectedPerYearMonth.put(YearMonth.of(2023, 7), 5.0);
+
+        assertTrue(totals.hasExpenses());
+        assertEquals(94.7, totals.getBalance());
+        assertEquals(expectedPerCategory, totals.getExpensesPerCategory());
+        assertEquals(expectedPerYearMonth, totals.getExpensesPerYearMonth());
+    }
+
+    @Test
+    public void remove_lastExpenseOfTotal_totalDropped() {
+        totals.addAll(List.of(FOOD_EXPENSE, FOOD_AND_TRAVEL_EXPENSE, INCOME));
+        totals.remove(FOOD_AND_TRAVEL_EXPENSE);
+
+        HashMap<String, Double> expectedPerCategory = new HashMap<>();
+        expectedPerCategory.put("food", 0.1);
+        HashMap<YearMonth, Double> expectedPerYearMonth = new HashMap<>();
+        expectedPerYearMonth.put(YearMonth.of(2023, 6), 0.1);
+
+        assertEquals(99.9, totals.getBalance());
+        assertEquals(expectedPerCategory, totals.getExpensesPerCategory());
+        assertEquals(expectedPerYearMonth, totals.getExpensesPerYearMonth());
+
+        totals.remove(FOOD_EXPENSE);
+        assertFalse(totals.hasExpenses());
+        assertEquals(new HashMap<>(), totals.getExpensesPerCategory());
+        assertEquals(new HashMap<>(), totals.getExpensesPerYearMonth());
+    }
+
+    @Test
+    public void remove_zeroAmountExpense_countedUntilRemoved() {
+        Transaction freeExpense = new TransactionBuilder(FOOD_EXPENSE).withAmount(0).build();
+        totals.add(freeExpense);
+
+        HashMap<String, Double> expectedPerCategory = new HashMap<>();
+        expectedPerCategory.put("food", 0.0);
+        assertTrue(totals.hasExpenses());
+        assertEquals(expectedPerCategory, totals.getExpensesPerCategory());
+
+        totals.remove(freeExpense);
+        assertFalse(totals.hasExpenses());
+        assertEquals(new HashMap<>(), totals.getExpensesPerCategory());
+    }
+
+    @Test
+    public void clear_afterAdding_empty() {
+        totals.addAll(List.of(FOOD_EXPENSE, INCOME));
+        totals.clear();
+
+        assertFalse(totals.hasExpenses());
+        assertEquals(0.0, totals.getBalance());
+        assertEquals(new HashMap<>(), totals.getExpensesPerCategory());
+        assertEquals(new HashMap<>(), totals.getExpensesPerYearMonth());
+    }
+}
@@ -0,0 +1,174 @@
+package unicash.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import unicash.model.category.Category;
+import unicash.model.category.UniqueCategoryList;
+import unicash.model.commons.Amount;
+import unicash.model.transaction.DateTime;
+import unicash.model.transaction.Location;
+import unicash.model.transaction.Name;
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.Type;
+import unicash.model.transaction.predicates.TransactionContainsAllKeywordsPredicate;
+
+/**
+ * Measures how the latency of common UniCash operations grows with the number of transactions.
+ * Not a unit test; run it with {@code gradlew benchmark}, optionally passing the sizes to measure
+ * through {@code --args}, such as {@code --args="100000 1000000"}.
+ *
+ * <p>Each operation is repeated {@value #REPETITIONS} times at every size, and its average latency printed.
+ * Flat latencies across the sizes mean the operation does not scan the transactions. Finding by name is the
+ * exception, as it filters the transaction list by testing every transaction, so it is only repeated
+ * {@value #FIND_REPETITIONS} times and its latency grows with the number of transactions. Finding by a narrow
+ * date time or amount range only tests the transactions looked up in an index, so it grows with the number
+ * of matches instead.</p>
+ */
+public class UniCashScalingBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {100_000, 500_000, 1_000_000};
+    private static final int REPETITIONS = 1000;
+    private static final int FIND_REPETITIONS = 20;
+    private static final String[] CATEGORIES = {"food", "transport", "rent", "fun", "books", "gifts", "health"};
+    private static final LocalDateTime FIRST_DATE_TIME = LocalDateTime.of(2015, 1, 1, 0, 0);
+
+    private final Random random = new Random(2023);
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        int largestSize = 0;
+        for (int size : sizes) {
+            largestSize = Math.max(largestSize, size);
+        }
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMaxTransactions(largestSize + REPETITIONS);
+
+        UniCashScalingBenchmark benchmark = new UniCashScalingBenchmark();
+        // Warm up the JIT compiler before measuring
+        benchmark.run(sizes[0], userPrefs, false);
+        for (int size : sizes) {
+            benchmark.run(size, userPrefs, true);
+        }
+    }
+
+    private void run(int size, UserPrefs userPrefs, boolean isPrinted) {
+        List<Transaction> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            transactions.add(createTransaction(i));
+        }
+        UniCash uniCash = new UniCash(userPrefs.getMaxTransactions());
+        long loadStart = System.nanoTime();
+        uniCash.setTransactions(transactions);
+        long loadMillis = (System.nanoTime() - loadStart) / 1_000_000;
+
+        List<Transaction> added = new ArrayList<>(REPETITIONS);
+        for (int i = 0; i < REPETITIONS; i++) {
+            added.add(createTransaction(size + i));
+        }
+        long addNanos = measure(i -> {
+            if (!uniCash.hasTransaction(added.get(i))) {
+                uniCash.addTransaction(added.get(i));
+            }
+        });
+        long editNanos = measure(i -> {
+            int index = random.nextInt(size);
+            Transaction editedTransaction = createTransaction(size + REPETITIONS + i);
+            uniCash.setTransaction(transactions.get(index), editedTransaction);
+            transactions.set(index, editedTransaction);
+        });
+        long periodNanos = measure(i -> {
+            LocalDateTime start = FIRST_DATE_TIME.plusDays(random.nextInt(365 * 8));
+            uniCash.getTransactionsBetween(start, start.plusDays(1));
+        });
+        long summaryNanos = measure(i -> {
+            uniCash.getSumOfExpensePerCategory();
+            uniCash.getSumOfExpensePerYearMonth();
+        });
+        long deleteNanos = measure(i -> uniCash.removeTransaction(added.get(i)));
+
+        Model model = new ModelManager(uniCash, userPrefs);
+        long findNanos = measure(FIND_REPETITIONS, i -> {
+            TransactionContainsAllKeywordsPredicate predicate = new TransactionContainsAllKeywordsPredicate();
+            predicate.addNameKeyword("Purchase " + random.nextInt(size));
+            predicate.useIndexesOf(model);
+            model.updateFilteredTransactionList(predicate);
+            model.getFilteredTransactionList().size();
+        });
+
+        long dayFindNanos = measure(i -> {
+            DateTime start = DateTime.of(FIRST_DATE_TIME.plusDays(random.nextInt(365 * 8)));
+            TransactionContainsAllKeywordsPredicate predicate = new TransactionContainsAllKeywordsPredicate();
+            predicate.addDateTimeRange(start, DateTime.of(start.getDateTime().plusDays(1).minusMinutes(1)));
+            predicate.useIndexesOf(model);
+            model.updateFilteredTransactionList(predicate);
+        });
+        long amountFindNanos = measure(i -> {
+            long cents = random.nextInt(100_000);
+            TransactionContainsAllKeywordsPredicate predicate = new TransactionContainsAllKeywordsPredicate();
+            predicate.addAmountRange(Amount.ofCents(cents), Amount.ofCents(cents + 99));
+            predicate.useIndexesOf(model);
+            model.updateFilteredTransactionList(predicate);
+        });
+
+        if (isPrinted) {
+            System.out.printf("%,10d transactions: load %,6d ms | add %,7.1f us | edit %,7.1f us"
+                            + " | day query %,7.1f us | summary %,7.1f us | delete %,7.1f us | find %,7.1f ms"
+                            + " | day find %,7.1f us | amount find %,7.1f us%n",
+                    size, loadMillis, toMicros(addNanos), toMicros(editNanos), toMicros(periodNanos),
+                    toMicros(summaryNanos), toMicros(deleteNanos), findNanos / 1_000_000.0 / FIND_REPETITIONS,
+                    toMicros(dayFindNanos), toMicros(amountFindNanos));
+        }
+    }
+
+    /**
+     * Returns the total time taken to run {@code operation} {@value #REPETITIONS} times, in nanoseconds.
+     */
+    private static long measure(IndexedOperation operation) {
+        return measure(REPETITIONS, operation);
+    }
+
+    /**
+     * Returns the total time taken to run {@code operation} {@code repetitions} times, in nanoseconds.
+     */
+    private static long measure(int repetitions, IndexedOperation operation) {
+        long start = System.nanoTime();
+        for (int i = 0; i < repetitions; i++) {
+            operation.run(i);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static double toMicros(long totalNanos) {
+        return totalNanos / 1000.0 / REPETITIONS;
+    }
+
+    /**
+     * Returns a transaction with a name unique to {@code id}, within the eight years after 2015.
+     */
+    private Transaction createTransaction(int id) {
+        return new Transaction(
+                Name.of("Purchase " + id),
+                new Type(random.nextInt(10) == 0 ? "income" : "expense"),
+                Amount.ofCents(random.nextInt(100_000)),
+                DateTime.of(FIRST_DATE_TIME.plusMinutes(random.nextInt(60 * 24 * 365 * 8))),
+                Location.of("Shop " + random.nextInt(200)),
+                new UniqueCategoryList(List.of(Category.of(CATEGORIES[random.nextInt(CATEGORIES.length)]))));
+    }
+
+    /**
+     * An operation given the number of times it has been run.
+     */
+    private interface IndexedOperation {
+        void run(int i);
+    }
+}
@@ -351,6 +351,38 @@ public class UniCashTest {
         assertEquals(expectedOutput, actualOutput);
     }
 
+    @Test
+    public void getSumOfExpense_afterEditAndRemove_matchesRecomputedSums() {
+        Transaction edited = new TransactionBuilder(NUS).withAmount(12.34).withCategories("Travel").build();
+        uniCash.setTransactions(List.of(NUS, INTERN, SHOPPING, BUYING_GROCERIES));
+        uniCash.setTransaction(NUS, edited);
+        uniCash.removeTransaction(BUYING_GROCERIES);
+        uniCash.addTransaction(DINING_WITH_FRIENDS);
+
+        UniCash recomputed = new UniCashBuilder()
+                .withTransaction(edited)
+                .withTransaction(INTERN)
+                .withTransaction(SHOPPING)
+                .withTransaction(DINING_WITH_FRIENDS)
+                .build();
+
+        assertEquals(recomputed.getSumOfExpensePerCategory(), uniCash.getSumOfExpensePerCategory());
+        assertEquals(recomputed.getSumOfExpensePerYearMonth(), uniCash.getSumOfExpensePerYearMonth());
+        assertEquals(recomputed.getBalance(), uniCash.getBalance());
+    }
+
+    @Test
+    public void getBalance_expensesAndIncome_incomeLessExpenses() {
+        Transaction income = new TransactionBuilder().withType("income").withAmount(10.3).build();
+        Transaction expense = new TransactionBuilder().withType("expense").withAmount(0.1).build();
+        uniCash.addTransaction(income);
+        uniCash.addTransaction(expense);
+        assertEquals(10.2, uniCash.getBalance());
+
+        uniCash.removeTransaction(income);
+        assertEquals(-0.1, uniCash.getBalance());
+    }
+
     @Test
     public void hasExpenses_haveExpenses_success() {
         // When there is income
@@ -438,6 +470,31 @@ public class UniCashTest {
         assertNull(uniCash.getBudget());
     }
 
+    @Test
+    public void getVersion_dataModified_versionIncreases() {
+        long version = uniCash.getVersion();
+        uniCash.addTransaction(NUS);
+        assertTrue(uniCash.getVersion() > version);
+
+        version = uniCash.getVersion();
+        uniCash.setBudget(MONTHLY);
+        assertTrue(uniCash.getVersion() > version);
+
+        version = uniCash.getVersion();
+        uniCash.clearBudget();
+        assertTrue(uniCash.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_dataRead_versionUnchanged() {
+        uniCash.addTransaction(NUS);
+        long version = uniCash.getVersion();
+        uniCash.hasTransaction(NUS);
+        uniCash.getSumOfExpensePerCategory();
+        uniCash.getBudget();
+        assertEquals(version, uniCash.getVersion());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = UniCash.class.getCanonicalName() + "{transactions=" + uniCash.getTransactionList() + "}";
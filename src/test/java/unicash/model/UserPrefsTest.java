@@ -11,6 +11,7 @@ import java.nio.file.Paths;
 import org.junit.jupiter.api.Test;
 
 import unicash.commons.core.GuiSettings;
+import unicash.model.transaction.TransactionList;
 
 public class UserPrefsTest {
 
@@ -40,6 +41,20 @@ public class UserPrefsTest {
         var changedUniCashFilePath = new UserPrefs();
         changedUniCashFilePath.setUniCashFilePath(Path.of("invalid_path"));
         assertNotEquals(changedUniCashFilePath, userPrefs);
+
+        var changedMaxTransactions = new UserPrefs();
+        changedMaxTransactions.setMaxTransactions(1_000_000);
+        assertNotEquals(changedMaxTransactions, userPrefs);
+        assertEquals(changedMaxTransactions, new UserPrefs(changedMaxTransactions));
+    }
+
+    @Test
+    public void setMaxTransactions_outOfRange_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, TransactionList.MESSAGE_LIMIT_CONSTRAINTS, () ->
+                userPrefs.setMaxTransactions(0));
+        assertThrows(IllegalArgumentException.class, TransactionList.MESSAGE_LIMIT_CONSTRAINTS, () ->
+                userPrefs.setMaxTransactions(TransactionList.MAX_CONFIGURABLE_TRANSACTIONS + 1));
     }
 
     @Test
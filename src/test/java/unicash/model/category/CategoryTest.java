@@ -3,6 +3,7 @@ package unicash.model.category;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static unicash.testutil.Assert.assertThrows;
 import static unicash.testutil.TypicalCategories.EDUCATION;
@@ -17,6 +18,25 @@ public class CategoryTest {
         assertThrows(NullPointerException.class, () -> new Category(null));
     }
 
+    @Test
+    public void of_categoryNameInOtherCase_sameInstance() {
+        assertEquals("food", Category.of("Food").category);
+        assertSame(Category.of("Food"), Category.of("food"));
+        assertSame(Category.of("FOOD"), Category.of("fOOd"));
+    }
+
+    @Test
+    public void of_sameCategoryName_sameInstance() {
+        assertEquals(new Category("Transport"), Category.of("Transport"));
+        assertSame(Category.of("Transport"), Category.of("Transport"));
+    }
+
+    @Test
+    public void of_invalidCategoryName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Category.of("not valid"));
+        assertFalse(Category.isValidCategory("not valid"));
+    }
+
     @Test
     public void constructor_invalidCategoryName_throwsIllegalArgumentException() {
         String invalidCategoryName = "";
@@ -214,6 +214,36 @@ public class UniqueCategoryListTest {
                 -> uniqueCategoryList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void asUnmodifiableObservableList_listModifiedAfterwards_reflectsChanges() {
+        List<Category> view = uniqueCategoryList.asUnmodifiableObservableList();
+        uniqueCategoryList.add(EDUCATION);
+        uniqueCategoryList.add(ENTERTAINMENT);
+        uniqueCategoryList.remove(EDUCATION);
+        assertEquals(List.of(ENTERTAINMENT), view);
+    }
+
+    @Test
+    public void setCategories_replacementModifiedAfterwards_copyUnchanged() {
+        UniqueCategoryList replacement = new UniqueCategoryList(List.of(EDUCATION));
+        uniqueCategoryList.setCategories(replacement);
+        replacement.add(ENTERTAINMENT);
+        replacement.remove(EDUCATION);
+        assertEquals(new UniqueCategoryList(List.of(EDUCATION)), uniqueCategoryList);
+    }
+
+    @Test
+    public void iterator_listModifiedWhileIterating_iteratesOriginalCategories() {
+        uniqueCategoryList.add(EDUCATION);
+        List<Category> iterated = new ArrayList<>();
+        for (Category category : uniqueCategoryList) {
+            uniqueCategoryList.remove(category);
+            iterated.add(category);
+        }
+        assertEquals(List.of(EDUCATION), iterated);
+        assertTrue(uniqueCategoryList.isEmpty());
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniqueCategoryList.asUnmodifiableObservableList().toString(), uniqueCategoryList.toString());
@@ -350,4 +380,12 @@ public class UniqueCategoryListTest {
         assertEquals(categoryList1.hashCode(), categoryList2.hashCode());
         assertNotEquals(categoryList1.hashCode(), categoryList3.hashCode());
     }
+
+    @Test
+    public void hashCode_differentOrder_equalHashCodes() {
+        UniqueCategoryList categoryList = new UniqueCategoryList(List.of(EDUCATION, ENTERTAINMENT));
+        UniqueCategoryList reordered = new UniqueCategoryList(List.of(ENTERTAINMENT, EDUCATION));
+        assertEquals(categoryList, reordered);
+        assertEquals(categoryList.hashCode(), reordered.hashCode());
+    }
 }
@@ -130,7 +130,7 @@ public class AmountTest {
     public void equals() {
         Amount amount = new Amount(12.13);
         Amount roundedAmount = new Amount(12.1315);
-        assertEquals(12.13, amount.amount);
+        assertEquals(12.13, amount.getValue());
         assertEquals(amount, amount);
         assertEquals(amount, new Amount(12.13));
         assertEquals(amount, roundedAmount);
@@ -152,6 +152,41 @@ public class AmountTest {
         assertEquals("45.57", Amount.amountToDecimalString(amount));
     }
 
+    @Test
+    public void getCents_roundedAmount_wholeCents() {
+        assertEquals(1213, new Amount(12.1315).getCents());
+        assertEquals(1005, new Amount("$10.05").getCents());
+        assertEquals(0, new Amount(0).getCents());
+    }
+
+    @Test
+    public void ofCents_validCents_equalToDecimalAmount() {
+        assertEquals(new Amount(12.13), Amount.ofCents(1213));
+        assertEquals(12.13, Amount.ofCents(1213).getValue());
+    }
+
+    @Test
+    public void ofCents_outOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Amount.ofCents(-1));
+        assertThrows(IllegalArgumentException.class, () -> Amount.ofCents(Integer.MAX_VALUE * 100L + 1));
+    }
+
+    @Test
+    public void getCents_manySmallAmounts_sumExact() {
+        long totalCents = 0;
+        for (int i = 0; i < 100_000; i++) {
+            totalCents += new Amount(0.1).getCents();
+        }
+        assertEquals(1_000_000, totalCents);
+    }
+
+    @Test
+    public void centsToDecimalString_negativeCents_signedString() {
+        assertEquals("-0.05", Amount.centsToDecimalString(-5));
+        assertEquals("-12.30", Amount.centsToDecimalString(-1230));
+        assertEquals("7.00", Amount.centsToDecimalString(700));
+    }
+
     @Test
     public void amountString() {
         var amount = new Amount(14.47);
@@ -9,6 +9,7 @@ import static unicash.testutil.Assert.assertThrows;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.ZoneId;
 
@@ -18,6 +19,14 @@ import org.junit.jupiter.api.Test;
 public class DateTimeTest {
     private static final Clock clock = Clock.fixed(Instant.parse("2014-12-21T10:15:30.00Z"), ZoneId.of("UTC"));
 
+    @Test
+    public void getEpochMinute() {
+        assertEquals(0, DateTime.of(LocalDateTime.of(1970, 1, 1, 0, 0)).getEpochMinute());
+        assertEquals(61, DateTime.of(LocalDateTime.of(1970, 1, 1, 1, 1)).getEpochMinute());
+        assertEquals(-1, DateTime.of(LocalDateTime.of(1969, 12, 31, 23, 59)).getEpochMinute());
+        assertEquals(-1, DateTime.toEpochMinute(LocalDateTime.of(1969, 12, 31, 23, 59, 30)));
+    }
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new DateTime(null));
@@ -25,6 +34,15 @@ public class DateTimeTest {
         assertThrows(NullPointerException.class, () -> new DateTime(null, null));
     }
 
+    @Test
+    public void of_localDateTime_equalsParsedDateTime() {
+        DateTime dateTime = DateTime.of(LocalDateTime.of(2001, 8, 18, 18, 18, 42));
+        assertEquals(new DateTime("18-08-2001 18:18"), dateTime);
+        assertEquals("18 Aug 2001 18:18", dateTime.inputString());
+        assertTrue(DateTime.isValidDateTime(dateTime.inputString()));
+        assertThrows(NullPointerException.class, () -> DateTime.of(null));
+    }
+
     @Test
     public void constructor_noDateTime_setDefault() {
         String empty = "";
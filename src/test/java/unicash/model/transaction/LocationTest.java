@@ -3,6 +3,7 @@ package unicash.model.transaction;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static unicash.testutil.Assert.assertThrows;
 
@@ -45,6 +46,19 @@ public class LocationTest {
         assertEquals("-", new Location(" ").toString());
     }
 
+    @Test
+    public void of_blankLocation_sharedDefault() {
+        assertEquals(new Location(""), Location.of(""));
+        assertSame(Location.of(" "), Location.of("-"));
+        assertFalse(Location.isValidLocation(" "));
+    }
+
+    @Test
+    public void of_sameLocation_sameInstance() {
+        assertSame(Location.of("Orchard"), Location.of("Orchard"));
+        assertThrows(IllegalArgumentException.class, () -> Location.of("peter*"));
+    }
+
     @Test
     public void isValidLocation() {
         // null location
@@ -3,6 +3,7 @@ package unicash.model.transaction;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static unicash.testutil.Assert.assertThrows;
 
@@ -29,6 +30,17 @@ public class NameTest {
         "a".repeat(500) // exactly max length characters
     };
 
+    @Test
+    public void of_sameName_sameInstance() {
+        assertEquals(new Name("Lunch at (NUS) #2"), Name.of("Lunch at (NUS) #2"));
+        assertSame(Name.of("Lunch at (NUS) #2"), Name.of("Lunch at (NUS) #2"));
+    }
+
+    @Test
+    public void of_invalidName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Name.of(""));
+    }
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new Name(null));
@@ -0,0 +1,84 @@
+package unicash.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static unicash.testutil.TypicalTransactions.NUS;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.model.category.Category;
+import unicash.testutil.TransactionBuilder;
+
+public class TransactionCategoryIndexTest {
+
+    private static final Category FOOD = new Category("food");
+    private static final Category FUN = new Category("fun");
+
+    private static final Transaction FOOD_AND_FUN = new TransactionBuilder(NUS).withCategories("food", "fun").build();
+    private static final Transaction UNCATEGORIZED = new TransactionBuilder(NUS).withCategories().build();
+
+    private final TransactionCategoryIndex index = new TransactionCategoryIndex();
+
+    @Test
+    public void add_transactionWithCategories_indexedUnderEachCategory() {
+        index.addAll(List.of(FOOD_AND_FUN, UNCATEGORIZED));
+
+        assertEquals(Set.of(FOOD, FUN), index.getCategories());
+        assertEquals(List.of(FOOD_AND_FUN), index.getTransactionsWithCategory(FOOD));
+        assertEquals(List.of(FOOD_AND_FUN), index.getTransactionsWithCategory(FUN));
+        assertEquals(List.of(UNCATEGORIZED), index.getUncategorizedTransactions());
+        assertEquals(List.of(), index.getTransactionsWithCategory(new Category("rent")));
+    }
+
+    @Test
+    public void getTransactionsWithAnyOf_withinLimit_distinctTransactions() {
+        Transaction food = new TransactionBuilder(NUS).withCategories("food").build();
+        index.addAll(List.of(FOOD_AND_FUN, food, UNCATEGORIZED));
+
+        assertEquals(Optional.of(List.of(FOOD_AND_FUN)), index.getTransactionsWithAnyOf(List.of(FUN, FUN), 1));
+        assertEquals(2, index.getTransactionsWithAnyOf(List.of(FOOD, FUN), 2).orElseThrow().size());
+        assertEquals(Optional.empty(), index.getTransactionsWithAnyOf(List.of(FUN, FOOD), 1));
+        assertEquals(Optional.of(List.of()), index.getTransactionsWithAnyOf(List.of(), 0));
+    }
+
+    @Test
+    public void remove_sameObjectAddedTwice_removedOnce() {
+        index.add(FOOD_AND_FUN);
+        index.add(FOOD_AND_FUN);
+        index.add(UNCATEGORIZED);
+        index.add(UNCATEGORIZED);
+
+        index.remove(FOOD_AND_FUN);
+        index.remove(UNCATEGORIZED);
+        assertEquals(List.of(FOOD_AND_FUN), index.getTransactionsWithCategory(FOOD));
+        assertEquals(List.of(UNCATEGORIZED), index.getUncategorizedTransactions());
+
+        index.remove(FOOD_AND_FUN);
+        index.remove(UNCATEGORIZED);
+        assertEquals(Set.of(), index.getCategories());
+        assertEquals(List.of(), index.getUncategorizedTransactions());
+    }
+
+    @Test
+    public void remove_equalTransaction_onlySameObjectRemoved() {
+        Transaction copy = new TransactionBuilder(FOOD_AND_FUN).build();
+        index.add(FOOD_AND_FUN);
+        index.add(copy);
+
+        index.remove(copy);
+        assertEquals(1, index.getTransactionsWithCategory(FOOD).size());
+        assertSame(FOOD_AND_FUN, index.getTransactionsWithCategory(FOOD).get(0));
+    }
+
+    @Test
+    public void clear_indexEmptied() {
+        index.addAll(List.of(FOOD_AND_FUN, UNCATEGORIZED));
+        index.clear();
+        assertEquals(Set.of(), index.getCategories());
+        assertEquals(List.of(), index.getUncategorizedTransactions());
+    }
+}
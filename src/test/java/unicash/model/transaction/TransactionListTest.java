@@ -1,5 +1,6 @@
 package unicash.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -14,14 +15,19 @@ import static unicash.testutil.TypicalTransactions.SHOPPING;
 import static unicash.testutil.TypicalTransactions.getMaxTransactionList;
 import static unicash.testutil.TypicalTransactions.getTypicalTransactions;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import unicash.model.category.Category;
 import unicash.model.transaction.exceptions.MaxTransactionException;
 import unicash.model.transaction.exceptions.TransactionNotFoundException;
 import unicash.testutil.TransactionBuilder;
@@ -35,6 +41,28 @@ public class TransactionListTest {
         transactionList = new TransactionList();
     }
 
+    @Test
+    public void getVersion_listModified_versionIncreases() {
+        long version = transactionList.getVersion();
+        transactionList.add(NUS);
+        assertEquals(version + 1, transactionList.getVersion());
+        transactionList.setTransaction(NUS, INTERN);
+        assertEquals(version + 2, transactionList.getVersion());
+        transactionList.remove(INTERN);
+        assertEquals(version + 3, transactionList.getVersion());
+        transactionList.setTransactions(getTypicalTransactions());
+        assertEquals(version + 4, transactionList.getVersion());
+    }
+
+    @Test
+    public void getVersion_listRead_versionUnchanged() {
+        transactionList.add(NUS);
+        long version = transactionList.getVersion();
+        transactionList.contains(NUS);
+        transactionList.isFull();
+        assertEquals(version, transactionList.getVersion());
+    }
+
     @Test
     public void contains_nullTransaction_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> transactionList.contains(null));
@@ -61,6 +89,46 @@ public class TransactionListTest {
         assertFalse(transactionList.contains(editedNus));
     }
 
+    @Test
+    public void contains_equalTransactionRemoved_containedUntilAllRemoved() {
+        Transaction nusCopy = new TransactionBuilder(NUS).build();
+        transactionList.add(NUS);
+        transactionList.add(nusCopy);
+
+        transactionList.remove(NUS);
+        assertTrue(transactionList.contains(NUS));
+
+        transactionList.remove(nusCopy);
+        assertFalse(transactionList.contains(NUS));
+    }
+
+    @Test
+    public void contains_afterEditAndReplace_reflectsContents() {
+        transactionList.add(NUS);
+        transactionList.setTransaction(NUS, INTERN);
+        assertFalse(transactionList.contains(NUS));
+        assertTrue(transactionList.contains(INTERN));
+
+        transactionList.setTransactions(List.of(SHOPPING));
+        assertFalse(transactionList.contains(INTERN));
+        assertTrue(transactionList.contains(SHOPPING));
+    }
+
+    @Test
+    public void remove_equalTransactionNotInList_throwsTransactionNotFoundException() {
+        transactionList.add(NUS);
+        Transaction nusCopy = new TransactionBuilder(NUS).build();
+        assertThrows(TransactionNotFoundException.class, () -> transactionList.remove(nusCopy));
+    }
+
+    @Test
+    public void iterator_remove_throwsUnsupportedOperationException() {
+        transactionList.add(NUS);
+        Iterator<Transaction> iterator = transactionList.iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
     @Test
     public void add_nullTransaction_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> transactionList.add(null));
@@ -130,6 +198,113 @@ public class TransactionListTest {
         assertEquals(expectedTransactionList, transactionList);
     }
 
+    @Test
+    public void addAll_transactionsAtIndex_insertedInOrder() {
+        transactionList.add(NUS);
+        long version = transactionList.getVersion();
+
+        transactionList.addAll(0, List.of(INTERN, SHOPPING));
+
+        assertEquals(List.of(INTERN, SHOPPING, NUS), transactionList.asUnmodifiableObservableList());
+        assertNotEquals(version, transactionList.getVersion());
+    }
+
+    @Test
+    public void addAll_moreThanMaxTransactions_throwsMaxTransactionException() {
+        transactionList.add(NUS);
+        List<Transaction> maxTransactions = getMaxTransactionList();
+        assertThrows(MaxTransactionException.class, () -> transactionList.addAll(0, maxTransactions));
+    }
+
+    @Test
+    public void getTransactionsBetween_modifiedList_chronologicalTransactionsInRange() {
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 0, 0);
+        Transaction atStart = new TransactionBuilder(NUS).withDateTime("01-01-2023 00:00").build();
+        Transaction beforeEnd = new TransactionBuilder(INTERN).withDateTime("31-01-2023 23:59").build();
+        Transaction atEnd = new TransactionBuilder(SHOPPING).withDateTime("01-02-2023 00:00").build();
+        Transaction before = new TransactionBuilder(BUYING_GROCERIES).withDateTime("31-12-2022 23:59").build();
+        transactionList.setTransactions(List.of(beforeEnd, atEnd, before));
+        transactionList.add(atStart);
+
+        assertEquals(List.of(atStart, beforeEnd), transactionList.getTransactionsBetween(start, start.plusMonths(1)));
+
+        transactionList.remove(atStart);
+        transactionList.setTransaction(atEnd, new TransactionBuilder(atEnd).withDateTime("15-01-2023 12:00").build());
+        assertEquals(List.of(transactionList.asUnmodifiableObservableList().get(1), beforeEnd),
+                transactionList.getTransactionsBetween(start, start.plusMonths(1)));
+        assertEquals(List.of(), transactionList.getTransactionsBetween(start, start));
+    }
+
+    @Test
+    public void getTransactionsWithCategory_modifiedList_transactionsWithCategory() {
+        Transaction food = new TransactionBuilder(NUS).withCategories("food").build();
+        Transaction foodAndFun = new TransactionBuilder(INTERN).withCategories("food", "fun").build();
+        Transaction uncategorized = new TransactionBuilder(SHOPPING).withCategories().build();
+        transactionList.setTransactions(List.of(food, uncategorized));
+        transactionList.add(foodAndFun);
+
+        assertEquals(Set.of(new Category("food"), new Category("fun")), transactionList.getCategories());
+        assertEquals(Set.of(food, foodAndFun),
+                new HashSet<>(transactionList.getTransactionsWithCategory(new Category("food"))));
+        assertEquals(List.of(uncategorized), transactionList.getUncategorizedTransactions());
+
+        transactionList.remove(foodAndFun);
+        Transaction edited = new TransactionBuilder(uncategorized).withCategories("fun").build();
+        transactionList.setTransaction(uncategorized, edited);
+        assertEquals(List.of(food), transactionList.getTransactionsWithCategory(new Category("food")));
+        assertEquals(List.of(edited), transactionList.getTransactionsWithCategory(new Category("fun")));
+        assertEquals(List.of(), transactionList.getUncategorizedTransactions());
+        assertEquals(List.of(), transactionList.getTransactionsWithCategory(new Category("rent")));
+    }
+
+    @Test
+    public void constructor_raisedLimit_moreTransactionsAccepted() {
+        TransactionList transactionList = new TransactionList(TransactionList.MAX_TRANSACTIONS + 1);
+        transactionList.setTransactions(getMaxTransactionList());
+        assertFalse(transactionList.isFull());
+
+        transactionList.add(NUS);
+        assertTrue(transactionList.isFull());
+        assertThrows(MaxTransactionException.class, () -> transactionList.add(INTERN));
+    }
+
+    @Test
+    public void setMaxTransactions_limitBelowSize_transactionsKeptButFull() {
+        transactionList.setTransactions(getTypicalTransactions());
+        transactionList.setMaxTransactions(1);
+
+        assertEquals(getTypicalTransactions(), transactionList.asUnmodifiableObservableList());
+        assertTrue(transactionList.isFull());
+        assertThrows(MaxTransactionException.class, () -> transactionList.add(NUS));
+    }
+
+    @Test
+    public void setMaxTransactions_outOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> transactionList.setMaxTransactions(0));
+        assertThrows(IllegalArgumentException.class, () ->
+                transactionList.setMaxTransactions(TransactionList.MAX_CONFIGURABLE_TRANSACTIONS + 1));
+        assertEquals(TransactionList.MAX_TRANSACTIONS, transactionList.getMaxTransactions());
+    }
+
+    @Test
+    public void constructor_outOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TransactionList(0));
+        assertThrows(IllegalArgumentException.class, () ->
+                new TransactionList(TransactionList.MAX_CONFIGURABLE_TRANSACTIONS + 1));
+    }
+
+    @Test
+    public void setMaxTransactions_otherList_limitNotShared() {
+        new TransactionList().setMaxTransactions(1);
+        assertEquals(TransactionList.MAX_TRANSACTIONS, transactionList.getMaxTransactions());
+    }
+
+    @Test
+    public void getSizeConstraintsMessage_configuredLimit_limitInMessage() {
+        assertEquals("UniCa$h supports up to a maximum of 2,500,000 transactions.",
+                TransactionList.getSizeConstraintsMessage(2_500_000));
+    }
+
     @Test
     public void isFull() {
         transactionList.setTransactions(getMaxTransactionList());
@@ -156,6 +331,15 @@ public class TransactionListTest {
         assertEquals(expectedTransactionList, transactionList);
     }
 
+    @Test
+    public void setTransactions_transactionListOverLimit_throwsMaxTransactionException() {
+        TransactionList replacement = new TransactionList();
+        replacement.addAll(0, List.of(NUS, INTERN, BUYING_GROCERIES));
+        TransactionList limitedList = new TransactionList(2);
+        assertThrows(MaxTransactionException.class, () -> limitedList.setTransactions(replacement));
+        assertTrue(limitedList.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     public void setTransactions_nullList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> transactionList.setTransactions((List<Transaction>) null));
@@ -245,12 +429,78 @@ public class TransactionListTest {
         // EP 1 > 100000
         List<Transaction> transactionsList = getMaxTransactionList();
         transactionsList.add(NUS);
-        assertTrue(TransactionList.isMoreThanMax(transactionsList));
+        assertTrue(transactionList.isMoreThanMax(transactionsList));
 
         // EP 2 <= 100000
         transactionsList = getMaxTransactionList();
-        assertFalse(TransactionList.isMoreThanMax(transactionsList));
-        assertFalse(TransactionList.isMoreThanMax(getTypicalTransactions()));
+        assertFalse(transactionList.isMoreThanMax(transactionsList));
+        assertFalse(transactionList.isMoreThanMax(getTypicalTransactions()));
+    }
+
+    @Test
+    public void isMoreThanMax_configuredLimit_limitUsed() {
+        TransactionList limitedList = new TransactionList(2);
+        assertFalse(limitedList.isMoreThanMax(List.of(NUS, INTERN)));
+        assertTrue(limitedList.isMoreThanMax(List.of(NUS, INTERN, BUYING_GROCERIES)));
+    }
+
+    @Test
+    public void getNameMatcher_transactionsAddedBeforeFirstSearch_transactionsCounted() {
+        transactionList.setTransactions(getTypicalTransactions());
+        transactionList.add(new TransactionBuilder(NUS).withName("Jewel dinner").build());
+        assertEquals(1, transactionList.getNameMatcher("jewel").countMatches());
+    }
+
+    @Test
+    public void getLocationMatcher_listChangedAfterSearch_matcherUpdated() {
+        TextMatcher matcher = transactionList.getLocationMatcher("jewel");
+        assertEquals(0, matcher.countMatches());
+
+        Transaction atJewel = new TransactionBuilder(NUS).withLocation("Changi Jewel").build();
+        transactionList.setTransactions(List.of(atJewel, INTERN));
+        assertEquals(1, matcher.countMatches());
+
+        transactionList.remove(atJewel);
+        assertEquals(0, matcher.countMatches());
+    }
+
+    @Test
+    public void findTransactionsWithAmountBetween_amountEdited_indexUpdated() {
+        transactionList.setTransactions(getTypicalTransactions());
+        assertEquals(Optional.of(List.of(INTERN, BUYING_GROCERIES)),
+                transactionList.findTransactionsWithAmountBetween(0, 2000, 5));
+
+        Transaction editedIntern = new TransactionBuilder(INTERN).withAmount(100).build();
+        transactionList.setTransaction(INTERN, editedIntern);
+        assertEquals(Optional.of(List.of(BUYING_GROCERIES)),
+                transactionList.findTransactionsWithAmountBetween(0, 2000, 5));
+        assertEquals(Optional.of(List.of(editedIntern)),
+                transactionList.findTransactionsWithAmountBetween(10000, 10000, 5));
+        assertEquals(Optional.empty(), transactionList.findTransactionsWithAmountBetween(0, Long.MAX_VALUE, 4));
+    }
+
+    @Test
+    public void findTransactionsWithAnyCategory_sharedCategory_eachTransactionOnce() {
+        Transaction foodAndFun = new TransactionBuilder(NUS).withCategories("food", "fun").build();
+        transactionList.setTransactions(List.of(foodAndFun, new TransactionBuilder(INTERN).withCategories().build()));
+        List<Category> categories = List.of(new Category("food"), new Category("fun"));
+
+        assertEquals(Optional.of(List.of(foodAndFun)), transactionList.findTransactionsWithAnyCategory(categories, 1));
+        assertEquals(Optional.empty(), transactionList.findTransactionsWithAnyCategory(categories, 0));
+    }
+
+    @Test
+    public void findPositionsOf_distinctTransactions_ascendingPositions() {
+        transactionList.setTransactions(getTypicalTransactions());
+        assertArrayEquals(new int[] {1, 3, 4}, transactionList.findPositionsOf(
+                List.of(INTERN, getTypicalTransactions().get(1), NUS, INTERN)).orElseThrow());
+    }
+
+    @Test
+    public void findPositionsOf_transactionObjectRepeated_empty() {
+        transactionList.setTransactions(List.of(NUS, INTERN, NUS));
+        assertEquals(Optional.empty(), transactionList.findPositionsOf(List.of(INTERN, NUS)));
+        assertArrayEquals(new int[] {1}, transactionList.findPositionsOf(List.of(INTERN)).orElseThrow());
     }
 
     @Test
@@ -0,0 +1,142 @@
+package unicash.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.INTERN;
+import static unicash.testutil.TypicalTransactions.NUS;
+import static unicash.testutil.TypicalTransactions.SHOPPING;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.testutil.TransactionBuilder;
+
+public class TransactionPositionIndexTest {
+
+    private final List<Transaction> list = new ArrayList<>();
+    private final TransactionPositionIndex index = new TransactionPositionIndex(list);
+
+    private static int indexOfIdentity(List<Transaction> list, Transaction transaction) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == transaction) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void add(int position, Transaction transaction) {
+        list.add(position, transaction);
+        index.inserted(position, position + 1);
+    }
+
+    private void set(int position, Transaction transaction) {
+        index.replaced(position, list.set(position, transaction));
+    }
+
+    private void remove(int position) {
+        index.removed(position, list.remove(position));
+    }
+
+    @Test
+    public void indexOf_emptyList_notFound() {
+        assertEquals(-1, index.indexOf(NUS));
+    }
+
+    @Test
+    public void indexOf_equalTransactionNotInList_notFound() {
+        add(0, NUS);
+        assertEquals(-1, index.indexOf(new TransactionBuilder(NUS).build()));
+    }
+
+    @Test
+    public void indexOf_afterInsertAtFront_shiftedPositions() {
+        add(0, NUS);
+        add(1, INTERN);
+        list.addAll(0, List.of(SHOPPING, BUYING_GROCERIES));
+        index.inserted(0, 2);
+
+        assertEquals(0, index.indexOf(SHOPPING));
+        assertEquals(1, index.indexOf(BUYING_GROCERIES));
+        assertEquals(2, index.indexOf(NUS));
+        assertEquals(3, index.indexOf(INTERN));
+    }
+
+    @Test
+    public void indexOf_afterReplace_replacedNotFound() {
+        add(0, NUS);
+        add(1, INTERN);
+        set(0, SHOPPING);
+
+        assertEquals(-1, index.indexOf(NUS));
+        assertEquals(0, index.indexOf(SHOPPING));
+        assertEquals(1, index.indexOf(INTERN));
+    }
+
+    @Test
+    public void indexOf_duplicateObject_firstOccurrence() {
+        add(0, NUS);
+        add(1, INTERN);
+        add(2, NUS);
+        assertEquals(0, index.indexOf(NUS));
+
+        remove(0);
+        assertEquals(1, index.indexOf(NUS));
+
+        set(1, SHOPPING);
+        assertEquals(-1, index.indexOf(NUS));
+    }
+
+    @Test
+    public void reset_contentsReplaced_newContentsIndexed() {
+        add(0, NUS);
+        list.clear();
+        list.addAll(List.of(INTERN, SHOPPING));
+        index.reset();
+
+        assertEquals(-1, index.indexOf(NUS));
+        assertEquals(1, index.indexOf(SHOPPING));
+    }
+
+    @Test
+    public void indexOf_randomModificationsOfDuplicateObjects_matchesScan() {
+        assertRandomModificationsMatchScan(20, 2000);
+    }
+
+    @Test
+    public void indexOf_randomModificationsOfDistinctObjects_matchesScan() {
+        assertRandomModificationsMatchScan(5000, 5000);
+    }
+
+    /**
+     * Makes {@code steps} random modifications to the list with objects from a pool of {@code poolSize},
+     * and asserts that the index finds the same positions as scanning the list.
+     */
+    private void assertRandomModificationsMatchScan(int poolSize, int steps) {
+        Random random = new Random(2023);
+        List<Transaction> pool = new ArrayList<>();
+        for (int i = 0; i < poolSize; i++) {
+            pool.add(new TransactionBuilder(NUS).build());
+        }
+
+        for (int step = 0; step < steps; step++) {
+            Transaction transaction = pool.get(random.nextInt(pool.size()));
+            int operation = random.nextInt(4);
+            if (operation == 0 || list.isEmpty()) {
+                add(random.nextInt(list.size() + 1), transaction);
+            } else if (operation == 1) {
+                set(random.nextInt(list.size()), transaction);
+            } else if (operation == 2) {
+                remove(random.nextInt(list.size()));
+            } else {
+                assertEquals(indexOfIdentity(list, transaction), index.indexOf(transaction));
+            }
+        }
+        for (Transaction transaction : pool) {
+            assertEquals(indexOfIdentity(list, transaction), index.indexOf(transaction));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package unicash.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static unicash.testutil.TypicalTransactions.NUS;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.testutil.TransactionBuilder;
+
+public class TransactionRangeIndexTest {
+
+    private static final Transaction EARLY = new TransactionBuilder(NUS).withDateTime("01-01-2023 08:00").build();
+    private static final Transaction LATE = new TransactionBuilder(NUS).withDateTime("01-01-2023 20:00").build();
+    private static final Transaction LATE_COPY = new TransactionBuilder(LATE).build();
+
+    private final TransactionRangeIndex index =
+            new TransactionRangeIndex(transaction -> transaction.getDateTime().getEpochMinute());
+
+    @Test
+    public void getTransactionsBetween_emptyIndex_empty() {
+        assertEquals(List.of(), index.getTransactionsBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void getTransactionsBetween_startInclusiveEndExclusive() {
+        index.addAll(List.of(LATE, EARLY));
+        long early = EARLY.getDateTime().getEpochMinute();
+        long late = LATE.getDateTime().getEpochMinute();
+
+        assertEquals(List.of(EARLY, LATE), index.getTransactionsBetween(early, late + 1));
+        assertEquals(List.of(EARLY), index.getTransactionsBetween(early, late));
+        assertEquals(List.of(LATE), index.getTransactionsBetween(early + 1, late + 1));
+        assertEquals(List.of(), index.getTransactionsBetween(late, early));
+    }
+
+    @Test
+    public void remove_equalTransactionsInSameMinute_onlySameObjectRemoved() {
+        index.add(LATE);
+        index.add(LATE_COPY);
+        long late = LATE.getDateTime().getEpochMinute();
+        assertEquals(List.of(LATE, LATE_COPY), index.getTransactionsBetween(late, late + 1));
+
+        index.remove(LATE_COPY);
+        assertEquals(1, index.getTransactionsBetween(late, late + 1).size());
+        assertEquals(LATE, index.getTransactionsBetween(late, late + 1).get(0));
+
+        index.remove(LATE);
+        assertEquals(List.of(), index.getTransactionsBetween(late, late + 1));
+    }
+
+    @Test
+    public void getTransactionsWithin_withinLimit_bothBoundsInclusive() {
+        index.addAll(List.of(LATE, EARLY, LATE_COPY));
+        long early = EARLY.getDateTime().getEpochMinute();
+        long late = LATE.getDateTime().getEpochMinute();
+
+        assertEquals(Optional.of(List.of(EARLY, LATE, LATE_COPY)), index.getTransactionsWithin(early, late, 3));
+        assertEquals(Optional.of(List.of(LATE, LATE_COPY)),
+                index.getTransactionsWithin(late, Long.MAX_VALUE, 2));
+        assertEquals(Optional.of(List.of(EARLY)), index.getTransactionsWithin(Long.MIN_VALUE, early, 1));
+        assertEquals(Optional.of(List.of()), index.getTransactionsWithin(late, early, 0));
+    }
+
+    @Test
+    public void getTransactionsWithin_moreThanLimit_empty() {
+        index.addAll(List.of(LATE, EARLY, LATE_COPY));
+        long early = EARLY.getDateTime().getEpochMinute();
+        long late = LATE.getDateTime().getEpochMinute();
+
+        assertEquals(Optional.empty(), index.getTransactionsWithin(early, late, 2));
+        assertEquals(Optional.empty(), index.getTransactionsWithin(late, late, 1));
+    }
+
+    @Test
+    public void clear_indexEmptied() {
+        index.addAll(List.of(LATE, EARLY));
+        index.clear();
+        assertEquals(List.of(), index.getTransactionsBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+}
@@ -114,4 +114,21 @@ public class TransactionTest {
         assertEquals(BUYING_GROCERIES.hashCode(), BUYING_GROCERIES.hashCode());
         assertNotEquals(BUYING_GROCERIES.hashCode(), WORK_AT_LIHO.hashCode());
     }
+
+    @Test
+    public void hashCode_categoriesInDifferentOrder_equalHashCodes() {
+        Transaction transaction = new TransactionBuilder().withCategories("food", "travel").build();
+        Transaction reordered = new TransactionBuilder().withCategories("travel", "food").build();
+        assertEquals(transaction, reordered);
+        assertEquals(transaction.hashCode(), reordered.hashCode());
+        assertEquals(transaction, reordered);
+    }
+
+    @Test
+    public void equals_differentHashCodesComputed_returnsFalse() {
+        Transaction transaction = new TransactionBuilder(BUYING_GROCERIES).build();
+        Transaction edited = new TransactionBuilder(BUYING_GROCERIES).withAmount(1).build();
+        assertNotEquals(transaction.hashCode(), edited.hashCode());
+        assertNotEquals(transaction, edited);
+    }
 }
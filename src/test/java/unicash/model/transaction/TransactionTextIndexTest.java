@@ -0,0 +1,124 @@
+package unicash.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalTransactions.NUS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.testutil.TransactionBuilder;
+
+public class TransactionTextIndexTest {
+
+    private static final Transaction COFFEE = new TransactionBuilder(NUS).withName("Morning Coffee").build();
+    private static final Transaction TEA = new TransactionBuilder(NUS).withName("Afternoon tea").build();
+
+    private final TransactionTextIndex index = new TransactionTextIndex(transaction -> transaction.getName().fullName);
+
+    @Test
+    public void getMatcher_indexedTexts_matchedIgnoringCase() {
+        index.addAll(List.of(COFFEE, TEA));
+
+        Predicate<String> matcher = index.getMatcher(" COFFEE ");
+        assertTrue(matcher.test("Morning Coffee"));
+        assertFalse(matcher.test("Afternoon tea"));
+    }
+
+    @Test
+    public void getMatcher_shortKeyword_matchedWithoutTrigrams() {
+        index.addAll(List.of(COFFEE, TEA));
+
+        Predicate<String> matcher = index.getMatcher("Te");
+        assertTrue(matcher.test("Afternoon tea"));
+        assertFalse(matcher.test("Morning Coffee"));
+    }
+
+    @Test
+    public void getMatcher_textWithAllTrigramsOfKeyword_matchedOnlyIfContained() {
+        Transaction cheapEats = new TransactionBuilder(NUS).withName("Cheap eats").build();
+        index.addAll(List.of(COFFEE, TEA, cheapEats));
+
+        // "Cheap eats" has both trigrams of "heat", but not next to each other
+        assertFalse(index.getMatcher("heat").test("Cheap eats"));
+        assertTrue(index.getMatcher("ap ea").test("Cheap eats"));
+    }
+
+    @Test
+    public void getMatcher_textNotInIndex_searchedDirectly() {
+        index.add(COFFEE);
+
+        Predicate<String> matcher = index.getMatcher("tea");
+        assertTrue(matcher.test("Teapot"));
+        assertFalse(matcher.test("Morning Coffee"));
+    }
+
+    @Test
+    public void getMatcher_textAddedAfterSearch_matched() {
+        index.add(COFFEE);
+        Predicate<String> matcher = index.getMatcher("tea");
+        assertFalse(matcher.test("Morning Coffee"));
+
+        index.add(TEA);
+        assertTrue(matcher.test("Afternoon tea"));
+    }
+
+    @Test
+    public void remove_textSharedByTransactions_keptUntilLastRemoved() {
+        Transaction otherCoffee = new TransactionBuilder(COFFEE).withAmount(1).build();
+        index.addAll(List.of(COFFEE, otherCoffee));
+
+        index.remove(COFFEE);
+        assertTrue(index.getMatcher("coffee").test("Morning Coffee"));
+
+        index.remove(otherCoffee);
+        index.add(TEA);
+        assertTrue(index.getMatcher("coffee").test("Morning Coffee"));
+        assertFalse(index.getMatcher("coffee").test("Afternoon tea"));
+    }
+
+    @Test
+    public void remove_mostTexts_remainingTextsStillMatched() {
+        List<Transaction> purchases = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            purchases.add(new TransactionBuilder(NUS).withName("Purchase " + i).build());
+        }
+        index.addAll(purchases);
+        index.add(COFFEE);
+        Predicate<String> matcher = index.getMatcher("purchase 29");
+
+        purchases.subList(0, 2900).forEach(index::remove);
+        assertTrue(matcher.test("Purchase 2999"));
+        assertFalse(matcher.test("Morning Coffee"));
+        assertTrue(index.getMatcher("coffee").test("Morning Coffee"));
+        assertFalse(index.getMatcher("purchase 1").test("Purchase 2999"));
+    }
+
+    @Test
+    public void countMatches_textsSharedAndRemoved_transactionsCounted() {
+        Transaction otherCoffee = new TransactionBuilder(COFFEE).withAmount(1).build();
+        index.addAll(List.of(COFFEE, otherCoffee, TEA));
+
+        TextMatcher matcher = index.getMatcher("coffee");
+        assertEquals(2, matcher.countMatches());
+        assertEquals(3, index.getMatcher("n").countMatches());
+
+        index.remove(COFFEE);
+        assertEquals(1, matcher.countMatches());
+        index.remove(otherCoffee);
+        assertEquals(0, matcher.countMatches());
+        assertEquals(0, index.getMatcher(" ").countMatches());
+    }
+
+    @Test
+    public void getMatcher_blankKeyword_throwsIllegalArgumentExceptionWhenTested() {
+        index.add(COFFEE);
+        Predicate<String> matcher = index.getMatcher("  ");
+        assertThrows(IllegalArgumentException.class, () -> matcher.test("Morning Coffee"));
+    }
+}
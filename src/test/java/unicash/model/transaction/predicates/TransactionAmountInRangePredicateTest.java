@@ -0,0 +1,94 @@
+package unicash.model.transaction.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.DINING_WITH_FRIENDS;
+import static unicash.testutil.TypicalTransactions.NUS;
+import static unicash.testutil.TypicalTransactions.WORK_AT_LIHO;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.model.ModelManager;
+import unicash.model.UserPrefs;
+import unicash.model.commons.Amount;
+import unicash.testutil.TransactionBuilder;
+
+public class TransactionAmountInRangePredicateTest {
+
+    @Test
+    public void equals() {
+        TransactionAmountInRangePredicate firstPredicate =
+                new TransactionAmountInRangePredicate(new Amount(20), null);
+
+        // same values -> returns true
+        assertEquals(firstPredicate, new TransactionAmountInRangePredicate(new Amount(20), null));
+        assertEquals(firstPredicate.hashCode(),
+                new TransactionAmountInRangePredicate(new Amount(20), null).hashCode());
+
+        // different bounds -> returns false
+        assertNotEquals(firstPredicate, new TransactionAmountInRangePredicate(null, new Amount(20)));
+        assertNotEquals(firstPredicate, new TransactionAmountInRangePredicate(new Amount(20), new Amount(20)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+    }
+
+    @Test
+    public void test_amountInRange_returnsTrue() {
+        TransactionAmountInRangePredicate predicate =
+                new TransactionAmountInRangePredicate(new Amount(20), new Amount(50));
+        assertTrue(predicate.test(new TransactionBuilder().withAmount(20).build()));
+        assertTrue(predicate.test(new TransactionBuilder().withAmount(50).build()));
+
+        // Unbounded range
+        predicate = new TransactionAmountInRangePredicate(new Amount(20), null);
+        assertTrue(predicate.test(new TransactionBuilder().withAmount(1_000_000).build()));
+    }
+
+    @Test
+    public void test_amountOutOfRange_returnsFalse() {
+        TransactionAmountInRangePredicate predicate =
+                new TransactionAmountInRangePredicate(new Amount(20), new Amount(50));
+        assertFalse(predicate.test(new TransactionBuilder().withAmount(19.99).build()));
+        assertFalse(predicate.test(new TransactionBuilder().withAmount(50.01).build()));
+    }
+
+    @Test
+    public void estimateMatches_indexesUsed_transactionsInRangeCounted() {
+        TransactionAmountInRangePredicate predicate =
+                new TransactionAmountInRangePredicate(new Amount(200), new Amount(300));
+        assertEquals(OptionalInt.empty(), predicate.estimateMatches());
+        assertEquals(Optional.empty(), predicate.findCandidates(Integer.MAX_VALUE));
+
+        predicate.useIndexesOf(new ModelManager(getTypicalUniCash(), new UserPrefs()));
+        assertEquals(OptionalInt.of(1), predicate.estimateMatches());
+        assertEquals(Optional.of(List.of(DINING_WITH_FRIENDS)), predicate.findCandidates(1));
+        assertEquals(IndexablePredicate.COST_LOOKUP, predicate.getCost());
+    }
+
+    @Test
+    public void estimateMatches_moreThanHalfOfTransactionsInRange_noEstimate() {
+        TransactionAmountInRangePredicate predicate = new TransactionAmountInRangePredicate(new Amount(10), null);
+        predicate.useIndexesOf(new ModelManager(getTypicalUniCash(), new UserPrefs()));
+
+        assertEquals(OptionalInt.empty(), predicate.estimateMatches());
+        assertEquals(Optional.empty(), predicate.findCandidates(3));
+        assertEquals(Optional.of(List.of(BUYING_GROCERIES, DINING_WITH_FRIENDS, WORK_AT_LIHO, NUS)),
+                predicate.findCandidates(4));
+    }
+
+    @Test
+    public void describe() {
+        assertEquals("amount from $20.00 to $50.00",
+                new TransactionAmountInRangePredicate(new Amount(20), new Amount(50)).describe());
+        assertEquals("amount to $50.00", new TransactionAmountInRangePredicate(null, new Amount(50)).describe());
+    }
+}
@@ -4,13 +4,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.OptionalInt;
 
 import org.junit.jupiter.api.Test;
 
+import unicash.model.ModelManager;
+import unicash.model.UserPrefs;
 import unicash.testutil.TransactionBuilder;
 
 public class TransactionCategoryContainsKeywordsPredicateTest {
@@ -67,6 +71,28 @@ public class TransactionCategoryContainsKeywordsPredicateTest {
 
     }
 
+    @Test
+    public void test_sameCategoryTestedAgain_sameResult() {
+        TransactionCategoryContainsKeywordsPredicate predicate =
+                new TransactionCategoryContainsKeywordsPredicate(Collections.singletonList("foo"));
+        assertTrue(predicate.test(new TransactionBuilder().withCategories("food").build()));
+        assertTrue(predicate.test(new TransactionBuilder().withCategories("transport", "food").build()));
+        assertFalse(predicate.test(new TransactionBuilder().withCategories("transport").build()));
+        assertFalse(predicate.test(new TransactionBuilder().withCategories("transport").build()));
+    }
+
+    @Test
+    public void estimateMatches_indexesUsed_transactionsWithMatchingCategoriesCounted() {
+        TransactionCategoryContainsKeywordsPredicate predicate =
+                new TransactionCategoryContainsKeywordsPredicate(List.of("food", "nothing"));
+        assertEquals(OptionalInt.empty(), predicate.estimateMatches());
+
+        predicate.useIndexesOf(new ModelManager(getTypicalUniCash(), new UserPrefs()));
+        assertEquals(OptionalInt.of(3), predicate.estimateMatches());
+        assertTrue(predicate.test(new TransactionBuilder().withCategories("Food").build()));
+        assertFalse(predicate.test(new TransactionBuilder().withCategories("transport").build()));
+    }
+
     @Test
     public void test_categoriesDoNotContainKeywords_returnsFalse() {
         // Zero keywords
@@ -4,16 +4,26 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.DINING_WITH_FRIENDS;
+import static unicash.testutil.TypicalTransactions.WORK_AT_LIHO;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import unicash.model.ModelManager;
+import unicash.model.UserPrefs;
+import unicash.model.commons.Amount;
+import unicash.model.transaction.DateTime;
 import unicash.model.transaction.Transaction;
 import unicash.testutil.TransactionBuilder;
 
@@ -152,6 +162,64 @@ public class TransactionContainsAllKeywordsPredicateTest {
     }
 
 
+    @Test
+    public void explain_indexesUsed_mostSelectivePredicateFirst() {
+        predicate.addCategoryKeyword("food");
+        predicate.addNameKeyword("liho");
+
+        // Without estimates, the category lookup is cheaper than searching the name
+        assertEquals("Query plan:" + System.lineSeparator()
+                + "Access: every transaction tested" + System.lineSeparator()
+                + "1. category contains [food] (cost 1)" + System.lineSeparator()
+                + "2. name contains [liho] (cost 10)", predicate.explain());
+
+        predicate.useIndexesOf(new ModelManager(getTypicalUniCash(), new UserPrefs()));
+        // More than half of the transactions have a matching category, so it is not worth looking them up
+        assertEquals("Query plan:" + System.lineSeparator()
+                + "Access: every transaction tested" + System.lineSeparator()
+                + "1. name contains [liho] (cost 1, about 1 matches)" + System.lineSeparator()
+                + "2. category contains [food] (cost 1, about 3 matches)", predicate.explain());
+        assertEquals(OptionalInt.of(1), predicate.estimateMatches());
+        assertEquals(2, predicate.getCost());
+        assertTrue(predicate.test(WORK_AT_LIHO));
+        assertFalse(predicate.test(testTransaction));
+    }
+
+    @Test
+    public void explain_fewTransactionsInRange_rangeLookedUp() {
+        predicate.addNameKeyword("e");
+        predicate.addDateTimeRange(new DateTime("18-08-2001 00:00"), new DateTime("18-08-2001 23:59"));
+        predicate.addAmountRange(new Amount(200), null);
+        assertEquals(Optional.empty(), predicate.findCandidates(Integer.MAX_VALUE));
+
+        predicate.useIndexesOf(new ModelManager(getTypicalUniCash(), new UserPrefs()));
+        assertEquals("Query plan:" + System.lineSeparator()
+                + "Access: index lookup of date time from 18 Aug 2001 00:00 to 18 Aug 2001 23:59 (about 2 candidates)"
+                + System.lineSeparator()
+                + "1. date time from 18 Aug 2001 00:00 to 18 Aug 2001 23:59 (cost 1, about 2 matches)"
+                + System.lineSeparator()
+                + "2. name contains [e] (cost 1, about 3 matches)" + System.lineSeparator()
+                + "3. amount from $200.00 (cost 1)", predicate.explain());
+        assertEquals(Optional.of(List.of(BUYING_GROCERIES, DINING_WITH_FRIENDS)), predicate.findCandidates(2));
+        assertEquals(Optional.empty(), predicate.findCandidates(1));
+    }
+
+    @Test
+    public void explain_keywordAddedAfterCompiling_planCompiledAgain() {
+        predicate.addNameKeyword("food");
+        assertTrue(predicate.test(testTransaction));
+
+        predicate.addLocationKeyword("kfc");
+        assertFalse(predicate.test(testTransaction));
+        assertEquals("name contains [food] and location contains [kfc]", predicate.describe());
+    }
+
+    @Test
+    public void explain_predicateListEmpty_matchesNothing() {
+        assertEquals("Query plan: no predicates, matching no transactions", predicate.explain());
+        assertEquals(OptionalInt.of(0), predicate.estimateMatches());
+    }
+
     @Test
     public void testTransaction_predicateListEmpty_returnFalse() {
         TransactionContainsAllKeywordsPredicate localPredicate =
@@ -0,0 +1,91 @@
+package unicash.model.transaction.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.DINING_WITH_FRIENDS;
+import static unicash.testutil.TypicalTransactions.INTERN;
+import static unicash.testutil.TypicalTransactions.NUS;
+import static unicash.testutil.TypicalTransactions.WORK_AT_LIHO;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.model.ModelManager;
+import unicash.model.UserPrefs;
+import unicash.model.transaction.DateTime;
+import unicash.testutil.TransactionBuilder;
+
+public class TransactionDateTimeInRangePredicateTest {
+
+    private static final DateTime MARCH_START = new DateTime("01-03-2023 00:00");
+    private static final DateTime MARCH_END = new DateTime("31-03-2023 23:59");
+
+    @Test
+    public void equals() {
+        TransactionDateTimeInRangePredicate firstPredicate =
+                new TransactionDateTimeInRangePredicate(MARCH_START, MARCH_END);
+
+        // same values -> returns true
+        assertEquals(firstPredicate, new TransactionDateTimeInRangePredicate(
+                new DateTime("01-03-2023 00:00"), new DateTime("31-03-2023 23:59")));
+        assertEquals(firstPredicate.hashCode(),
+                new TransactionDateTimeInRangePredicate(MARCH_START, MARCH_END).hashCode());
+
+        // different bounds -> returns false
+        assertNotEquals(firstPredicate, new TransactionDateTimeInRangePredicate(MARCH_START, null));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+    }
+
+    @Test
+    public void test_dateTimeInPeriod_returnsTrue() {
+        TransactionDateTimeInRangePredicate predicate =
+                new TransactionDateTimeInRangePredicate(MARCH_START, MARCH_END);
+        assertTrue(predicate.test(new TransactionBuilder().withDateTime("01-03-2023 00:00").build()));
+        assertTrue(predicate.test(new TransactionBuilder().withDateTime("31-03-2023 23:59").build()));
+
+        // Unbounded period
+        predicate = new TransactionDateTimeInRangePredicate(null, MARCH_END);
+        assertTrue(predicate.test(new TransactionBuilder().withDateTime("18-08-2001 18:18").build()));
+    }
+
+    @Test
+    public void test_dateTimeOutOfPeriod_returnsFalse() {
+        TransactionDateTimeInRangePredicate predicate =
+                new TransactionDateTimeInRangePredicate(MARCH_START, MARCH_END);
+        assertFalse(predicate.test(new TransactionBuilder().withDateTime("28-02-2023 23:59").build()));
+        assertFalse(predicate.test(new TransactionBuilder().withDateTime("01-04-2023 00:00").build()));
+    }
+
+    @Test
+    public void estimateMatches_indexesUsed_transactionsInPeriodCounted() {
+        TransactionDateTimeInRangePredicate predicate = new TransactionDateTimeInRangePredicate(
+                new DateTime("18-08-2001 00:00"), new DateTime("18-08-2001 23:59"));
+        assertEquals(OptionalInt.empty(), predicate.estimateMatches());
+        assertEquals(Optional.empty(), predicate.findCandidates(Integer.MAX_VALUE));
+
+        predicate.useIndexesOf(new ModelManager(getTypicalUniCash(), new UserPrefs()));
+        assertEquals(OptionalInt.of(2), predicate.estimateMatches());
+        assertEquals(Optional.of(List.of(BUYING_GROCERIES, DINING_WITH_FRIENDS)), predicate.findCandidates(2));
+        assertEquals(Optional.empty(), predicate.findCandidates(1));
+        assertEquals(IndexablePredicate.COST_LOOKUP, predicate.getCost());
+    }
+
+    @Test
+    public void estimateMatches_moreThanHalfOfTransactionsInPeriod_noEstimate() {
+        TransactionDateTimeInRangePredicate predicate =
+                new TransactionDateTimeInRangePredicate(new DateTime("01-09-2002 00:00"), null);
+        predicate.useIndexesOf(new ModelManager(getTypicalUniCash(), new UserPrefs()));
+
+        assertEquals(OptionalInt.empty(), predicate.estimateMatches());
+        assertEquals(Optional.of(List.of(WORK_AT_LIHO, INTERN, NUS)), predicate.findCandidates(3));
+    }
+}
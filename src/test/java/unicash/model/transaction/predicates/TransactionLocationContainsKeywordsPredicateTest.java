@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.DINING_WITH_FRIENDS;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -11,6 +14,8 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import unicash.model.ModelManager;
+import unicash.model.UserPrefs;
 import unicash.testutil.TransactionBuilder;
 
 
@@ -88,4 +93,18 @@ public class TransactionLocationContainsKeywordsPredicateTest {
                 .class.getCanonicalName() + "{keywords=" + keywords + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void test_indexesUsed_sameResultsAsWithoutIndexes() {
+        TransactionLocationContainsKeywordsPredicate predicate =
+                new TransactionLocationContainsKeywordsPredicate(List.of("utown", "poulet"));
+        predicate.useIndexesOf(new ModelManager(getTypicalUniCash(), new UserPrefs()));
+
+        assertTrue(predicate.test(BUYING_GROCERIES));
+        assertTrue(predicate.test(DINING_WITH_FRIENDS));
+        assertFalse(predicate.test(new TransactionBuilder().withLocation("Clementi").build()));
+
+        // Transactions not in the model are still tested
+        assertTrue(predicate.test(new TransactionBuilder().withLocation("UTown Starbucks").build()));
+    }
 }
@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.WORK_AT_LIHO;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -11,6 +14,8 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import unicash.model.ModelManager;
+import unicash.model.UserPrefs;
 import unicash.testutil.TransactionBuilder;
 
 public class TransactionNameContainsKeywordsPredicateTest {
@@ -87,4 +92,18 @@ public class TransactionNameContainsKeywordsPredicateTest {
                 .class.getCanonicalName() + "{keywords=" + keywords + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void test_indexesUsed_sameResultsAsWithoutIndexes() {
+        TransactionNameContainsKeywordsPredicate predicate =
+                new TransactionNameContainsKeywordsPredicate(List.of("GROCERIES", "liho"));
+        predicate.useIndexesOf(new ModelManager(getTypicalUniCash(), new UserPrefs()));
+
+        assertTrue(predicate.test(BUYING_GROCERIES));
+        assertTrue(predicate.test(WORK_AT_LIHO));
+        assertFalse(predicate.test(new TransactionBuilder().withName("Clementi").build()));
+
+        // Transactions not in the model are still tested
+        assertTrue(predicate.test(new TransactionBuilder().withName("Groceries again").build()));
+    }
 }
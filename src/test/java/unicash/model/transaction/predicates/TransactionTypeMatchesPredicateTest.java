@@ -0,0 +1,52 @@
+package unicash.model.transaction.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.model.ModelManager;
+import unicash.model.transaction.Type;
+import unicash.testutil.TransactionBuilder;
+
+public class TransactionTypeMatchesPredicateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TransactionTypeMatchesPredicate(null));
+    }
+
+    @Test
+    public void equals() {
+        TransactionTypeMatchesPredicate expensePredicate = new TransactionTypeMatchesPredicate(new Type("expense"));
+
+        // same values -> returns true
+        assertEquals(expensePredicate, new TransactionTypeMatchesPredicate(new Type("expense")));
+
+        // different type -> returns false
+        assertNotEquals(expensePredicate, new TransactionTypeMatchesPredicate(new Type("income")));
+
+        // different types -> returns false
+        assertFalse(expensePredicate.equals(1));
+    }
+
+    @Test
+    public void test_type_matchedExactly() {
+        TransactionTypeMatchesPredicate predicate = new TransactionTypeMatchesPredicate(new Type("income"));
+        assertTrue(predicate.test(new TransactionBuilder().withType("income").build()));
+        assertFalse(predicate.test(new TransactionBuilder().withType("expense").build()));
+    }
+
+    @Test
+    public void estimateMatches_indexesUsed_noEstimate() {
+        TransactionTypeMatchesPredicate predicate = new TransactionTypeMatchesPredicate(new Type("income"));
+        predicate.useIndexesOf(new ModelManager());
+        assertEquals(OptionalInt.empty(), predicate.estimateMatches());
+        assertEquals("type is income", predicate.describe());
+    }
+}
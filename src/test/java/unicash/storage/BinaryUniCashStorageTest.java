@@ -0,0 +1,181 @@
+package unicash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalBudgets.WEEKLY;
+import static unicash.testutil.TypicalTransactions.INTERN;
+import static unicash.testutil.TypicalTransactions.SHOPPING;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.commons.util.FileUtil;
+import unicash.model.UniCash;
+import unicash.model.transaction.DateTime;
+import unicash.model.transaction.Transaction;
+import unicash.model.util.SampleDataUtil;
+import unicash.testutil.TransactionBuilder;
+
+public class BinaryUniCashStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isBinaryFile() {
+        assertTrue(BinaryUniCashStorage.isBinaryFile(Paths.get("data", "unicash.bin")));
+        assertFalse(BinaryUniCashStorage.isBinaryFile(Paths.get("data", "unicash.json")));
+        assertFalse(BinaryUniCashStorage.isBinaryFile(Paths.get("data", "bin")));
+    }
+
+    @Test
+    public void readUniCash_missingFile_emptyResult() throws Exception {
+        BinaryUniCashStorage storage = new BinaryUniCashStorage(testFolder.resolve("NonExistentFile.bin"));
+        assertFalse(storage.readUniCash().isPresent());
+    }
+
+    @Test
+    public void readAndSaveUniCash_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.bin");
+        BinaryUniCashStorage storage = new BinaryUniCashStorage(filePath);
+        UniCash original = getTypicalUniCash();
+
+        storage.saveUniCash(original);
+        assertEquals(original, new UniCash(storage.readUniCash().get()));
+
+        // Modify data, overwrite existing file, and read back
+        original.addTransaction(SHOPPING);
+        original.removeTransaction(INTERN);
+        original.setBudget(WEEKLY);
+        storage.saveUniCash(original);
+        assertEquals(original, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_savedData_dateTimesCanBeExportedAsJson() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.bin");
+        Path exportPath = testFolder.resolve("Export.json");
+        BinaryUniCashStorage storage = new BinaryUniCashStorage(filePath);
+        UniCash original = new UniCash(SampleDataUtil.getSampleUniCash());
+        storage.saveUniCash(original);
+
+        storage.saveUniCash(storage.readUniCash().get(), exportPath);
+
+        assertEquals(original, new UniCash(new JsonUniCashStorage(exportPath).readUniCash().get()));
+    }
+
+    @Test
+    public void readAndSaveUniCash_jsonFile_importedAndExportedAsJson() throws Exception {
+        Path jsonPath = testFolder.resolve("Export.json");
+        BinaryUniCashStorage storage = new BinaryUniCashStorage(testFolder.resolve("TempUniCash.bin"));
+        UniCash original = getTypicalUniCash();
+
+        storage.saveUniCash(original, jsonPath);
+
+        assertEquals(original, new UniCash(new JsonUniCashStorage(jsonPath).readUniCash().get()));
+        assertEquals(original, new UniCash(storage.readUniCash(jsonPath).get()));
+    }
+
+    @Test
+    public void readAndSaveUniCash_dateTimeBeforeEpoch_success() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.bin");
+        BinaryUniCashStorage storage = new BinaryUniCashStorage(filePath);
+        UniCash original = new UniCash();
+        original.addTransaction(new TransactionBuilder().withDateTime("31-12-1969 23:59").build());
+
+        storage.saveUniCash(original);
+        assertEquals(original, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_doubleAmountVersion_success() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.bin");
+        Transaction transaction = new TransactionBuilder().withCategories("food").build();
+        UniCash expected = new UniCash();
+        expected.addTransaction(transaction);
+        expected.setBudget(WEEKLY);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CRC32 checksum = new CRC32();
+        DataOutputStream data = new DataOutputStream(new CheckedOutputStream(bytes, checksum));
+        data.writeInt(BinaryUniCashStorage.MAGIC);
+        data.writeShort(BinaryUniCashStorage.DOUBLE_AMOUNT_FORMAT_VERSION);
+        data.writeInt(1);
+        writeString(data, "food");
+        data.writeInt(1);
+        writeString(data, transaction.getName().fullName);
+        writeString(data, transaction.getLocation().location);
+        data.writeByte(transaction.getType().type.ordinal());
+        data.writeDouble(transaction.getAmount().getValue());
+        data.writeLong(DateTime.toEpochMinute(transaction.getDateTime().getDateTime()));
+        data.writeByte(1);
+        data.writeInt(0);
+        data.writeBoolean(true);
+        data.writeDouble(WEEKLY.getAmount().getValue());
+        writeString(data, "week");
+        data.writeInt((int) checksum.getValue());
+        Files.write(filePath, bytes.toByteArray());
+
+        assertEquals(expected, new UniCash(new BinaryUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    @Test
+    public void readUniCash_notBinaryData_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.bin");
+        FileUtil.writeToFile(filePath, "not binary data!");
+
+        assertThrows(DataLoadingException.class, () -> new BinaryUniCashStorage(filePath).readUniCash());
+    }
+
+    @Test
+    public void readUniCash_corruptedData_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.bin");
+        BinaryUniCashStorage storage = new BinaryUniCashStorage(filePath);
+        storage.saveUniCash(getTypicalUniCash());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 0x7f;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> storage.readUniCash());
+    }
+
+    @Test
+    public void readUniCash_truncatedData_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.bin");
+        BinaryUniCashStorage storage = new BinaryUniCashStorage(filePath);
+        storage.saveUniCash(getTypicalUniCash());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+
+        assertThrows(DataLoadingException.class, () -> storage.readUniCash());
+    }
+
+    @Test
+    public void saveUniCash_nullUniCash_throwsNullPointerException() {
+        BinaryUniCashStorage storage = new BinaryUniCashStorage(testFolder.resolve("TempUniCash.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveUniCash(null));
+    }
+}
@@ -0,0 +1,44 @@
+package unicash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static unicash.testutil.TypicalTransactions.INTERN;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.model.UniCash;
+
+public class IncrementalUniCashLoadTest {
+
+    @Test
+    public void ofLoaded_noHistory() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        IncrementalUniCashLoad load = IncrementalUniCashLoad.ofLoaded(uniCash);
+
+        assertEquals(uniCash, load.getNewestUniCash());
+        assertEquals(0, load.getHistorySize());
+        assertEquals(List.of(), load.loadHistory(loadedCount -> { }));
+    }
+
+    @Test
+    public void of_historyReader_historyReadOnlyWhenLoaded() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        List<Integer> readCount = new ArrayList<>();
+        IncrementalUniCashLoad load = IncrementalUniCashLoad.of(uniCash, 1, progressListener -> {
+            readCount.add(1);
+            progressListener.accept(1);
+            return List.of(INTERN);
+        });
+        assertEquals(uniCash, load.getNewestUniCash());
+        assertEquals(1, load.getHistorySize());
+        assertEquals(List.of(), readCount);
+
+        List<Integer> progress = new ArrayList<>();
+        assertEquals(List.of(INTERN), load.loadHistory(progress::add));
+        assertEquals(List.of(1), readCount);
+        assertEquals(List.of(1), progress);
+    }
+}
@@ -0,0 +1,345 @@
+package unicash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalBudgets.MONTHLY;
+import static unicash.testutil.TypicalBudgets.WEEKLY;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.INTERN;
+import static unicash.testutil.TypicalTransactions.SHOPPING;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.commons.util.FileUtil;
+import unicash.model.UniCash;
+
+public class JournaledUniCashStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledUniCashStorage(null));
+    }
+
+    @Test
+    public void readUniCash_missingFile_emptyResult() throws Exception {
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(testFolder.resolve("NonExistentFile.json"));
+        assertFalse(storage.readUniCash().isPresent());
+    }
+
+    @Test
+    public void saveUniCash_firstSave_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath);
+
+        storage.saveUniCash(getTypicalUniCash());
+
+        assertTrue(FileUtil.isFileExists(filePath));
+        assertFalse(FileUtil.isFileExists(JournaledUniCashStorage.getJournalPath(filePath)));
+    }
+
+    @Test
+    public void saveUniCash_trackedUniCashChanged_appendsToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath);
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        uniCash.addTransaction(SHOPPING);
+        storage.saveUniCash(uniCash);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        Path journalPath = JournaledUniCashStorage.getJournalPath(filePath);
+        // a header and one record
+        assertEquals(2, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    public void saveUniCash_unchangedUniCash_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath);
+        UniCash uniCash = getTypicalUniCash();
+
+        storage.saveUniCash(uniCash);
+        storage.saveUniCash(uniCash);
+
+        assertFalse(FileUtil.isFileExists(JournaledUniCashStorage.getJournalPath(filePath)));
+    }
+
+    @Test
+    public void readUniCash_journalReplayed_matchesSavedUniCash() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath);
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+
+        // add, edit, delete and budget changes across several saves
+        uniCash.addTransaction(SHOPPING);
+        storage.saveUniCash(uniCash);
+        uniCash.setTransaction(BUYING_GROCERIES, SHOPPING);
+        uniCash.setBudget(MONTHLY);
+        storage.saveUniCash(uniCash);
+        uniCash.removeTransaction(INTERN);
+        uniCash.setBudget(WEEKLY);
+        storage.saveUniCash(uniCash);
+
+        assertTrue(FileUtil.isFileExists(JournaledUniCashStorage.getJournalPath(filePath)));
+        assertEquals(uniCash, new UniCash(new JournaledUniCashStorage(filePath).readUniCash().get()));
+
+        uniCash.clearBudget();
+        storage.saveUniCash(uniCash);
+        assertEquals(uniCash, new UniCash(new JournaledUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_writeFailed_nextSaveCompactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        Path journalPath = JournaledUniCashStorage.getJournalPath(filePath);
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath);
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+
+        // a directory in place of the journal makes appending to it fail
+        uniCash.addTransaction(SHOPPING);
+        Files.createDirectory(journalPath);
+        assertThrows(IOException.class, () -> storage.saveUniCash(uniCash));
+        Files.delete(journalPath);
+
+        uniCash.removeTransaction(INTERN);
+        storage.saveUniCash(uniCash);
+        assertFalse(FileUtil.isFileExists(journalPath));
+        assertEquals(uniCash, new UniCash(new JournaledUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_thresholdReached_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        Path journalPath = JournaledUniCashStorage.getJournalPath(filePath);
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath, 2);
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+
+        uniCash.addTransaction(SHOPPING);
+        uniCash.removeTransaction(INTERN);
+        storage.saveUniCash(uniCash);
+        assertEquals(3, Files.readAllLines(journalPath).size());
+
+        uniCash.addTransaction(INTERN);
+        storage.saveUniCash(uniCash);
+        assertFalse(FileUtil.isFileExists(journalPath));
+        assertEquals(uniCash, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_dataReset_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        Path journalPath = JournaledUniCashStorage.getJournalPath(filePath);
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath, 4);
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+
+        uniCash.setTransactions(new UniCash().getTransactionList());
+        storage.saveUniCash(uniCash);
+
+        assertFalse(FileUtil.isFileExists(journalPath));
+        assertEquals(uniCash, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_differentUniCash_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath);
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        uniCash.addTransaction(SHOPPING);
+        storage.saveUniCash(uniCash);
+
+        UniCash otherUniCash = new UniCash();
+        storage.saveUniCash(otherUniCash);
+
+        assertFalse(FileUtil.isFileExists(JournaledUniCashStorage.getJournalPath(filePath)));
+        assertEquals(otherUniCash, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_otherFilePath_writesPlainSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        Path exportPath = testFolder.resolve("Export.json");
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath);
+        UniCash uniCash = getTypicalUniCash();
+
+        storage.saveUniCash(uniCash, exportPath);
+
+        assertFalse(FileUtil.isFileExists(filePath));
+        assertEquals(uniCash, new UniCash(new JsonUniCashStorage(exportPath).readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_invalidJournalIndex_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath);
+        storage.saveUniCash(new UniCash());
+
+        writeJournal(filePath, "{\"op\":\"remove\",\"index\":3}");
+
+        assertThrows(DataLoadingException.class, () -> storage.readUniCash());
+    }
+
+    @Test
+    public void readUniCash_unknownJournalOperation_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath);
+        storage.saveUniCash(new UniCash());
+
+        writeJournal(filePath, "{\"op\":\"rename\"}");
+
+        assertThrows(DataLoadingException.class, () -> storage.readUniCash());
+    }
+
+    @Test
+    public void readUniCashIncrementally_journalReplayed_matchesSavedUniCash() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath);
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        uniCash.addTransaction(SHOPPING);
+        uniCash.removeTransaction(INTERN);
+        uniCash.setBudget(MONTHLY);
+        storage.saveUniCash(uniCash);
+
+        IncrementalUniCashLoad load = new JournaledUniCashStorage(filePath).readUniCashIncrementally(2).get();
+
+        UniCash loadedUniCash = new UniCash(load.getNewestUniCash());
+        loadedUniCash.prependTransactions(load.loadHistory(loadedCount -> { }));
+        assertEquals(uniCash, loadedUniCash);
+        assertEquals(uniCash.getTransactionList().size() - 2, load.getHistorySize());
+    }
+
+    @Test
+    public void readUniCash_tornJournalTail_tornRecordDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        Path journalPath = JournaledUniCashStorage.getJournalPath(filePath);
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath);
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        uniCash.addTransaction(SHOPPING);
+        storage.saveUniCash(uniCash);
+        UniCash expectedUniCash = new UniCash(uniCash);
+
+        // a crash part way through appending the next record
+        uniCash.setBudget(MONTHLY);
+        storage.saveUniCash(uniCash);
+        byte[] journal = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(journal, journal.length - 10));
+
+        assertEquals(expectedUniCash, new UniCash(new JournaledUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_corruptedJournalRecord_laterRecordsDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath);
+        UniCash uniCash = new UniCash();
+        storage.saveUniCash(uniCash);
+
+        writeJournal(filePath, "{\"op\":\"budget\",\"budget\":{\"amount\":234.5,\"interval\":\"week\"}}",
+                "{\"op\":\"clearBudget\"}");
+        List<String> lines = Files.readAllLines(JournaledUniCashStorage.getJournalPath(filePath));
+        lines.set(2, lines.get(2).replace("clearBudget", "clearBudgeT"));
+        Files.write(JournaledUniCashStorage.getJournalPath(filePath), lines);
+
+        assertEquals(WEEKLY, storage.readUniCash().get().getBudget());
+    }
+
+    @Test
+    public void readUniCash_staleJournal_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        Path journalPath = JournaledUniCashStorage.getJournalPath(filePath);
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath, 1);
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        uniCash.addTransaction(SHOPPING);
+        storage.saveUniCash(uniCash);
+        byte[] staleJournal = Files.readAllBytes(journalPath);
+
+        // a crash after compacting into a new snapshot, but before the old journal was deleted
+        uniCash.removeTransaction(INTERN);
+        storage.saveUniCash(uniCash);
+        Files.write(journalPath, staleJournal);
+
+        assertEquals(uniCash, new UniCash(new JournaledUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_snapshotMissing_recoveredFromBackupAndJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath, 1);
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        uniCash.addTransaction(SHOPPING);
+        storage.saveUniCash(uniCash);
+        UniCash expectedUniCash = new UniCash(uniCash);
+
+        // a crash after the snapshot was moved to the backup, but before the new snapshot was written
+        Files.move(filePath, JournaledUniCashStorage.getBackupPath(filePath));
+
+        assertEquals(expectedUniCash, new UniCash(new JournaledUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_snapshotCorrupted_recoveredFromBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(filePath, 1);
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        UniCash backupUniCash = new UniCash(uniCash);
+
+        uniCash.addTransaction(SHOPPING);
+        uniCash.removeTransaction(INTERN);
+        storage.saveUniCash(uniCash);
+        assertTrue(FileUtil.isFileExists(JournaledUniCashStorage.getBackupPath(filePath)));
+        FileUtil.writeToFile(filePath, "{\"transactions\": [");
+
+        assertEquals(backupUniCash, new UniCash(new JournaledUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_snapshotCorruptedWithoutBackup_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        FileUtil.writeToFile(filePath, "{\"transactions\": [");
+
+        assertThrows(DataLoadingException.class, () -> new JournaledUniCashStorage(filePath).readUniCash());
+    }
+
+    /**
+     * Writes a journal for the snapshot at {@code filePath} with a record for each json entry.
+     */
+    private static void writeJournal(Path filePath, String... entries) throws Exception {
+        StringBuilder journal = new StringBuilder(
+                JournaledUniCashStorage.formatHeader(JournaledUniCashStorage.getChecksum(filePath)) + "\n");
+        for (String entry : entries) {
+            journal.append(JournaledUniCashStorage.formatRecord(entry)).append("\n");
+        }
+        FileUtil.writeToFile(JournaledUniCashStorage.getJournalPath(filePath), journal.toString());
+    }
+
+    @Test
+    public void saveUniCash_nullUniCash_throwsNullPointerException() {
+        JournaledUniCashStorage storage = new JournaledUniCashStorage(testFolder.resolve("TempUniCash.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveUniCash(null));
+    }
+}
@@ -30,7 +30,7 @@ public class JsonAdaptedTransactionTest {
     private static final String INVALID_TYPE = "others";
 
     private static final String VALID_NAME = SHOPPING.getName().toString();
-    private static final double VALID_AMOUNT = SHOPPING.getAmount().amount;
+    private static final double VALID_AMOUNT = SHOPPING.getAmount().getValue();
     private static final String VALID_DATETIME = SHOPPING.getDateTime().inputString();
     private static final String VALID_LOCATION = SHOPPING.getLocation().location;
     private static final String VALID_TYPE = SHOPPING.getType().toString();
@@ -4,17 +4,26 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static unicash.testutil.Assert.assertThrows;
 import static unicash.testutil.TypicalBudgets.MONTHLY;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import unicash.commons.exceptions.DataLoadingException;
 import unicash.commons.exceptions.IllegalValueException;
+import unicash.commons.util.FileUtil;
 import unicash.commons.util.JsonUtil;
 import unicash.model.ReadOnlyUniCash;
 import unicash.model.UniCash;
+import unicash.model.transaction.TransactionList;
 import unicash.model.util.SampleDataUtil;
 
 public class JsonSerializableUniCashTest {
@@ -27,6 +36,9 @@ public class JsonSerializableUniCashTest {
             "transactionsWithBudgetUniCash.json"
     );
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void constructor_validBudget_setsBudget() throws DataLoadingException, IllegalValueException {
         var dataFromFile = JsonUtil.readJsonFile(
@@ -60,4 +72,71 @@ public class JsonSerializableUniCashTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void readModelType_typicalTransactionsFile_success() throws Exception {
+        assertEquals(SampleDataUtil.getSampleUniCash(), readModelType(TYPICAL_TRANSACTIONS_FILE));
+    }
+
+    @Test
+    public void readModelType_transactionsWithBudgetFile_matchesToModelType() throws Exception {
+        UniCash expected = JsonUtil.readJsonFile(TRANSACTIONS_WITH_BUDGET_FILE, JsonSerializableUniCash.class)
+                .get().toModelType();
+        assertEquals(expected, readModelType(TRANSACTIONS_WITH_BUDGET_FILE));
+    }
+
+    @Test
+    public void readModelType_invalidTransactionFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readModelType(INVALID_TRANSACTION_FILE));
+    }
+
+    @Test
+    public void readModelType_unknownFieldsAndNullValues_ignored() throws Exception {
+        Path filePath = testFolder.resolve("unknownFields.json");
+        FileUtil.writeToFile(filePath, "{ \"version\" : { \"major\" : 1 }, \"transactions\" : null, "
+                + "\"budget\" : null }");
+        assertEquals(new UniCash(), readModelType(filePath));
+    }
+
+    @Test
+    public void readModelType_transactionNotObject_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("transactionNotObject.json");
+        FileUtil.writeToFile(filePath, "{ \"transactions\" : [ \"Lunch\" ] }");
+        assertThrows(IllegalValueException.class, () -> readModelType(filePath));
+    }
+
+    @Test
+    public void readModelType_notJsonObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("notObject.json");
+        FileUtil.writeToFile(filePath, "[ ]");
+        assertThrows(IOException.class, () -> readModelType(filePath));
+    }
+
+    @Test
+    public void writeModelType_prettyPrinted_sameAsSerializedUniCash() throws Exception {
+        UniCash uniCash = new UniCash(SampleDataUtil.getSampleUniCash());
+        uniCash.setBudget(MONTHLY);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableUniCash(uniCash)), writeModelType(uniCash, true));
+    }
+
+    @Test
+    public void writeModelType_compact_sameAsSerializedUniCash() throws Exception {
+        ReadOnlyUniCash uniCash = SampleDataUtil.getSampleUniCash();
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableUniCash(uniCash)),
+                writeModelType(uniCash, false));
+    }
+
+    private String writeModelType(ReadOnlyUniCash uniCash, boolean isPrettyPrinted) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+            JsonSerializableUniCash.writeModelType(uniCash, generator);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private UniCash readModelType(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return JsonSerializableUniCash.readModelType(parser, TransactionList.MAX_TRANSACTIONS);
+        }
+    }
+
 }
@@ -2,14 +2,17 @@ package unicash.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static unicash.testutil.Assert.assertThrows;
 import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
 import static unicash.testutil.TypicalTransactions.INTERN;
 import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.io.TempDir;
 import unicash.commons.exceptions.DataLoadingException;
 import unicash.model.ReadOnlyUniCash;
 import unicash.model.UniCash;
+import unicash.model.transaction.Transaction;
 
 public class JsonUniCashStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonUniCashStorageTest");
@@ -84,6 +88,61 @@ public class JsonUniCashStorageTest {
 
     }
 
+    @Test
+    public void readUniCashIncrementally_savedUniCash_newestConvertedFirst() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        UniCash original = getTypicalUniCash();
+        JsonUniCashStorage jsonUniCashStorage = new JsonUniCashStorage(filePath);
+        jsonUniCashStorage.saveUniCash(original);
+
+        IncrementalUniCashLoad load = jsonUniCashStorage.readUniCashIncrementally(1).get();
+
+        List<Transaction> transactions = original.getTransactionList();
+        int historySize = transactions.size() - 1;
+        assertEquals(historySize, load.getHistorySize());
+        assertEquals(transactions.subList(historySize, transactions.size()),
+                load.getNewestUniCash().getTransactionList());
+        assertEquals(transactions.subList(0, historySize), load.loadHistory(loadedCount -> { }));
+    }
+
+    @Test
+    public void readUniCashIncrementally_invalidNewestTransaction_throwDataLoadingException() {
+        JsonUniCashStorage jsonUniCashStorage =
+                new JsonUniCashStorage(TEST_DATA_FOLDER.resolve("invalidAndValidTransactionUniCash.json"));
+        assertThrows(DataLoadingException.class, () -> jsonUniCashStorage.readUniCashIncrementally(1));
+    }
+
+    @Test
+    public void readUniCashIncrementally_missingFile_emptyResult() throws Exception {
+        JsonUniCashStorage jsonUniCashStorage = new JsonUniCashStorage(testFolder.resolve("NonExistentFile.json"));
+        assertFalse(jsonUniCashStorage.readUniCashIncrementally(1).isPresent());
+    }
+
+    @Test
+    public void saveUniCash_largeUniCash_writtenCompactly() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        UniCash uniCash = new UniCash();
+        for (int i = 0; i <= JsonUniCashStorage.PRETTY_PRINT_LIMIT; i++) {
+            uniCash.addTransaction(INTERN);
+        }
+        JsonUniCashStorage jsonUniCashStorage = new JsonUniCashStorage(filePath);
+
+        jsonUniCashStorage.saveUniCash(uniCash);
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(uniCash, new UniCash(jsonUniCashStorage.readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_smallUniCash_prettyPrinted() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        JsonUniCashStorage jsonUniCashStorage = new JsonUniCashStorage(filePath);
+
+        jsonUniCashStorage.saveUniCash(getTypicalUniCash());
+
+        assertTrue(Files.readAllLines(filePath).size() > 1);
+    }
+
     @Test
     public void saveUniCash_nullUniCash_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveUniCash(null, "SomeFile.json"));
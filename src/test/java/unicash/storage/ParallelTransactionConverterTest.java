@@ -0,0 +1,108 @@
+package unicash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static unicash.storage.ParallelTransactionConverter.CHUNK_SIZE;
+import static unicash.storage.ParallelTransactionConverter.MESSAGE_INVALID_TRANSACTION_AT;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalTransactions.getTypicalTransactions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.model.transaction.Transaction;
+
+public class ParallelTransactionConverterTest {
+
+    private static final JsonAdaptedTransaction INVALID_TRANSACTION =
+            new JsonAdaptedTransaction(null, 1.0, "15-09-2023 00:00", "-", "expense", List.of());
+
+    /**
+     * Returns {@code size} transactions, cycling through the typical transactions.
+     */
+    private static List<Transaction> getTransactions(int size) {
+        List<Transaction> typicalTransactions = getTypicalTransactions();
+        List<Transaction> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            transactions.add(typicalTransactions.get(i % typicalTransactions.size()));
+        }
+        return transactions;
+    }
+
+    private static List<JsonAdaptedTransaction> adapt(List<Transaction> transactions) {
+        List<JsonAdaptedTransaction> adaptedTransactions = new ArrayList<>(transactions.size());
+        transactions.forEach(transaction -> adaptedTransactions.add(new JsonAdaptedTransaction(transaction)));
+        return adaptedTransactions;
+    }
+
+    private static String getInvalidTransactionMessage(int index) throws Exception {
+        try {
+            INVALID_TRANSACTION.toModelType();
+        } catch (IllegalValueException ive) {
+            return String.format(MESSAGE_INVALID_TRANSACTION_AT, index, ive.getMessage());
+        }
+        throw new AssertionError("Transaction should be invalid");
+    }
+
+    @Test
+    public void convert_emptyList_emptyResult() throws Exception {
+        assertEquals(List.of(), ParallelTransactionConverter.convert(List.of(), convertedCount -> { }));
+    }
+
+    @Test
+    public void convert_severalChunks_orderPreserved() throws Exception {
+        List<Transaction> transactions = getTransactions(CHUNK_SIZE * 3 + 7);
+        assertEquals(transactions, ParallelTransactionConverter.convert(adapt(transactions), convertedCount -> { }));
+    }
+
+    @Test
+    public void finish_parallelPool_orderPreserved() throws Exception {
+        List<Transaction> transactions = getTransactions(CHUNK_SIZE * 5 + 1);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelTransactionConverter converter = new ParallelTransactionConverter(pool, 0);
+            adapt(transactions).forEach(converter::add);
+            assertEquals(transactions, converter.finish(convertedCount -> { }));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void convert_severalChunks_progressReportedPerFullChunk() throws Exception {
+        List<Integer> progress = new ArrayList<>();
+        ParallelTransactionConverter.convert(adapt(getTransactions(CHUNK_SIZE * 2 + 1)), progress::add);
+        assertEquals(List.of(CHUNK_SIZE, CHUNK_SIZE * 2), progress);
+    }
+
+    @Test
+    public void convert_invalidTransactions_earliestReportedWithIndex() throws Exception {
+        int firstInvalidIndex = CHUNK_SIZE + 5;
+        List<JsonAdaptedTransaction> adaptedTransactions = adapt(getTransactions(CHUNK_SIZE * 3 + 2));
+        adaptedTransactions.set(firstInvalidIndex, INVALID_TRANSACTION);
+        adaptedTransactions.set(firstInvalidIndex + 1, INVALID_TRANSACTION);
+        adaptedTransactions.set(CHUNK_SIZE * 2, INVALID_TRANSACTION);
+        adaptedTransactions.set(CHUNK_SIZE * 3 + 1, INVALID_TRANSACTION);
+
+        assertThrows(IllegalValueException.class, getInvalidTransactionMessage(firstInvalidIndex), () ->
+                ParallelTransactionConverter.convert(adaptedTransactions, convertedCount -> { }));
+    }
+
+    @Test
+    public void convert_invalidTransactionInLastChunk_reportedWithIndex() throws Exception {
+        int invalidIndex = CHUNK_SIZE + 1;
+        List<JsonAdaptedTransaction> adaptedTransactions = adapt(getTransactions(CHUNK_SIZE + 2));
+        adaptedTransactions.set(invalidIndex, INVALID_TRANSACTION);
+
+        assertThrows(IllegalValueException.class, getInvalidTransactionMessage(invalidIndex), () ->
+                ParallelTransactionConverter.convert(adaptedTransactions, convertedCount -> { }));
+    }
+
+    @Test
+    public void add_nullTransaction_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ParallelTransactionConverter().add(null));
+    }
+}
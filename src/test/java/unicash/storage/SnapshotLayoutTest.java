@@ -0,0 +1,180 @@
+package unicash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static unicash.model.transaction.TransactionList.MAX_TRANSACTIONS;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalBudgets.MONTHLY;
+import static unicash.testutil.TypicalBudgets.WEEKLY;
+import static unicash.testutil.TypicalTransactions.INTERN;
+import static unicash.testutil.TypicalTransactions.SHOPPING;
+import static unicash.testutil.TypicalTransactions.getTypicalTransactions;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.commons.util.FileUtil;
+import unicash.commons.util.JsonUtil;
+import unicash.model.transaction.Transaction;
+
+public class SnapshotLayoutTest {
+
+    private static final JsonAdaptedTransaction INVALID_TRANSACTION =
+            new JsonAdaptedTransaction(null, 1.0, "15-09-2023 00:00", "-", "expense", List.of());
+
+    @TempDir
+    public Path testFolder;
+
+    private static List<JsonAdaptedTransaction> adapt(List<Transaction> transactions) {
+        return transactions.stream().map(JsonAdaptedTransaction::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Writes a snapshot of {@code transactions} and {@code budget}, and returns its layout.
+     */
+    private SnapshotLayout writeSnapshot(List<JsonAdaptedTransaction> transactions, JsonAdaptedBudget budget)
+            throws Exception {
+        Path snapshotPath = testFolder.resolve("snapshot.json");
+        FileUtil.writeToFile(snapshotPath, JsonUtil.toJsonString(new JsonSerializableUniCash(transactions, budget)));
+        return SnapshotLayout.read(snapshotPath, MAX_TRANSACTIONS);
+    }
+
+    @Test
+    public void read_snapshot_transactionsCountedAndBudgetRead() throws Exception {
+        SnapshotLayout layout = writeSnapshot(adapt(getTypicalTransactions()), new JsonAdaptedBudget(WEEKLY));
+
+        assertEquals(getTypicalTransactions().size(), layout.size());
+        assertEquals(WEEKLY, layout.getBudget());
+    }
+
+    @Test
+    public void read_moreThanMaxTransactions_throwsIllegalValueException() throws Exception {
+        Path snapshotPath = testFolder.resolve("snapshot.json");
+        new JsonUniCashStorage(snapshotPath).saveUniCash(getTypicalUniCash());
+
+        assertThrows(IllegalValueException.class, () -> SnapshotLayout.read(snapshotPath, 2));
+    }
+
+    @Test
+    public void toIncrementalLoad_newestCountSmallerThanSize_newestConvertedFirst() throws Exception {
+        List<Transaction> transactions = getTypicalTransactions();
+        SnapshotLayout layout = writeSnapshot(adapt(transactions), new JsonAdaptedBudget(WEEKLY));
+        IncrementalUniCashLoad load = layout.toIncrementalLoad(2, MAX_TRANSACTIONS);
+
+        int historySize = transactions.size() - 2;
+        assertEquals(historySize, load.getHistorySize());
+        assertEquals(transactions.subList(historySize, transactions.size()),
+                load.getNewestUniCash().getTransactionList());
+        assertEquals(WEEKLY, load.getNewestUniCash().getBudget());
+        assertEquals(transactions.subList(0, historySize), load.loadHistory(loadedCount -> { }));
+    }
+
+    @Test
+    public void toIncrementalLoad_newestCountLargerThanSize_noHistory() throws Exception {
+        List<Transaction> transactions = getTypicalTransactions();
+        SnapshotLayout layout = writeSnapshot(adapt(transactions), null);
+        IncrementalUniCashLoad load = layout.toIncrementalLoad(Integer.MAX_VALUE, MAX_TRANSACTIONS);
+
+        assertEquals(0, load.getHistorySize());
+        assertEquals(transactions, load.getNewestUniCash().getTransactionList());
+    }
+
+    @Test
+    public void toIncrementalLoad_journalChanges_transactionsInOrder() throws Exception {
+        List<Transaction> transactions = new ArrayList<>(getTypicalTransactions());
+        SnapshotLayout layout = writeSnapshot(adapt(transactions), null);
+        layout.add(1, new JsonAdaptedTransaction(SHOPPING));
+        transactions.add(1, SHOPPING);
+        layout.remove(3);
+        transactions.remove(3);
+        layout.add(transactions.size(), new JsonAdaptedTransaction(INTERN));
+        transactions.add(INTERN);
+        layout.remove(0);
+        transactions.remove(0);
+        layout.setBudget(MONTHLY);
+
+        IncrementalUniCashLoad load = layout.toIncrementalLoad(3, MAX_TRANSACTIONS);
+
+        int historySize = transactions.size() - 3;
+        assertEquals(transactions.subList(historySize, transactions.size()),
+                load.getNewestUniCash().getTransactionList());
+        assertEquals(MONTHLY, load.getNewestUniCash().getBudget());
+        assertEquals(transactions.subList(0, historySize), load.loadHistory(loadedCount -> { }));
+    }
+
+    @Test
+    public void toIncrementalLoad_moreThanMaxTransactions_throwsIllegalValueException() throws Exception {
+        SnapshotLayout layout = writeSnapshot(adapt(getTypicalTransactions()), null);
+        layout.add(0, new JsonAdaptedTransaction(SHOPPING));
+
+        assertThrows(IllegalValueException.class, () ->
+                layout.toIncrementalLoad(1, getTypicalTransactions().size()));
+    }
+
+    @Test
+    public void toIncrementalLoad_invalidNewestTransaction_reportedWithIndexInData() throws Exception {
+        List<JsonAdaptedTransaction> transactions = adapt(getTypicalTransactions());
+        int invalidIndex = transactions.size();
+        transactions.add(INVALID_TRANSACTION);
+        SnapshotLayout layout = writeSnapshot(transactions, null);
+
+        String expectedMessage;
+        try {
+            INVALID_TRANSACTION.toModelType();
+            throw new AssertionError("The transaction should be invalid.");
+        } catch (IllegalValueException ive) {
+            expectedMessage = String.format(ParallelTransactionConverter.MESSAGE_INVALID_TRANSACTION_AT,
+                    invalidIndex, ive.getMessage());
+        }
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                layout.toIncrementalLoad(2, MAX_TRANSACTIONS));
+    }
+
+    @Test
+    public void loadHistory_largeHistory_progressReported() throws Exception {
+        int historySize = IncrementalUniCashLoad.PROGRESS_INTERVAL * 2 + 1;
+        SnapshotLayout layout = writeSnapshot(adapt(Collections.nCopies(historySize + 1, INTERN)), null);
+        IncrementalUniCashLoad load = layout.toIncrementalLoad(1, MAX_TRANSACTIONS);
+
+        List<Integer> progress = new ArrayList<>();
+        assertEquals(historySize, load.loadHistory(progress::add).size());
+        assertEquals(List.of(IncrementalUniCashLoad.PROGRESS_INTERVAL, IncrementalUniCashLoad.PROGRESS_INTERVAL * 2),
+                progress);
+    }
+
+    @Test
+    public void loadHistory_invalidTransaction_throwsDataLoadingException() throws Exception {
+        List<JsonAdaptedTransaction> transactions = adapt(getTypicalTransactions());
+        transactions.add(0, INVALID_TRANSACTION);
+        IncrementalUniCashLoad load = writeSnapshot(transactions, null).toIncrementalLoad(1, MAX_TRANSACTIONS);
+
+        assertThrows(DataLoadingException.class, () -> load.loadHistory(loadedCount -> { }));
+    }
+
+    @Test
+    public void loadHistory_snapshotChanged_throwsDataLoadingException() throws Exception {
+        IncrementalUniCashLoad load = writeSnapshot(adapt(getTypicalTransactions()), null)
+                .toIncrementalLoad(1, MAX_TRANSACTIONS);
+        writeSnapshot(adapt(getTypicalTransactions().subList(0, 2)), null);
+
+        assertThrows(DataLoadingException.class, () -> load.loadHistory(loadedCount -> { }));
+    }
+
+    @Test
+    public void readTransactions_onlyJournalTransactionsInRange_snapshotNotRead() throws Exception {
+        SnapshotLayout layout = writeSnapshot(adapt(getTypicalTransactions()), null);
+        layout.add(0, new JsonAdaptedTransaction(SHOPPING));
+        FileUtil.writeToFile(testFolder.resolve("snapshot.json"), "not json");
+
+        assertEquals(List.of(SHOPPING), layout.readTransactions(0, 1, convertedCount -> { }));
+        assertEquals(List.of(), layout.readTransactions(1, 1, convertedCount -> { }));
+    }
+}
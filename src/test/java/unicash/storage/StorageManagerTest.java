@@ -1,9 +1,15 @@
 package unicash.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalTransactions.SHOPPING;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import unicash.commons.core.GuiSettings;
+import unicash.model.ReadOnlyUniCash;
 import unicash.model.UniCash;
 import unicash.model.UserPrefs;
 import unicash.testutil.TypicalTransactions;
@@ -60,6 +67,89 @@ public class StorageManagerTest {
         Assertions.assertEquals(original, new UniCash(retrieved));
     }
 
+    @Test
+    public void uniCashReadSave_writeBehind_readsLatestData() throws Exception {
+        var uniCashStorage = new JournaledUniCashStorage(getTempFilePath("ab"));
+        var userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        storageManager = new StorageManager(uniCashStorage, userPrefsStorage, true);
+
+        UniCash original = TypicalTransactions.getTypicalUniCash();
+        storageManager.saveUniCash(original);
+        original.addTransaction(SHOPPING);
+        storageManager.saveUniCash(original);
+
+        // later changes are not part of the saves handed to the writer
+        UniCash expected = new UniCash(original);
+        original.removeTransaction(SHOPPING);
+
+        assertEquals(expected, new UniCash(storageManager.readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_writeBehindDataResetBeforeWrite_earlierSaveWritten() throws Exception {
+        CountDownLatch writeAllowed = new CountDownLatch(1);
+        var uniCashStorage = new JournaledUniCashStorage(getTempFilePath("ab"), 2) {
+            @Override
+            public void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+                try {
+                    writeAllowed.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                super.saveUniCash(uniCash, filePath);
+            }
+        };
+        var userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        storageManager = new StorageManager(uniCashStorage, userPrefsStorage, true);
+
+        UniCash uniCash = TypicalTransactions.getTypicalUniCash();
+        storageManager.saveUniCash(uniCash);
+        uniCash.addTransaction(SHOPPING);
+        storageManager.saveUniCash(uniCash);
+        UniCash expected = new UniCash(uniCash);
+
+        // a change too large to journal, made while the writer is still to write the earlier saves
+        uniCash.setTransactions(new UniCash().getTransactionList());
+        writeAllowed.countDown();
+
+        storageManager.flushUniCash();
+        assertEquals(expected, new UniCash(storageManager.readUniCash().get()));
+
+        storageManager.saveUniCash(uniCash);
+        storageManager.flushUniCash();
+        assertEquals(uniCash, new UniCash(storageManager.readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_writeBehindFails_failureReportedLater() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        var uniCashStorage = new JsonUniCashStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        var userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        storageManager = new StorageManager(uniCashStorage, userPrefsStorage, true);
+
+        // the failing write happens in the background, so the first save returns normally
+        storageManager.saveUniCash(new UniCash());
+        assertThrows(IOException.class, failure.getMessage(), () -> storageManager.flushUniCash());
+        assertFalse(storageManager.hasUniCashSaveFailed());
+
+        storageManager.saveUniCash(new UniCash());
+        storageManager.readUniCash();
+        assertTrue(storageManager.hasUniCashSaveFailed());
+        assertThrows(IOException.class, failure.getMessage(), () -> storageManager.saveUniCash(new UniCash()));
+    }
+
+    @Test
+    public void flushUniCash_synchronousStorage_success() throws Exception {
+        storageManager.saveUniCash(new UniCash());
+        storageManager.flushUniCash();
+        assertFalse(storageManager.hasUniCashSaveFailed());
+    }
+
     @Test
     public void getUniCashFilePath() {
         assertNotNull(storageManager.getUniCashFilePath());
@@ -0,0 +1,66 @@
+package unicash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static unicash.testutil.TypicalBudgets.MONTHLY;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.INTERN;
+import static unicash.testutil.TypicalTransactions.SHOPPING;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.model.UniCash;
+
+public class UniCashReplicaTest {
+
+    @Test
+    public void catchUpTo_trackedUniCash_matchesTrackedUniCash() {
+        UniCash uniCash = getTypicalUniCash();
+        uniCash.setBudget(MONTHLY);
+        UniCashReplica replica = new UniCashReplica();
+
+        replica.track(uniCash);
+        replica.catchUpTo(replica.mark());
+
+        assertEquals(uniCash, new UniCash(replica));
+    }
+
+    @Test
+    public void catchUpTo_changesAfterMark_changesNotApplied() {
+        UniCash uniCash = getTypicalUniCash();
+        UniCashReplica replica = new UniCashReplica();
+        replica.track(uniCash);
+
+        uniCash.addTransaction(SHOPPING);
+        uniCash.setTransaction(BUYING_GROCERIES, INTERN);
+        long firstMark = replica.mark();
+        UniCash firstExpected = new UniCash(uniCash);
+
+        uniCash.removeTransaction(SHOPPING);
+        uniCash.setBudget(MONTHLY);
+        long secondMark = replica.mark();
+        UniCash secondExpected = new UniCash(uniCash);
+        uniCash.setTransactions(new UniCash().getTransactionList());
+
+        replica.catchUpTo(firstMark);
+        assertEquals(firstExpected, new UniCash(replica));
+        replica.catchUpTo(secondMark);
+        assertEquals(secondExpected, new UniCash(replica));
+    }
+
+    @Test
+    public void track_otherUniCash_copyReset() {
+        UniCashReplica replica = new UniCashReplica();
+        UniCash uniCash = getTypicalUniCash();
+        replica.track(uniCash);
+        replica.catchUpTo(replica.mark());
+
+        UniCash otherUniCash = new UniCash();
+        otherUniCash.addTransaction(SHOPPING);
+        replica.track(otherUniCash);
+        uniCash.removeTransaction(INTERN);
+        replica.catchUpTo(replica.mark());
+
+        assertEquals(otherUniCash, new UniCash(replica));
+    }
+}
@@ -0,0 +1,123 @@
+package unicash.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static unicash.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class ReversedListTest {
+
+    private ObservableList<String> source;
+    private ReversedList<String> reversedList;
+
+    /** A copy of the view kept up to date from the changes it reports, which must match the view. */
+    private List<String> replayedList;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+        reversedList = new ReversedList<>(source);
+        replayedList = new ArrayList<>(reversedList);
+        reversedList.addListener(this::replay);
+    }
+
+    private void replay(ListChangeListener.Change<? extends String> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<String> permuted = new ArrayList<>(replayedList);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), replayedList.get(i));
+                }
+                replayedList = permuted;
+            } else if (!change.wasUpdated()) {
+                assertEquals(change.getRemoved(), replayedList.subList(change.getFrom(),
+                        change.getFrom() + change.getRemovedSize()));
+                replayedList.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                replayedList.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+
+    private void assertReversed() {
+        List<String> expected = new ArrayList<>(source);
+        Collections.reverse(expected);
+        assertEquals(expected, reversedList);
+        assertEquals(expected, replayedList);
+    }
+
+    @Test
+    public void get_validIndex_readsSourceFromEnd() {
+        assertEquals("e", reversedList.get(0));
+        assertEquals("a", reversedList.get(4));
+        assertEquals(0, reversedList.getSourceIndex(4));
+        assertEquals(4, reversedList.getViewIndex(0));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> reversedList.get(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> reversedList.get(-1));
+    }
+
+    @Test
+    public void sourceChanged_add_reversedChange() {
+        source.add("f");
+        assertReversed();
+        source.add(0, "z");
+        assertReversed();
+        source.addAll(2, List.of("x", "y"));
+        assertReversed();
+    }
+
+    @Test
+    public void sourceChanged_remove_reversedChange() {
+        source.remove("e");
+        assertReversed();
+        source.remove(0);
+        assertReversed();
+        source.removeAll("b", "d");
+        assertReversed();
+        source.clear();
+        assertReversed();
+    }
+
+    @Test
+    public void sourceChanged_set_reversedChange() {
+        source.set(1, "x");
+        assertReversed();
+        source.setAll("p", "q");
+        assertReversed();
+    }
+
+    @Test
+    public void sourceChanged_sort_reversedChange() {
+        source.setAll("d", "a", "e", "c", "b");
+        source.sort(Comparator.naturalOrder());
+        assertReversed();
+    }
+
+    @Test
+    public void sourceChanged_filteredSource_reversedChange() {
+        FilteredList<String> filteredList = new FilteredList<>(source);
+        source = filteredList;
+        reversedList = new ReversedList<>(filteredList);
+        replayedList = new ArrayList<>(reversedList);
+        reversedList.addListener(this::replay);
+
+        filteredList.setPredicate(value -> !value.equals("b") && !value.equals("d"));
+        assertReversed();
+        filteredList.setPredicate(null);
+        assertReversed();
+    }
+}
@@ -1,6 +1,7 @@
 package unicash.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static unicash.ui.StyleSheet.BLUE_OFFSET;
 import static unicash.ui.StyleSheet.BRIGHTNESS_OFFSET;
@@ -12,6 +13,7 @@ import static unicash.ui.StyleSheet.GREEN_OFFSET;
 import static unicash.ui.StyleSheet.IS_YELLOW_SKEW;
 import static unicash.ui.StyleSheet.MAX_COLOUR_VALUE;
 import static unicash.ui.StyleSheet.RED_OFFSET;
+import static unicash.ui.StyleSheet.TEXT_BACKGROUND_COLOR_SPECIFIER;
 import static unicash.ui.StyleSheet.USE_DEFAULT_STYLE;
 import static unicash.ui.StyleSheet.absoluteColorAddition;
 import static unicash.ui.StyleSheet.adjustBrightness;
@@ -148,4 +150,27 @@ public class StyleSheetTest {
             assertEquals("#123456", getColorOutput("123456"));
         }
     }
+
+    @Test
+    public void getBrightColorFromHash_sameCategory_sameColorInstance() {
+        String color = StyleSheet.getBrightColorFromHash(new Category("memoized"));
+        assertSame(color, StyleSheet.getBrightColorFromHash(new Category("memoized")));
+    }
+
+    @Test
+    public void getBrightColorFromHash_moreCategoriesThanCached_sameColor() {
+        String color = StyleSheet.getBrightColorFromHash(new Category("evicted"));
+        for (int i = 0; i <= StyleSheet.MAX_CACHED_CATEGORIES; i++) {
+            StyleSheet.getBrightColorFromHash(new Category("category" + i));
+        }
+        assertEquals(color, StyleSheet.getBrightColorFromHash(new Category("evicted")));
+    }
+
+    @Test
+    public void getBrightBackgroundStyle_category_backgroundOfBrightColor() {
+        String style = StyleSheet.getBrightBackgroundStyle(TEST_CATEGORY);
+        assertEquals(String.format(TEXT_BACKGROUND_COLOR_SPECIFIER,
+                StyleSheet.getBrightColorFromHash(TEST_CATEGORY)), style);
+        assertSame(style, StyleSheet.getBrightBackgroundStyle(TEST_CATEGORY));
+    }
 }